@@ -0,0 +1,81 @@
+package com.example.dance_community.cache;
+
+import com.example.dance_community.config.ClubMembershipCacheProperties;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.repository.ClubJoinRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 사용자별 활동 중(ACTIVE) 동아리 id 캐시
+// 피드마다 반복되는 가입 목록 조회를 줄이기 위해 정렬된 long[] 로 보관
+// 지표: cache.gets{cache=club_membership, result=hit|miss}
+@Component
+public class ClubMembershipCache {
+    private final ClubJoinRepository clubJoinRepository;
+    private final TtlCache<Long, long[]> cache;
+
+    public ClubMembershipCache(ClubJoinRepository clubJoinRepository, ClubMembershipCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.clubJoinRepository = clubJoinRepository;
+        this.cache = new TtlCache<>("club_membership", properties.getTtlMs(), properties.getMaxSize(), meterRegistry);
+    }
+
+    public List<Long> findClubIds(Long userId) {
+        if (userId == null) {
+            return List.of();
+        }
+        return Arrays.stream(load(userId)).boxed().toList();
+    }
+
+    public boolean isMember(Long userId, Long clubId) {
+        return userId != null && clubId != null && Arrays.binarySearch(load(userId), clubId) >= 0;
+    }
+
+    // 트랜잭션 안이면 커밋 후 한 번 더 비워 커밋 전 조회로 다시 채워진 값도 제거
+    void evict(Long userId) {
+        afterCommitToo(() -> cache.invalidate(userId));
+    }
+
+    // 동아리 삭제처럼 회원 목록을 모를 때는 해당 동아리를 가진 항목을 모두 비움
+    void evictClub(Long clubId) {
+        afterCommitToo(() -> cache.invalidateIf((userId, clubIds) -> Arrays.binarySearch(clubIds, clubId) >= 0));
+    }
+
+    @EventListener
+    public void onMembershipChanged(ClubMembershipChangedEvent event) {
+        if (event.userId() == null) {
+            evictClub(event.clubId());
+            return;
+        }
+        evict(event.userId());
+    }
+
+    private long[] load(Long userId) {
+        return cache.get(userId, id -> {
+            long[] clubIds = clubJoinRepository.findClubIdsByUserIdAndStatus(id, ClubJoinStatus.ACTIVE).stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            Arrays.sort(clubIds);
+            return clubIds;
+        }).orElseThrow();
+    }
+
+    private static void afterCommitToo(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.dance_community.cache;
+
+// 동아리 가입 상태/역할 변경 알림 (가입 관련 캐시 무효화용)
+// userId 가 null 이면 동아리 전체, clubId 가 null 이면 해당 사용자의 모든 동아리가 대상
+public record ClubMembershipChangedEvent(Long userId, Long clubId) {
+    public static ClubMembershipChangedEvent of(Long userId, Long clubId) {
+        return new ClubMembershipChangedEvent(userId, clubId);
+    }
+
+    public static ClubMembershipChangedEvent ofUser(Long userId) {
+        return new ClubMembershipChangedEvent(userId, null);
+    }
+
+    public static ClubMembershipChangedEvent ofClub(Long clubId) {
+        return new ClubMembershipChangedEvent(null, clubId);
+    }
+}
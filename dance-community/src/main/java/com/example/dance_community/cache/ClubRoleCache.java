@@ -0,0 +1,83 @@
+package com.example.dance_community.cache;
+
+import com.example.dance_community.config.ClubRoleCacheProperties;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.enums.ClubRole;
+import com.example.dance_community.repository.ClubJoinRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+// (userId, clubId) 별 역할/가입 상태 캐시
+// 관리 기능마다 반복되는 권한 확인을 엔티티 조회 없이 처리하기 위함
+// 지표: cache.gets{cache=club_role, result=hit|miss}
+@Component
+public class ClubRoleCache {
+    // 가입 이력이 없는 조합도 캐시해 반복 조회를 막음
+    private static final Membership NONE = new Membership(null, null);
+
+    private final ClubJoinRepository clubJoinRepository;
+    private final TtlCache<Key, Membership> cache;
+
+    public ClubRoleCache(ClubJoinRepository clubJoinRepository, ClubRoleCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.clubJoinRepository = clubJoinRepository;
+        this.cache = new TtlCache<>("club_role", properties.getTtlMs(), properties.getMaxSize(), meterRegistry);
+    }
+
+    // 가입 이력이 없으면 empty
+    public Optional<Membership> find(Long userId, Long clubId) {
+        Membership membership = cache.get(new Key(userId, clubId), this::load).orElseThrow();
+        return membership == NONE ? Optional.empty() : Optional.of(membership);
+    }
+
+    @EventListener
+    public void onMembershipChanged(ClubMembershipChangedEvent event) {
+        if (event.userId() == null) {
+            evictIf(key -> key.clubId().equals(event.clubId()));
+        } else if (event.clubId() == null) {
+            evictIf(key -> key.userId().equals(event.userId()));
+        } else {
+            Key target = new Key(event.userId(), event.clubId());
+            afterCommitToo(() -> cache.invalidate(target));
+        }
+    }
+
+    private void evictIf(Predicate<Key> condition) {
+        afterCommitToo(() -> cache.invalidateIf((key, membership) -> condition.test(key)));
+    }
+
+    private Membership load(Key key) {
+        return clubJoinRepository.findByUser_UserIdAndClub_ClubId(key.userId(), key.clubId())
+                .map(clubJoin -> new Membership(clubJoin.getRole(), clubJoin.getStatus()))
+                .orElse(NONE);
+    }
+
+    // 트랜잭션 안이면 커밋 후 한 번 더 비워 커밋 전 조회로 다시 채워진 값도 제거
+    private static void afterCommitToo(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    public record Membership(ClubRole role, ClubJoinStatus status) {
+        public boolean hasManagementPermission() {
+            return role == ClubRole.LEADER || role == ClubRole.MANAGER;
+        }
+    }
+
+    private record Key(Long userId, Long clubId) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.dance_community.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 크기 상한과 TTL 을 가진 단순 로컬 캐시
+// 상한에 닿으면 만료 항목을 먼저 비우고(전체 순회는 최대 초당 1회), 그래도 가득 차 있으면 임의의 항목을 10% 내보냄
+// 지표: cache.gets{result=hit|miss}, cache.evictions, cache.size (tag: cache=<name>)
+public class TtlCache<K, V> {
+    private static final long EXPIRED_SWEEP_INTERVAL_MS = 1_000L;
+
+    private final long ttlMs;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public TtlCache(String name, long ttlMs, int maxSize, MeterRegistry meterRegistry) {
+        this(name, ttlMs, maxSize, meterRegistry, System::currentTimeMillis);
+    }
+
+    TtlCache(String name, long ttlMs, int maxSize, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.lastSweepAt = new AtomicLong(clock.getAsLong() - EXPIRED_SWEEP_INTERVAL_MS);
+
+        this.hitCounter = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cache.evictions").tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", entries, Map::size).tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt() <= clock.getAsLong()) {
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(entry.value());
+    }
+
+    // loader 가 null 을 돌려주면 캐시하지 않음
+    public Optional<V> get(K key, Function<K, V> loader) {
+        Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    public void put(K key, V value) {
+        put(key, value, clock.getAsLong() + ttlMs);
+    }
+
+    // TTL 보다 먼저 만료돼야 하는 값 (예: 자체 만료 시각이 있는 토큰)
+    public void put(K key, V value, long expiresAt) {
+        long now = clock.getAsLong();
+        long boundedExpiresAt = Math.min(expiresAt, now + ttlMs);
+        if (boundedExpiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, boundedExpiresAt));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    // 키 하나로 대상을 특정할 수 없을 때 조건으로 무효화 (전체 순회)
+    public void invalidateIf(BiPredicate<K, V> condition) {
+        entries.entrySet().removeIf(entry -> condition.test(entry.getKey(), entry.getValue().value()));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 가득 찬 동안 새 키마다 전체를 훑지 않도록 만료 정리는 간격을 두고 한 스레드만,
+    // 내보낼 때는 상한의 10% 를 한 번에 비워 다음 미스들이 바로 다시 내보내지 않게 함
+    private void makeRoom(long now) {
+        long last = lastSweepAt.get();
+        if (now - last >= EXPIRED_SWEEP_INTERVAL_MS && lastSweepAt.compareAndSet(last, now)) {
+            entries.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+        }
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
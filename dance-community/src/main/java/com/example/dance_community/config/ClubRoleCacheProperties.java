@@ -0,0 +1,15 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "club-role-cache")
+public class ClubRoleCacheProperties {
+    private long ttlMs = 300_000L;
+    private int maxSize = 50_000;
+}
@@ -0,0 +1,24 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "club-timeline")
+public class ClubTimelineProperties {
+    // 사용자/동아리 타임라인 하나에 보관하는 게시글 수
+    private int capacity = 100;
+
+    // 활동 회원이 이보다 많은 동아리는 회원별로 밀어넣지 않고 동아리 타임라인에만 기록 (읽을 때 병합)
+    private int fanoutMaxMembers = 1_000;
+
+    // 타임라인을 보관하는 최대 사용자 수, 넘치면 임의의 사용자 타임라인을 버림 (다음 조회 때 다시 적재)
+    private int maxUsers = 10_000;
+
+    // 누락 가능성(적재 중 작성된 글 등)을 한정하기 위한 사용자 타임라인 재적재 주기
+    private long ttlMs = 600_000L;
+}
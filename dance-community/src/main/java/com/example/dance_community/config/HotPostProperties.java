@@ -0,0 +1,30 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "hot-posts")
+public class HotPostProperties {
+    private int size = 10;
+
+    // 점수 반감기 (기본 6시간)
+    private long halfLifeMs = 21_600_000L;
+    // 이 기간보다 오래된 게시글은 순위에서 제외
+    private int maxAgeDays = 14;
+
+    private double likeWeight = 1.0;
+    private double viewWeight = 0.1;
+    private double commentWeight = 2.0;
+
+    // 감쇠 점수가 이 값 이하로 떨어진 게시글은 추적에서 제외 (기본: 조회 1건 가중치의 1/10)
+    private double pruneScore = 0.01;
+    // 메모리에 점수를 유지하는 최대 게시글 수
+    private int maxTracked = 50_000;
+    // 기동 직후 DB 에서 점수를 채울 게시글 수
+    private int seedLimit = 1_000;
+}
@@ -0,0 +1,20 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "like-counter")
+public class LikeCounterProperties {
+    // 샤드 전환 기준: velocity-window-ms 안에 hot-threshold 번 이상 좋아요 증감
+    private int hotThreshold = 50;
+    private long velocityWindowMs = 1_000L;
+    private long hotTtlMs = 60_000L;
+
+    private int shardCount = 16;
+    private long rollupIntervalMs = 2_000L;
+}
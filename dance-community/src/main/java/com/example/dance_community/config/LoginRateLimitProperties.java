@@ -0,0 +1,25 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "login-rate-limit")
+public class LoginRateLimitProperties {
+    private boolean enabled = true;
+
+    // IP 별: 순간 20회, 분당 30회 회복
+    private long ipCapacity = 20;
+    private long ipRefillPerMinute = 30;
+
+    // 이메일 별: 순간 5회, 분당 5회 회복
+    private long emailCapacity = 5;
+    private long emailRefillPerMinute = 5;
+
+    // 제한기마다 유지하는 최대 키 수
+    private int maxKeys = 100_000;
+}
@@ -0,0 +1,20 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password-hash")
+public class PasswordHashProperties {
+    // BCrypt cost. 올리면 기존 해시는 다음 로그인 때 새 cost 로 재해싱
+    private int strength = 10;
+
+    // 0 이면 CPU 코어 수
+    private int threads = 0;
+    private int queueCapacity = 64;
+    private long timeoutMs = 3_000L;
+}
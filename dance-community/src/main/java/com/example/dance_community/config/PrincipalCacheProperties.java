@@ -0,0 +1,18 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "principal-cache")
+public class PrincipalCacheProperties {
+    private long ttlMs = 300_000L;
+    private int maxSize = 10_000;
+
+    // true 면 DB 조회 없이 토큰의 userId 만으로 인증 (탈퇴 여부는 토큰 만료 시점까지 반영되지 않음)
+    private boolean claimsOnly = false;
+}
@@ -0,0 +1,20 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "refresh-token")
+public class RefreshTokenProperties {
+    private long flushIntervalMs = 5_000L;
+
+    // 메모리에 둘 family 전체 상한 (넘으면 새 로그인 거절)
+    private int maxFamilies = 500_000;
+
+    // 사용자당 동시 로그인 상한 (넘으면 가장 오래 쓰지 않은 family 폐기)
+    private int maxFamiliesPerUser = 10;
+}
@@ -0,0 +1,18 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+    // 본문은 앞부분만 색인 (색인 크기 상한)
+    private int maxContentChars = 2_000;
+
+    // 재색인 시 한 번에 읽는 문서 수
+    private int rebuildBatchSize = 500;
+}
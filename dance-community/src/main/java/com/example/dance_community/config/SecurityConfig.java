@@ -94,7 +94,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashProperties passwordHashProperties) {
+        return new BCryptPasswordEncoder(passwordHashProperties.getStrength());
     }
 }
\ No newline at end of file
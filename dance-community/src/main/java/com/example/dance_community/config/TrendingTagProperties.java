@@ -0,0 +1,22 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "trending-tags")
+public class TrendingTagProperties {
+    private int size = 10;
+
+    // 점수 반감기 (기본 24시간)
+    private long halfLifeMs = 86_400_000L;
+
+    // 메모리에 점수를 유지하는 최대 태그 수
+    private int maxTracked = 10_000;
+    // 기동 직후 DB 에서 점수를 채울 기간
+    private int seedDays = 7;
+}
@@ -0,0 +1,18 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "upcoming-events")
+public class UpcomingEventProperties {
+    // 공개 범위(GLOBAL, 동아리별)마다 적재할 시작 전 행사 수
+    // 재적재 사이에 시작해 빠지는 행사가 있으므로 조회 개수(10)보다 넉넉하게
+    private int perScopeLimit = 30;
+    // 행사/태그/이미지를 나눠 조회하는 id 묶음 크기
+    private int batchSize = 500;
+}
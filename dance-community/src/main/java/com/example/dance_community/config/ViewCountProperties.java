@@ -0,0 +1,20 @@
+package com.example.dance_community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "view-count")
+public class ViewCountProperties {
+    private long flushIntervalMs = 5_000L;
+    private int maxBufferedIds = 10_000;
+
+    // 중복 조회 판별 (회전 블룸 필터)
+    private long dedupWindowMs = 1_800_000L;
+    private long dedupExpectedInsertions = 1_000_000L;
+    private double dedupFalsePositiveRate = 0.01;
+}
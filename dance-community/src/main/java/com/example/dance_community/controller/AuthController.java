@@ -7,6 +7,7 @@ import com.example.dance_community.service.AuthService;
 import com.example.dance_community.service.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -45,27 +46,30 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
-        AuthResponse authResponse = authService.login(request, response);
+        AuthResponse authResponse = authService.login(request, httpRequest.getRemoteAddr(), response);
         return ResponseEntity.ok(new ApiResponse<>("로그인 성공", authResponse));
     }
 
     @Operation(summary = "토큰 재발급", description = "토큰이 만료됐을 때 재발급합니다.")
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<AuthResponse>> refresh(
-            @CookieValue(name = "refreshToken") String refreshToken
+            @CookieValue(name = "refreshToken") String refreshToken,
+            HttpServletResponse response
     ) {
-        AuthResponse authResponse = authService.refresh(refreshToken);
+        AuthResponse authResponse = authService.refresh(refreshToken, response);
         return ResponseEntity.ok(new ApiResponse<>("토큰 재발급 성공", authResponse));
     }
 
     @Operation(summary = "로그아웃", description = "로그아웃을 진행합니다.")
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
+            @CookieValue(name = "refreshToken", required = false) String refreshToken,
             HttpServletResponse response
     ) {
-        authService.logout(response);
+        authService.logout(refreshToken, response);
         return ResponseEntity.ok(new ApiResponse<>("로그아웃 성공", null));
     }
 }
\ No newline at end of file
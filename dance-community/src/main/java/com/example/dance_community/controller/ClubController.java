@@ -61,11 +61,17 @@ public class ClubController {
         return ResponseEntity.ok(new ApiResponse<>("클럽 조회 성공", clubResponse));
     }
 
-    @Operation(summary = "전체 클럽 조회", description = "전체 클럽의 정보를 불러옵니다.")
+    @Operation(summary = "전체 클럽 조회", description = "클럽 타입, 지역, 태그로 필터링하고 최신순(LATEST) 또는 멤버 많은순(MEMBER_COUNT)으로 페이지 단위 조회합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<ClubResponse>>> getClubs(
+            @RequestParam(value = "clubType", required = false) ClubType clubType,
+            @RequestParam(value = "locationName", required = false) String locationName,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<ClubResponse> clubResponses = clubService.getClubs();
+        List<ClubResponse> clubResponses = clubService.getClubs(clubType, locationName, tag, sort, page, size);
         return ResponseEntity.ok(new ApiResponse<>("클럽 전체 조회 성공", clubResponses));
     }
 
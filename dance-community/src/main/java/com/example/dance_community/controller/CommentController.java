@@ -1,6 +1,7 @@
 package com.example.dance_community.controller;
 
 import com.example.dance_community.dto.ApiResponse;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.comment.CommentRequest;
 import com.example.dance_community.dto.comment.CommentResponse;
 import com.example.dance_community.security.UserDetail;
@@ -35,19 +36,23 @@ public class CommentController {
                 .body(new ApiResponse<>("댓글 작성 성공", response));
     }
 
-    @Operation(summary = "댓글 조회", description = "게시글 또는 행사의 댓글 목록을 조회합니다.")
+    @Operation(summary = "댓글 조회", description = "게시글 또는 행사의 댓글 목록을 작성순으로 조회합니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getComments(
             @AuthenticationPrincipal UserDetail userDetail,
             @RequestParam(required = false) Long postId,
-            @RequestParam(required = false) Long eventId
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<CommentResponse> comments = commentService.getComments(
+        CursorPage<CommentResponse> page = commentService.getComments(
                 postId,
                 eventId,
-                userDetail.getUserId()
+                userDetail.getUserId(),
+                cursor,
+                size
         );
-        return ResponseEntity.ok(new ApiResponse<>("댓글 조회 성공", comments));
+        return ResponseEntity.ok(new ApiResponse<>("댓글 조회 성공", page.items(), page.nextCursor()));
     }
 
     @Operation(summary = "댓글 수정", description = "작성한 댓글의 내용을 수정합니다.")
@@ -1,10 +1,13 @@
 package com.example.dance_community.controller;
 
 import com.example.dance_community.dto.ApiResponse;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.event.EventCreateRequest;
 import com.example.dance_community.dto.event.EventResponse;
 import com.example.dance_community.dto.event.EventUpdateRequest;
 import com.example.dance_community.dto.like.EventlikeResponse;
+import com.example.dance_community.dto.like.LikeBulkRequest;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.enums.ImageType;
 import com.example.dance_community.security.UserDetail;
 import com.example.dance_community.service.EventLikeService;
@@ -12,6 +15,7 @@ import com.example.dance_community.service.EventService;
 import com.example.dance_community.service.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -91,13 +95,29 @@ public class EventController {
         return ResponseEntity.ok(new ApiResponse<>("행사 조회 성공", eventResponse));
     }
 
-    @Operation(summary = "전체 행사 조회", description = "전체 행사 정보를 불러옵니다.")
+    @Operation(summary = "전체 행사 조회", description = "접근 가능한 행사를 최신순(LATEST) 또는 시작일순(STARTS_AT)으로 불러옵니다. tag를 주면 해당 태그 행사만 불러옵니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<EventResponse>>> getEvents(
-            @AuthenticationPrincipal UserDetail userDetail
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPage<EventResponse> page = eventService.getEvents(userDetail.getUserId(), sort, tag, cursor, size);
+        return ResponseEntity.ok(new ApiResponse<>("행사 전체 조회 성공", page.items(), page.nextCursor()));
+    }
+
+    @Operation(summary = "행사 검색", description = "제목/본문/태그에 검색어가 포함된 접근 가능한 행사를 최신 등록순으로 불러옵니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<EventResponse>>> searchEvents(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<EventResponse> eventResponseList = eventService.getEvents(userDetail.getUserId());
-        return ResponseEntity.ok(new ApiResponse<>("행사 전체 조회 성공", eventResponseList));
+        CursorPage<EventResponse> page = eventService.searchEvents(userDetail.getUserId(), query, cursor, size);
+        return ResponseEntity.ok(new ApiResponse<>("행사 검색 성공", page.items(), page.nextCursor()));
     }
 
     @Operation(summary = "[Upcoming Event]", description = "현재 시간 이후 시작하는 행사를 불러옵니다.")
@@ -173,4 +193,38 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>("행사 좋아요 성공", response));
     }
+
+    @Operation(summary = "행사 좋아요 등록", description = "행사에 좋아요를 누릅니다. 이미 누른 상태여도 성공합니다.")
+    @PutMapping("/{eventId}/like")
+    public ResponseEntity<ApiResponse<EventlikeResponse>> like(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long eventId
+    ) {
+        EventlikeResponse response = eventLikeService.like(userDetail.getUserId(), eventId);
+        return ResponseEntity.ok(new ApiResponse<>("행사 좋아요 성공", response));
+    }
+
+    @Operation(summary = "행사 좋아요 취소", description = "행사 좋아요를 취소합니다. 누르지 않은 상태여도 성공합니다.")
+    @DeleteMapping("/{eventId}/like")
+    public ResponseEntity<ApiResponse<EventlikeResponse>> unlike(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long eventId
+    ) {
+        EventlikeResponse response = eventLikeService.unlike(userDetail.getUserId(), eventId);
+        return ResponseEntity.ok(new ApiResponse<>("행사 좋아요 취소 성공", response));
+    }
+
+    @Operation(summary = "행사 좋아요 일괄 처리", description = "여러 행사의 좋아요를 한 번에 등록하거나 취소합니다.")
+    @PostMapping("/likes")
+    public ResponseEntity<ApiResponse<List<LikeStatusResponse>>> updateLikes(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @Valid @RequestBody LikeBulkRequest request
+    ) {
+        List<LikeStatusResponse> responses = eventLikeService.updateLikes(
+                userDetail.getUserId(),
+                request.getTargetIds(),
+                request.getLiked()
+        );
+        return ResponseEntity.ok(new ApiResponse<>("행사 좋아요 일괄 처리 성공", responses));
+    }
 }
@@ -2,6 +2,7 @@ package com.example.dance_community.controller;
 
 import com.example.dance_community.dto.ApiResponse;
 import com.example.dance_community.dto.eventJoin.EventJoinResponse;
+import com.example.dance_community.enums.EventJoinStatus;
 import com.example.dance_community.security.UserDetail;
 import com.example.dance_community.service.EventJoinService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,15 +23,16 @@ public class EventJoinController {
     private final EventJoinService eventJoinService;
 
     // 일반 사용자용
-    @Operation(summary = "행사 신청", description = "행사에 신청합니다.")
+    @Operation(summary = "행사 신청", description = "행사에 신청합니다. 정원이 찼으면 대기열(WAITLISTED)에 등록되고, 취소/거절로 자리가 나면 순서대로 자동 확정됩니다.")
     @PostMapping("/{eventId}/apply")
     public ResponseEntity<ApiResponse<EventJoinResponse>> applyEvent(
             @AuthenticationPrincipal UserDetail userDetail,
             @PathVariable Long eventId
     ) {
         EventJoinResponse response = eventJoinService.applyEvent(userDetail.getUserId(), eventId);
+        String message = EventJoinStatus.WAITLISTED.name().equals(response.status()) ? "행사 대기 신청 성공" : "행사 신청 성공";
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new ApiResponse<>("행사 신청 성공", response));
+                .body(new ApiResponse<>(message, response));
     }
 
     @Operation(summary = "행사 신청 취소", description = "신청했던 행사를 취소합니다.")
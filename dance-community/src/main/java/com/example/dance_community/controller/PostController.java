@@ -1,7 +1,10 @@
 package com.example.dance_community.controller;
 
 import com.example.dance_community.dto.ApiResponse;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.like.PostLikeResponse;
+import com.example.dance_community.dto.like.LikeBulkRequest;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.post.PostCreateRequest;
 import com.example.dance_community.dto.post.PostResponse;
 import com.example.dance_community.dto.post.PostUpdateRequest;
@@ -12,6 +15,7 @@ import com.example.dance_community.service.PostLikeService;
 import com.example.dance_community.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -70,16 +74,31 @@ public class PostController {
         return ResponseEntity.ok(new ApiResponse<>("게시물 조회 성공", postResponse));
     }
 
-    @Operation(summary = "전체 게시물 조회", description = "전체 게시물의 정보를 불러옵니다.")
+    @Operation(summary = "전체 게시물 조회", description = "접근 가능한 게시물을 최신순으로 불러옵니다. tag를 주면 해당 태그 게시물만 불러옵니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<PostResponse>>> getPosts(
-            @AuthenticationPrincipal UserDetail userDetail
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPage<PostResponse> page = postService.getPosts(userDetail.getUserId(), tag, cursor, size);
+        return ResponseEntity.ok(new ApiResponse<>("게시글 전체 조회 성공", page.items(), page.nextCursor()));
+    }
+
+    @Operation(summary = "게시물 검색", description = "제목/본문/태그에 검색어가 포함된 접근 가능한 게시물을 최신순으로 불러옵니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> searchPosts(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<PostResponse> postResponses = postService.getPosts(userDetail.getUserId());
-        return ResponseEntity.ok(new ApiResponse<>("게시글 전체 조회 성공", postResponses));
+        CursorPage<PostResponse> page = postService.searchPosts(userDetail.getUserId(), query, cursor, size);
+        return ResponseEntity.ok(new ApiResponse<>("게시물 검색 성공", page.items(), page.nextCursor()));
     }
 
-    @Operation(summary = "[Hot Groove] ", description = "최근 7일간 작성된 글 중 좋아요 순 상위 10개")
+    @Operation(summary = "[Hot Groove] ", description = "좋아요·조회·댓글 가중치를 시간 감쇠로 누적한 점수 상위 글 (작성 후 hot-posts.max-age-days 이내, 전체 공개글)")
     @GetMapping("/hot")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getHotPosts(
             @AuthenticationPrincipal UserDetail userDetail
@@ -144,4 +163,38 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>("게시물 좋아요 성공", response));
     }
+
+    @Operation(summary = "게시물 좋아요 등록", description = "게시물에 좋아요를 누릅니다. 이미 누른 상태여도 성공합니다.")
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<PostLikeResponse>> like(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long postId
+    ) {
+        PostLikeResponse response = postLikeService.like(userDetail.getUserId(), postId);
+        return ResponseEntity.ok(new ApiResponse<>("게시물 좋아요 성공", response));
+    }
+
+    @Operation(summary = "게시물 좋아요 취소", description = "게시물 좋아요를 취소합니다. 누르지 않은 상태여도 성공합니다.")
+    @DeleteMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<PostLikeResponse>> unlike(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long postId
+    ) {
+        PostLikeResponse response = postLikeService.unlike(userDetail.getUserId(), postId);
+        return ResponseEntity.ok(new ApiResponse<>("게시물 좋아요 취소 성공", response));
+    }
+
+    @Operation(summary = "게시물 좋아요 일괄 처리", description = "여러 게시물의 좋아요를 한 번에 등록하거나 취소합니다.")
+    @PostMapping("/likes")
+    public ResponseEntity<ApiResponse<List<LikeStatusResponse>>> updateLikes(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @Valid @RequestBody LikeBulkRequest request
+    ) {
+        List<LikeStatusResponse> responses = postLikeService.updateLikes(
+                userDetail.getUserId(),
+                request.getTargetIds(),
+                request.getLiked()
+        );
+        return ResponseEntity.ok(new ApiResponse<>("게시물 좋아요 일괄 처리 성공", responses));
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.dance_community.controller;
+
+import com.example.dance_community.dto.ApiResponse;
+import com.example.dance_community.dto.tag.TrendingTagResponse;
+import com.example.dance_community.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+@Tag(name = "9_Tag", description = "태그 관련 API")
+public class TagController {
+    private final TagService tagService;
+
+    @Operation(summary = "인기 태그 조회", description = "최근 공개 게시물/행사에 많이 쓰인 태그를 점수 순으로 불러옵니다. 피드의 tag 파라미터로 그대로 사용할 수 있습니다.")
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingTagResponse>>> getTrendingTags() {
+        List<TrendingTagResponse> trendingTags = tagService.getTrendingTags();
+        return ResponseEntity.ok(new ApiResponse<>("인기 태그 조회 성공", trendingTags));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.dance_community.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 고정 크기 비트 배열 기반 블룸 필터 (잠금 없이 동시 put/조회 가능)
+// 오탐(이미 본 것으로 판단)은 있을 수 있으나 미탐은 없음
+public final class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정값이 올바르지 않습니다");
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (bits + 63) >>> 6);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+    }
+
+    public boolean mightContain(long hash) {
+        long h2 = secondHash(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 새로 세운 비트가 하나라도 있으면 true (처음 본 값)
+    public boolean put(long hash) {
+        long h2 = secondHash(hash);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * h2, bitSize);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate((int) (bit >>> 6), mask, (current, m) -> current | m);
+            changed |= (previous & mask) == 0;
+        }
+        if (changed) {
+            insertions.increment();
+        }
+        return changed;
+    }
+
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    // 64비트 해시 혼합 (murmur3 fmix64)
+    public static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static long secondHash(long hash) {
+        return mix(hash + 0x9E3779B97F4A7C15L) | 1L;
+    }
+}
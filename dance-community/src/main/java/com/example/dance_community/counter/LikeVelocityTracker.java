@@ -0,0 +1,71 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.LikeCounterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글별 좋아요 증감 속도를 고정 창으로 세어 샤드 카운터 전환 여부 판단
+@Component
+public class LikeVelocityTracker {
+    private final LikeCounterProperties properties;
+    private final ConcurrentHashMap<Long, Velocity> velocities = new ConcurrentHashMap<>();
+
+    public LikeVelocityTracker(LikeCounterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("like_counter.hot_posts", this, tracker -> tracker.hotPostCount(System.currentTimeMillis()))
+                .description("샤드 카운터로 집계 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    // 증감 1회 기록 후 샤드로 집계해야 하면 true
+    public boolean record(Long postId) {
+        return record(postId, System.currentTimeMillis());
+    }
+
+    // 한 번이라도 샤드로 집계됐고 아직 정리되지 않은 게시글 (미합산 샤드가 남아 있을 수 있음)
+    public boolean wasHot(Long postId) {
+        Velocity velocity = velocities.get(postId);
+        return velocity != null && velocity.hotUntil() > 0;
+    }
+
+    // 합산이 끝난 뒤 호출: 창이 지났고 hot 상태가 아닌 게시글 정리
+    public void evictIdle() {
+        evictIdle(System.currentTimeMillis());
+    }
+
+    boolean record(Long postId, long now) {
+        Velocity velocity = velocities.compute(postId, (id, old) -> next(old, now));
+        return velocity.hotUntil() > now;
+    }
+
+    void evictIdle(long now) {
+        long window = properties.getVelocityWindowMs();
+        velocities.entrySet().removeIf(entry ->
+                now - entry.getValue().windowStart() >= window && entry.getValue().hotUntil() <= now);
+    }
+
+    int hotPostCount(long now) {
+        return (int) velocities.values().stream()
+                .filter(velocity -> velocity.hotUntil() > now)
+                .count();
+    }
+
+    private Velocity next(Velocity old, long now) {
+        boolean newWindow = old == null || now - old.windowStart() >= properties.getVelocityWindowMs();
+        long windowStart = newWindow ? now : old.windowStart();
+        int count = newWindow ? 1 : old.count() + 1;
+        long hotUntil = old == null ? 0 : old.hotUntil();
+
+        if (count >= properties.getHotThreshold()) {
+            hotUntil = now + properties.getHotTtlMs();
+        }
+        return new Velocity(windowStart, count, hotUntil);
+    }
+
+    private record Velocity(long windowStart, int count, long hotUntil) {
+    }
+}
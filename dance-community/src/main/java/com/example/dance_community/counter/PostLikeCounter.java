@@ -0,0 +1,76 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.LikeCounterProperties;
+import com.example.dance_community.entity.PostLikeShard;
+import com.example.dance_community.repository.PostLikeShardRepository;
+import com.example.dance_community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// 게시글 좋아요 수 증감
+// 평소에는 posts.like_count 를 바로 갱신하고, 좋아요가 몰리는 게시글은 임의의 샤드 행에 나눠 기록해 행 잠금 경합을 분산
+// 샤드 증감분은 PostLikeShardRoller 가 주기적으로 posts.like_count 에 합산
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter {
+    private final PostRepository postRepository;
+    private final PostLikeShardRepository postLikeShardRepository;
+    private final LikeVelocityTracker likeVelocityTracker;
+    private final LikeCounterProperties properties;
+
+    public void increase(Collection<Long> postIds) {
+        apply(postIds, 1L);
+    }
+
+    public void decrease(Collection<Long> postIds) {
+        apply(postIds, -1L);
+    }
+
+    // posts.like_count + 미합산 샤드 증감분 (삭제된 게시글이면 empty)
+    public Optional<Long> likeCount(Long postId) {
+        return postRepository.findLikeCount(postId)
+                .map(stored -> stored + pendingDeltas(List.of(postId)).getOrDefault(postId, 0L));
+    }
+
+    // 샤드로 집계된 적 있는 게시글만 조회
+    public Map<Long, Long> pendingDeltas(Collection<Long> postIds) {
+        List<Long> hotPostIds = postIds.stream()
+                .filter(likeVelocityTracker::wasHot)
+                .toList();
+        if (hotPostIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return postLikeShardRepository.findAllByPostIdIn(hotPostIds).stream()
+                .collect(Collectors.groupingBy(PostLikeShard::getPostId, Collectors.summingLong(PostLikeShard::getDelta)));
+    }
+
+    private void apply(Collection<Long> postIds, long delta) {
+        List<Long> directIds = new ArrayList<>();
+        for (Long postId : postIds) {
+            if (likeVelocityTracker.record(postId)) {
+                int shardNo = ThreadLocalRandom.current().nextInt(properties.getShardCount());
+                postLikeShardRepository.addDelta(postId, shardNo, delta);
+            } else {
+                directIds.add(postId);
+            }
+        }
+
+        if (directIds.isEmpty()) {
+            return;
+        }
+        if (delta > 0) {
+            postRepository.increaseLikeCounts(directIds);
+        } else {
+            postRepository.decreaseLikeCounts(directIds);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.ViewCountProperties;
+import com.example.dance_community.enums.TargetType;
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회수 증가분을 메모리(id별 LongAdder)에 모았다가 주기적으로/종료 시 일괄 UPDATE
+// 조회 요청 트랜잭션에서 게시글/행사 행 잠금을 잡지 않기 위함
+// 증가와 비우기는 같은 키의 compute 안에서 일어나므로 플러시와 겹쳐도 증가분이 유실되지 않음
+@Slf4j
+@Component
+public class ViewCountBuffer {
+    private static final int UPDATE_CHUNK_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+    private final EventRepository eventRepository;
+    private final ViewCountProperties properties;
+    private final ViewDeduplicator viewDeduplicator;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<TargetType, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(TargetType.class);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Executor overflowExecutor;
+    private final AtomicBoolean overflowFlushQueued = new AtomicBoolean();
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public ViewCountBuffer(PostRepository postRepository, EventRepository eventRepository,
+                           ViewCountProperties properties, ViewDeduplicator viewDeduplicator,
+                           PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(postRepository, eventRepository, properties, viewDeduplicator, transactionManager, meterRegistry,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "view-count-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ViewCountBuffer(PostRepository postRepository, EventRepository eventRepository,
+                    ViewCountProperties properties, ViewDeduplicator viewDeduplicator,
+                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                    Executor overflowExecutor) {
+        this.postRepository = postRepository;
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+        this.viewDeduplicator = viewDeduplicator;
+        this.overflowExecutor = overflowExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (TargetType type : TargetType.values()) {
+            ConcurrentHashMap<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+            buffers.put(type, buffer);
+
+            String tag = type.name().toLowerCase();
+            Gauge.builder("view_count.pending", buffer, ViewCountBuffer::pendingOf)
+                    .description("플러시 대기 중인 조회수 증가분")
+                    .tag("type", tag)
+                    .register(meterRegistry);
+            Gauge.builder("view_count.buffered_ids", buffer, Map::size)
+                    .description("조회수 버퍼에 쌓인 대상 id 수")
+                    .tag("type", tag)
+                    .register(meterRegistry);
+        }
+        this.flushedCounter = Counter.builder("view_count.flushed")
+                .description("DB에 반영된 조회수 증가분")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("view_count.flush.failed")
+                .description("조회수 플러시 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    // 같은 조회자의 중복 조회는 증가분에 반영하지 않음
+    // 중복 제거 후 실제로 집계됐으면 true
+    public boolean recordView(TargetType type, Long id, Long viewerId) {
+        if (!viewDeduplicator.isFirstView(type, id, viewerId)) {
+            return false;
+        }
+        increment(type, id);
+        return true;
+    }
+
+    // 조회마다 맵 bin 잠금을 잡지 않도록 adder 만 꺼내 증가 (같은 id 의 동시 증가는 LongAdder 셀로 분산)
+    public void increment(TargetType type, Long id) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(type);
+        LongAdder adder = buffer.computeIfAbsent(id, key -> new LongAdder());
+        adder.increment();
+
+        // 증가 직후에도 매핑돼 있으면 drain 은 이후에 떼어 가며 이 증가분까지 읽음
+        // 이미 떼어 간 adder 였다면 drain 이 읽지 못했을 수 있는 잔량을 가져와 새 adder 로 옮김 (getAndSet 이라 중복 없음)
+        if (buffer.get(id) != adder) {
+            long leftover = adder.sumThenReset();
+            if (leftover > 0) {
+                buffer.computeIfAbsent(id, key -> new LongAdder()).add(leftover);
+            }
+        }
+
+        // 버퍼 id 수가 상한을 넘으면 주기를 기다리지 않고 비움
+        // 요청 스레드에서 DB 커넥션을 더 잡지 않도록 전용 스레드에 넘기고, 이미 예약돼 있으면 생략
+        if (buffer.size() > properties.getMaxBufferedIds() && overflowFlushQueued.compareAndSet(false, true)) {
+            try {
+                overflowExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        overflowFlushQueued.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                overflowFlushQueued.set(false);
+            }
+        }
+    }
+
+    public long pending(TargetType type, Long id) {
+        LongAdder adder = buffers.get(type).get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${view-count.flush-interval-ms:5000}",
+            initialDelayString = "${view-count.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (overflowExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        flush();
+    }
+
+    private void flushAll() {
+        for (TargetType type : TargetType.values()) {
+            Map<Long, Long> deltas = drain(buffers.get(type));
+            if (deltas.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(type, deltas));
+                flushedCounter.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.warn("조회수 플러시 실패, 다음 주기에 재시도: type={}, ids={}", type, deltas.size(), e);
+                restore(type, deltas);
+            }
+        }
+    }
+
+    // adder 를 맵에서 먼저 떼어 낸 뒤 합산 (늦게 도착한 증가분은 increment 가 새 adder 로 옮김)
+    private Map<Long, Long> drain(ConcurrentHashMap<Long, LongAdder> buffer) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : buffer.entrySet()) {
+            LongAdder adder = entry.getValue();
+            if (!buffer.remove(entry.getKey(), adder)) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(TargetType type, Map<Long, Long> deltas) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(type);
+        deltas.forEach((id, delta) -> buffer.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+    }
+
+    // 같은 증가분끼리 묶어 IN 절 UPDATE 한 번으로 처리
+    private void write(TargetType type, Map<Long, Long> deltas) {
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(id));
+
+        idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                if (type == TargetType.POST) {
+                    postRepository.increaseViewCounts(chunk, delta);
+                } else {
+                    eventRepository.increaseViewCounts(chunk, delta);
+                }
+            }
+        });
+    }
+
+    private static double pendingOf(Map<Long, LongAdder> buffer) {
+        return buffer.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
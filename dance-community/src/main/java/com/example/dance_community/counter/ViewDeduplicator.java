@@ -0,0 +1,69 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.ViewCountProperties;
+import com.example.dance_community.enums.TargetType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// (조회자, 대상 타입, 대상 id) 조합의 중복 조회 판별
+// 블룸 필터 2세대(current, previous)를 dedup-window-ms 마다 교체하므로 같은 조회는 window ~ 2 * window 동안 한 번만 집계
+// 메모리는 세대당 dedup-expected-insertions, dedup-false-positive-rate 로 정해지는 고정 크기
+@Component
+public class ViewDeduplicator {
+    private final ViewCountProperties properties;
+    private final AtomicReference<Generations> generations;
+    private final Counter duplicateCounter;
+
+    public ViewDeduplicator(ViewCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.generations = new AtomicReference<>(new Generations(newFilter(), newFilter()));
+
+        Gauge.builder("view_count.dedup.insertions", generations, ref -> ref.get().current().insertions())
+                .description("현재 세대 블룸 필터에 기록된 조회 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("view_count.dedup.duplicates")
+                .description("중복으로 판단되어 집계에서 제외된 조회 수")
+                .register(meterRegistry);
+    }
+
+    // 조회자를 알 수 없으면 중복 판별 없이 집계
+    public boolean isFirstView(TargetType type, Long targetId, Long viewerId) {
+        if (viewerId == null) {
+            return true;
+        }
+
+        long hash = keyHash(type, targetId, viewerId);
+        Generations current = generations.get();
+        if (current.previous().mightContain(hash) || !current.current().put(hash)) {
+            duplicateCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(
+            fixedRateString = "${view-count.dedup-window-ms:1800000}",
+            initialDelayString = "${view-count.dedup-window-ms:1800000}"
+    )
+    public void rotate() {
+        generations.updateAndGet(old -> new Generations(newFilter(), old.current()));
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getDedupExpectedInsertions(), properties.getDedupFalsePositiveRate());
+    }
+
+    private static long keyHash(TargetType type, Long targetId, Long viewerId) {
+        long hash = BloomFilter.mix(viewerId);
+        hash = BloomFilter.mix(hash ^ (targetId * 0x9E3779B97F4A7C15L));
+        return BloomFilter.mix(hash ^ type.ordinal());
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous) {
+    }
+}
@@ -1,4 +1,13 @@
 package com.example.dance_community.dto;
 
-public record ApiResponse<T>(String message, T data) {
-}
\ No newline at end of file
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record ApiResponse<T>(
+        String message,
+        T data,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+) {
+    public ApiResponse(String message, T data) {
+        this(message, data, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.dance_community.dto;
+
+import com.example.dance_community.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서 (정렬 시각 + PK), 클라이언트에는 불투명 토큰으로 전달
+public record Cursor(LocalDateTime at, Long id) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = at.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다");
+        }
+    }
+}
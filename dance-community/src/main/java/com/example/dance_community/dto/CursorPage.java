@@ -0,0 +1,18 @@
+package com.example.dance_community.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+    // size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, Cursor> cursorOf, Function<List<E>, List<T>> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.getLast()).encode() : null;
+
+        return new CursorPage<>(mapper.apply(content), nextCursor);
+    }
+}
@@ -19,6 +19,11 @@ public record ClubResponse (
     LocalDateTime createdAt
 ){
     public static ClubResponse from(Club club) {
+        return of(club, club.getTags());
+    }
+
+    // 태그를 일괄 조회한 경우 (컬렉션 지연 로딩 회피)
+    public static ClubResponse of(Club club, List<String> tags) {
         return new ClubResponse(
                 club.getClubId(),
                 club.getClubName(),
@@ -27,8 +32,8 @@ public record ClubResponse (
                 club.getLocationName(),
                 club.getClubType(),
                 club.getClubImage(),
-                club.getTags(),
-                (long) club.getMemberCount(),
+                tags,
+                club.getMemberCount(),
                 club.getCreatedAt()
         );
     }
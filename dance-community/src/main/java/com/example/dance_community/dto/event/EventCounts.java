@@ -0,0 +1,11 @@
+package com.example.dance_community.dto.event;
+
+// 다가오는 행사 인덱스의 카운터 갱신용: 참가/조회/좋아요/댓글 수만
+public record EventCounts(
+        Long eventId,
+        Long confirmedCount,
+        Long viewCount,
+        Long likeCount,
+        Long commentCount
+) {
+}
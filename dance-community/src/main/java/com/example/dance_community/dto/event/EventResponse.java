@@ -30,6 +30,12 @@ public record EventResponse(
         java.time.LocalDateTime updatedAt
 ) {
     public static EventResponse from(Event event, Boolean isLiked) {
+        return from(event, isLiked, event.getTags(), event.getImages());
+    }
+
+    // 피드용: 태그/이미지를 미리 일괄 조회해 넘겨 지연 컬렉션을 건드리지 않음
+    public static EventResponse from(Event event, Boolean isLiked,
+                                     java.util.List<String> tags, java.util.List<String> images) {
         return new EventResponse(
                 event.getEventId(),
                 event.getHost().getUserId(),
@@ -41,21 +47,40 @@ public record EventResponse(
                 event.getType().name(),
                 event.getTitle(),
                 event.getContent(),
-                event.getTags(),
-                event.getImages(),
+                tags,
+                images,
                 event.getLocationName(),
                 event.getLocationAddress(),
                 event.getLocationLink(),
                 event.getCapacity(),
-                (long) event.getParticipantCount(),
+                event.getConfirmedCount(),
                 event.getStartsAt(),
                 event.getEndsAt(),
                 event.getViewCount(),
                 event.getLikeCount(),
                 isLiked,
-                event.getComments().size(),
+                event.getCommentCount().intValue(),
                 event.getCreatedAt(),
                 event.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    // 사용자 공통 스냅샷에 사용자별 좋아요 여부만 덮어씀
+    public EventResponse withIsLiked(Boolean isLiked) {
+        return new EventResponse(
+                eventId, hostId, hostNickname, hostProfileImage, scope, clubId, clubName, type, title, content,
+                tags, images, locationName, locationAddress, locationLink, capacity, currentParticipants,
+                startsAt, endsAt, viewCount, likeCount, isLiked, commentCount, createdAt, updatedAt
+        );
+    }
+
+    // 인덱스 스냅샷의 카운터 값만 최신으로 교체
+    public EventResponse withCounts(EventCounts counts) {
+        return new EventResponse(
+                eventId, hostId, hostNickname, hostProfileImage, scope, clubId, clubName, type, title, content,
+                tags, images, locationName, locationAddress, locationLink, capacity, counts.confirmedCount(),
+                startsAt, endsAt, counts.viewCount(), counts.likeCount(), isLiked, counts.commentCount().intValue(),
+                createdAt, updatedAt
+        );
+    }
+}
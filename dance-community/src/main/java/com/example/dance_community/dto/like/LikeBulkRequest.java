@@ -0,0 +1,20 @@
+package com.example.dance_community.dto.like;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LikeBulkRequest {
+    @NotEmpty(message = "대상 id 미입력")
+    @Size(max = 100, message = "한 번에 최대 100개까지 처리할 수 있습니다")
+    List<@NotNull Long> targetIds;
+
+    @NotNull(message = "좋아요 여부 미입력")
+    Boolean liked;
+}
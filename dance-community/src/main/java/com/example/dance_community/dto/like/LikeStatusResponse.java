@@ -0,0 +1,8 @@
+package com.example.dance_community.dto.like;
+
+public record LikeStatusResponse(
+        Long targetId,
+        Boolean isLiked,
+        Long likeCount
+) {
+}
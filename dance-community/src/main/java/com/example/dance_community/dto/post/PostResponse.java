@@ -24,6 +24,11 @@ public record PostResponse(
         LocalDateTime updatedAt
 ) {
     public static PostResponse from(Post post, Boolean isLiked) {
+        return from(post, isLiked, post.getTags(), post.getImages());
+    }
+
+    // 피드용: 태그/이미지를 미리 일괄 조회해 넘겨 지연 컬렉션을 건드리지 않음
+    public static PostResponse from(Post post, Boolean isLiked, List<String> tags, List<String> images) {
         return new PostResponse(
                 post.getPostId(),
                 post.getAuthor().getUserId(),
@@ -34,14 +39,22 @@ public record PostResponse(
                 post.getClub() != null ? post.getClub().getClubName() : null,
                 post.getTitle(),
                 post.getContent(),
-                post.getTags(),
-                post.getImages(),
+                tags,
+                images,
                 post.getViewCount(),
                 post.getLikeCount(),
                 isLiked,
-                post.getComments().size(),
+                post.getCommentCount().intValue(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    // 사용자 공통 스냅샷에 사용자별 좋아요 여부만 덮어씀
+    public PostResponse withIsLiked(Boolean isLiked) {
+        return new PostResponse(
+                postId, authorId, authorNickname, authorProfileImage, scope, clubId, clubName,
+                title, content, tags, images, viewCount, likeCount, isLiked, commentCount, createdAt, updatedAt
+        );
+    }
+}
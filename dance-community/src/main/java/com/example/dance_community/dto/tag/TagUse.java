@@ -0,0 +1,10 @@
+package com.example.dance_community.dto.tag;
+
+import java.time.LocalDateTime;
+
+// 인기 태그 초기 점수용: 태그가 쓰인 글/행사의 작성 시각
+public record TagUse(
+        String tag,
+        LocalDateTime usedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.dance_community.dto.tag;
+
+public record TrendingTagResponse(
+        String tag,
+        Double score
+) {
+}
@@ -5,7 +5,6 @@ import com.example.dance_community.enums.ClubRole;
 import com.example.dance_community.enums.ClubType;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -18,7 +17,14 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "clubs")
+@Table(
+        name = "clubs",
+        indexes = {
+                @Index(name = "idx_clubs_created_at", columnList = "created_at, club_id"),
+                @Index(name = "idx_clubs_type", columnList = "club_type"),
+                @Index(name = "idx_clubs_member_count", columnList = "member_count, club_id")
+        }
+)
 @SQLRestriction("is_deleted = false")
 @SQLDelete(sql = "UPDATE clubs SET is_deleted = true WHERE club_id = ?")
 public class Club extends BaseEntity{
@@ -47,7 +53,8 @@ public class Club extends BaseEntity{
     @ElementCollection
     @CollectionTable(
             name = "club_tags",
-            joinColumns = @JoinColumn(name = "clubId")
+            joinColumns = @JoinColumn(name = "clubId"),
+            indexes = @Index(name = "idx_club_tags_tag", columnList = "tag, club_id")
     )
     @Column(name = "tag")
     @Builder.Default
@@ -57,8 +64,10 @@ public class Club extends BaseEntity{
     @Builder.Default
     private List<ClubJoin> members = new ArrayList<>();
 
-    @Formula("(SELECT count(*) FROM club_joins cj WHERE cj.club_id = club_id AND cj.status = 'ACTIVE')")
-    private int memberCount;
+    // 활동 멤버 수 (club_joins ACTIVE 비정규화, ClubJoinService 에서 SQL 로 증감)
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long memberCount = 0L;
 
     @OneToMany(mappedBy = "club", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -12,7 +12,13 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                @Index(name = "idx_comments_post_created_at", columnList = "post_id, created_at, comment_id"),
+                @Index(name = "idx_comments_event_created_at", columnList = "event_id, created_at, comment_id")
+        }
+)
 @SQLRestriction("is_deleted = false")
 @SQLDelete(sql = "UPDATE comments SET is_deleted = true WHERE comment_id = ?")
 public class Comment extends BaseEntity {
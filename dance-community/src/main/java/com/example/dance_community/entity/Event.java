@@ -5,7 +5,6 @@ import com.example.dance_community.enums.EventType;
 import com.example.dance_community.enums.Scope;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -19,7 +18,13 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "events")
+@Table(
+        name = "events",
+        indexes = {
+                @Index(name = "idx_events_created_at", columnList = "created_at, event_id"),
+                @Index(name = "idx_events_starts_at", columnList = "starts_at, event_id")
+        }
+)
 @SQLRestriction("is_deleted = false")
 @SQLDelete(sql = "UPDATE events SET is_deleted = true WHERE event_id = ?")
 public class Event extends BaseEntity implements ImageHolder{
@@ -59,7 +64,8 @@ public class Event extends BaseEntity implements ImageHolder{
     @ElementCollection
     @CollectionTable(
             name = "event_tags",
-            joinColumns = @JoinColumn(name = "eventId")
+            joinColumns = @JoinColumn(name = "eventId"),
+            indexes = @Index(name = "idx_event_tags_tag", columnList = "tag, event_id")
     )
     @Column(name = "tag")
     @Builder.Default
@@ -88,8 +94,11 @@ public class Event extends BaseEntity implements ImageHolder{
     @Builder.Default
     private List<EventJoin> participants = new ArrayList<>();
 
-    @Formula("(SELECT count(*) FROM event_joins ej WHERE ej.event_id = event_id AND ej.status = 'CONFIRMED')")
-    private int participantCount;
+    // 확정 참가자 수 (event_joins CONFIRMED 비정규화, 조건부 UPDATE로만 갱신)
+    // 카운터는 SQL 로만 증감하므로 엔티티 수정 시 읽어 둔 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long confirmedCount = 0L;
 
     // 행사 일시 (시작, 종료 시간)
     @Column(nullable = false)
@@ -97,14 +106,19 @@ public class Event extends BaseEntity implements ImageHolder{
     @Column(nullable = false)
     private LocalDateTime endsAt;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long likeCount = 0L;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
+    // 댓글 수 (comments 를 세지 않도록 비정규화, CommentService 에서 SQL 로 증감)
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<EventLike> likes = new ArrayList<>();
@@ -136,6 +150,8 @@ public class Event extends BaseEntity implements ImageHolder{
         this.endsAt = endsAt;
         this.likeCount = 0L;
         this.viewCount = 0L;
+        this.confirmedCount = 0L;
+        this.commentCount = 0L;
     }
 
     public Event setHost(User host) {
@@ -165,14 +181,6 @@ public class Event extends BaseEntity implements ImageHolder{
     public void updateImages(List<String> images) {
         this.images = images;
     }
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 
     // Convenience Methods for EventJoin
     public void addParticipant(User user, EventJoinStatus status) {
@@ -4,6 +4,8 @@ import com.example.dance_community.enums.EventJoinStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Builder
@@ -17,6 +19,9 @@ import lombok.*;
                         name = "unique_user_event",
                         columnNames = {"user_id", "event_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_event_joins_event_status", columnList = "event_id, status, waitlisted_at")
         }
 )
 public class EventJoin extends BaseEntity{
@@ -36,6 +41,10 @@ public class EventJoin extends BaseEntity{
     @Column(nullable = false)
     private EventJoinStatus status;
 
+    // 대기열 순번 기준 (WAITLISTED 로 바뀐 시각, 다른 상태에서는 null)
+    // updatedAt 은 다른 수정에도 갱신되므로 순번으로 쓰지 않음
+    private LocalDateTime waitlistedAt;
+
     // CREATE
     private EventJoin(User participant, Event event, EventJoinStatus status) {
         validateEventJoin(participant, event, status);
@@ -47,9 +56,22 @@ public class EventJoin extends BaseEntity{
     // UPDATE
     public void changeStatus(EventJoinStatus newStatus) {
         if (newStatus == null) throw new IllegalArgumentException("이벤트 신청 - 상태 미입력");
+        if (newStatus != EventJoinStatus.WAITLISTED) {
+            this.waitlistedAt = null;
+        } else if (this.status != EventJoinStatus.WAITLISTED) {
+            this.waitlistedAt = LocalDateTime.now();
+        }
         this.status = newStatus;
     }
 
+    // 빌더로 바로 WAITLISTED 생성된 경우에도 순번 시각을 채움
+    @PrePersist
+    private void initWaitlistedAt() {
+        if (status == EventJoinStatus.WAITLISTED && waitlistedAt == null) {
+            this.waitlistedAt = LocalDateTime.now();
+        }
+    }
+
     // Check Methods
     private void validateEventJoin(User user, Event event, EventJoinStatus status) {
         if (user == null) {
@@ -15,7 +15,12 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_created_at", columnList = "created_at, post_id")
+        }
+)
 @SQLRestriction("is_deleted = false")
 @SQLDelete(sql = "UPDATE posts SET is_deleted = true WHERE post_id = ?")
 public class Post extends BaseEntity implements ImageHolder{
@@ -50,7 +55,8 @@ public class Post extends BaseEntity implements ImageHolder{
     @ElementCollection
     @CollectionTable(
             name = "post_tags",
-            joinColumns = @JoinColumn(name = "postId")
+            joinColumns = @JoinColumn(name = "postId"),
+            indexes = @Index(name = "idx_post_tags_tag", columnList = "tag, post_id")
     )
     @Column(name = "tag")
     @Builder.Default
@@ -65,14 +71,20 @@ public class Post extends BaseEntity implements ImageHolder{
     @Builder.Default
     private List<String> images = new ArrayList<>();
 
-    @Column(nullable = false)
+    // 카운터는 SQL 로만 증감하므로 엔티티 수정 시 읽어 둔 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long likeCount = 0L;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
+    // 댓글 수 (comments 를 세지 않도록 비정규화, CommentService 에서 SQL 로 증감)
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<PostLike> likes = new ArrayList<>();
@@ -95,6 +107,7 @@ public class Post extends BaseEntity implements ImageHolder{
         this.images = images == null ? new ArrayList<>() : new ArrayList<>(images);
         this.likeCount = 0L;
         this.viewCount = 0L;
+        this.commentCount = 0L;
     }
 
     public Post setAuthor(User author) {
@@ -116,14 +129,6 @@ public class Post extends BaseEntity implements ImageHolder{
     public void updateImages(List<String> images) {
         this.images = images;
     }
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 
     // Check Methods
     private void checkNullOrBlank(String value, String fieldName) {
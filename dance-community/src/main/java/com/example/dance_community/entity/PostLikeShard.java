@@ -0,0 +1,42 @@
+package com.example.dance_community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좋아요가 몰리는 게시글의 좋아요 수 증감분 (posts.like_count 에 주기적으로 합산)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_like_shards",
+        uniqueConstraints = {
+                // addDelta 의 ON DUPLICATE KEY UPDATE 가 이 키에 의존
+                @UniqueConstraint(
+                        name = "unique_post_shard",
+                        columnNames = {"post_id", "shard_no"}
+                )
+        }
+)
+public class PostLikeShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long shardId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Long delta;
+
+    public PostLikeShard(Long postId, Integer shardNo, Long delta) {
+        this.postId = postId;
+        this.shardNo = shardNo;
+        this.delta = delta;
+    }
+}
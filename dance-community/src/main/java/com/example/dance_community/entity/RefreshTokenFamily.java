@@ -0,0 +1,51 @@
+package com.example.dance_community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// refresh token family 영속 사본 (메모리 저장소가 write-behind 로 기록, 재기동 시 복원용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refresh_token_families",
+        indexes = {
+                @Index(name = "idx_refresh_token_families_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_families_expires_at", columnList = "expires_at")
+        }
+)
+public class RefreshTokenFamily {
+
+    @Id
+    @Column(length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 36)
+    private String currentTokenId;
+
+    // epoch millis
+    @Column(nullable = false)
+    private Long expiresAt;
+
+    @Column(nullable = false)
+    private Boolean revoked;
+
+    public RefreshTokenFamily(String familyId, Long userId, String currentTokenId, Long expiresAt, Boolean revoked) {
+        this.familyId = familyId;
+        this.userId = userId;
+        this.currentTokenId = currentTokenId;
+        this.expiresAt = expiresAt;
+        this.revoked = revoked;
+    }
+
+    public void update(String currentTokenId, Long expiresAt, Boolean revoked) {
+        this.currentTokenId = currentTokenId;
+        this.expiresAt = expiresAt;
+        this.revoked = revoked;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.dance_community.enums;
+
+public enum ClubSortType {
+    LATEST("최신순"),
+    MEMBER_COUNT("멤버 많은순");
+
+    private final String description;
+
+    ClubSortType(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.dance_community.enums;
 
 public enum EventJoinStatus {
     CONFIRMED("확인됨"),
+    WAITLISTED("대기중"),
     CANCELED("취소됨"),
     REJECTED("거절됨");
 
@@ -0,0 +1,16 @@
+package com.example.dance_community.enums;
+
+public enum EventSortType {
+    LATEST("최신순"),
+    STARTS_AT("시작일순");
+
+    private final String description;
+
+    EventSortType(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.dance_community.enums;
+
+public enum RefreshRotationResult {
+    ROTATED("교체 완료"),
+    REUSED("재사용 감지"),
+    INVALID("만료 또는 폐기");
+
+    private final String description;
+
+    RefreshRotationResult(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
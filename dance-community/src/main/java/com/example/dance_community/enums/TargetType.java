@@ -0,0 +1,16 @@
+package com.example.dance_community.enums;
+
+public enum TargetType {
+    POST("게시글"),
+    EVENT("행사");
+
+    private final String description;
+
+    TargetType(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
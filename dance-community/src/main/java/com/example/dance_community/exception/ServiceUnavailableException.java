@@ -0,0 +1,5 @@
+package com.example.dance_community.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String msg){ super(msg); }
+}
@@ -0,0 +1,5 @@
+package com.example.dance_community.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String msg){ super(msg); }
+}
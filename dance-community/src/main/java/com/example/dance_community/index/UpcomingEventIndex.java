@@ -0,0 +1,308 @@
+package com.example.dance_community.index;
+
+import com.example.dance_community.config.UpcomingEventProperties;
+import com.example.dance_community.dto.event.EventCounts;
+import com.example.dance_community.dto.event.EventResponse;
+import com.example.dance_community.entity.Event;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// 시작 전 행사를 공개 범위별(GLOBAL, 동아리별) 스킵 리스트에 시작 시각 순으로 보관 (범위마다 앞쪽 perScopeLimit 개)
+// EventService 의 생성/수정/삭제를 커밋 후 반영하고, 참가 인원 등 카운터는 별도 주기로 값만 갱신
+@Component
+public class UpcomingEventIndex {
+    private final EventRepository eventRepository;
+    private final UpcomingEventProperties properties;
+
+    private final ConcurrentSkipListMap<Key, EventResponse> global = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, ConcurrentSkipListMap<Key, EventResponse>> byClub = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    // 재적재 도중 들어온 반영분을 덮어쓰지 않도록 행사별 마지막 반영 버전 기록
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> touched = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    public UpcomingEventIndex(EventRepository eventRepository, UpcomingEventProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+
+        Gauge.builder("upcoming_events.indexed", slots, Map::size)
+                .description("인덱스에 보관 중인 시작 전 행사 수")
+                .register(meterRegistry);
+    }
+
+    // 접근 가능한 범위(GLOBAL + 내 동아리)의 목록을 시작 시각 순으로 병합해 limit 개 반환
+    // 첫 적재는 스케줄러가 기동 직후 수행하므로 그 전에는 빈 목록
+    public List<EventResponse> upcoming(Collection<Long> myClubIds, int limit) {
+        return upcoming(myClubIds, limit, LocalDateTime.now());
+    }
+
+    public void upsertAfterCommit(EventResponse event) {
+        afterCommit(() -> upsert(event));
+    }
+
+    public void removeAfterCommit(Long eventId) {
+        afterCommit(() -> remove(eventId));
+    }
+
+    public void removeByHostAfterCommit(Long hostId) {
+        afterCommit(() -> removeIf(event -> hostId.equals(event.hostId())));
+    }
+
+    public void removeByClubAfterCommit(Long clubId) {
+        afterCommit(() -> removeIf(event -> clubId.equals(event.clubId())));
+    }
+
+    @Scheduled(fixedDelayString = "${upcoming-events.reload-interval-ms:300000}", initialDelayString = "${upcoming-events.reload-initial-delay-ms:0}")
+    public synchronized void reload() {
+        long startVersion = version.get();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> eventIds = eventRepository.findUpcomingEventIdsPerScope(now, properties.getPerScopeLimit());
+        Set<Long> loadedIds = Set.copyOf(eventIds);
+
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < eventIds.size(); from += batchSize) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + batchSize, eventIds.size()));
+            for (EventResponse response : toResponses(eventRepository.findEventsByIds(chunk))) {
+                if (touched.getOrDefault(response.eventId(), 0L) <= startVersion) {
+                    put(response);
+                }
+            }
+        }
+        for (Long eventId : List.copyOf(slots.keySet())) {
+            if (!loadedIds.contains(eventId) && touched.getOrDefault(eventId, 0L) <= startVersion) {
+                removeSlot(eventId);
+            }
+        }
+        touched.values().removeIf(stamp -> stamp <= startVersion);
+        evictStarted(now);
+        loaded = true;
+    }
+
+    // 참가/조회/좋아요/댓글 수만 다시 읽어 보관 중인 스냅샷에 덮어씀
+    @Scheduled(fixedDelayString = "${upcoming-events.count-refresh-interval-ms:30000}", initialDelayString = "${upcoming-events.count-refresh-interval-ms:30000}")
+    public void refreshCounts() {
+        if (!loaded) {
+            return;
+        }
+
+        List<Long> eventIds = List.copyOf(slots.keySet());
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < eventIds.size(); from += batchSize) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + batchSize, eventIds.size()));
+            eventRepository.findCountsByEventIds(chunk).forEach(this::applyCounts);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${upcoming-events.evict-interval-ms:60000}", initialDelayString = "${upcoming-events.evict-interval-ms:60000}")
+    public void evictStarted() {
+        evictStarted(LocalDateTime.now());
+    }
+
+    List<EventResponse> upcoming(Collection<Long> myClubIds, int limit, LocalDateTime now) {
+        Key from = new Key(now, Long.MAX_VALUE);
+
+        List<Iterator<EventResponse>> sources = new ArrayList<>();
+        sources.add(global.tailMap(from).values().iterator());
+        if (myClubIds != null) {
+            for (Long clubId : myClubIds) {
+                ConcurrentSkipListMap<Key, EventResponse> clubEvents = byClub.get(clubId);
+                if (clubEvents != null) {
+                    sources.add(clubEvents.tailMap(from).values().iterator());
+                }
+            }
+        }
+
+        // 각 목록이 이미 정렬돼 있으므로 목록별 선두만 힙에 두고 k-way 병합
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::key));
+        for (Iterator<EventResponse> source : sources) {
+            offerNext(heads, source);
+        }
+
+        List<EventResponse> result = new ArrayList<>(limit);
+        while (!heads.isEmpty() && result.size() < limit) {
+            Head head = heads.poll();
+            result.add(head.event());
+            offerNext(heads, head.source());
+        }
+        return result;
+    }
+
+    void upsert(EventResponse event) {
+        touched.put(event.eventId(), version.incrementAndGet());
+        put(event);
+    }
+
+    void remove(Long eventId) {
+        touched.put(eventId, version.incrementAndGet());
+        removeSlot(eventId);
+    }
+
+    void evictStarted(LocalDateTime now) {
+        Key until = new Key(now, Long.MAX_VALUE);
+        evictStarted(global, until);
+        for (Long clubId : List.copyOf(byClub.keySet())) {
+            byClub.computeIfPresent(clubId, (id, clubEvents) -> {
+                evictStarted(clubEvents, until);
+                return clubEvents.isEmpty() ? null : clubEvents;
+            });
+        }
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private void put(EventResponse event) {
+        if (!event.startsAt().isAfter(LocalDateTime.now())) {
+            removeSlot(event.eventId());
+            return;
+        }
+
+        Long clubId = Scope.CLUB.name().equals(event.scope()) ? event.clubId() : null;
+        Slot slot = new Slot(new Key(event.startsAt(), event.eventId()), clubId);
+
+        // 시작 시각이나 공개 범위가 바뀌었으면 이전 위치부터 정리
+        Slot previous = slots.put(event.eventId(), slot);
+        if (previous != null && !previous.equals(slot)) {
+            removeFromScope(previous);
+        }
+        if (clubId == null) {
+            global.put(slot.key(), event);
+        } else {
+            byClub.compute(clubId, (id, clubEvents) -> {
+                ConcurrentSkipListMap<Key, EventResponse> target = clubEvents != null ? clubEvents : new ConcurrentSkipListMap<>();
+                target.put(slot.key(), event);
+                return target;
+            });
+        }
+    }
+
+    // 조회 사이에 upsert 로 스냅샷이 바뀌었으면 그쪽이 최신이므로 건너뜀
+    private void applyCounts(EventCounts counts) {
+        Slot slot = slots.get(counts.eventId());
+        if (slot == null) {
+            return;
+        }
+        ConcurrentSkipListMap<Key, EventResponse> scope = slot.clubId() == null ? global : byClub.get(slot.clubId());
+        if (scope == null) {
+            return;
+        }
+        EventResponse current = scope.get(slot.key());
+        if (current != null) {
+            scope.replace(slot.key(), current, current.withCounts(counts));
+        }
+    }
+
+    private void removeSlot(Long eventId) {
+        Slot slot = slots.remove(eventId);
+        if (slot != null) {
+            removeFromScope(slot);
+        }
+    }
+
+    private void removeIf(Predicate<EventResponse> condition) {
+        List<Long> targets = new ArrayList<>();
+        global.values().stream().filter(condition).forEach(event -> targets.add(event.eventId()));
+        byClub.values().forEach(clubEvents ->
+                clubEvents.values().stream().filter(condition).forEach(event -> targets.add(event.eventId())));
+        targets.forEach(this::remove);
+    }
+
+    private void removeFromScope(Slot slot) {
+        if (slot.clubId() == null) {
+            global.remove(slot.key());
+            return;
+        }
+        byClub.computeIfPresent(slot.clubId(), (id, clubEvents) -> {
+            clubEvents.remove(slot.key());
+            return clubEvents.isEmpty() ? null : clubEvents;
+        });
+    }
+
+    private void evictStarted(ConcurrentSkipListMap<Key, EventResponse> events, Key until) {
+        ConcurrentNavigableMap<Key, EventResponse> started = events.headMap(until, true);
+        started.keySet().forEach(key ->
+                slots.computeIfPresent(key.eventId(), (id, slot) -> slot.key().equals(key) ? null : slot));
+        started.clear();
+    }
+
+    private List<EventResponse> toResponses(List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> eventIds = events.stream().map(Event::getEventId).toList();
+        Map<Long, List<String>> tags = eventRepository.findTagsByEventIds(eventIds);
+        Map<Long, List<String>> images = eventRepository.findImagesByEventIds(eventIds);
+
+        return events.stream()
+                .map(event -> EventResponse.from(
+                        event,
+                        false,
+                        tags.getOrDefault(event.getEventId(), List.of()),
+                        images.getOrDefault(event.getEventId(), List.of())
+                ))
+                .toList();
+    }
+
+    private static void offerNext(PriorityQueue<Head> heads, Iterator<EventResponse> source) {
+        if (source.hasNext()) {
+            EventResponse event = source.next();
+            heads.offer(new Head(new Key(event.startsAt(), event.eventId()), event, source));
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 변경이 인덱스에 남지 않도록)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(LocalDateTime startsAt, Long eventId) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::startsAt).thenComparing(Key::eventId);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Slot(Key key, Long clubId) {
+    }
+
+    private record Head(Key key, EventResponse event, Iterator<EventResponse> source) {
+    }
+}
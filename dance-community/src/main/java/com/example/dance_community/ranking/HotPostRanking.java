@@ -0,0 +1,234 @@
+package com.example.dance_community.ranking;
+
+import com.example.dance_community.config.HotPostProperties;
+import com.example.dance_community.dto.post.PostResponse;
+import com.example.dance_community.entity.Post;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 인기글 순위: 좋아요/조회/댓글이 일어날 때마다 게시글 점수를 지수 감쇠로 누적하고,
+// 주기적으로 상위 K 개를 골라 응답 스냅샷을 만들어 둠 (조회 요청은 스냅샷만 읽음)
+@Component
+public class HotPostRanking {
+    private final PostRepository postRepository;
+    private final HotPostProperties properties;
+    private final double decayPerMs;
+    private final ConcurrentHashMap<Long, Score> scores = new ConcurrentHashMap<>();
+    private final Timer refreshTimer;
+
+    private volatile List<PostResponse> snapshot = List.of();
+    private volatile boolean seeded = false;
+
+    public HotPostRanking(PostRepository postRepository, HotPostProperties properties, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.decayPerMs = Math.log(2) / properties.getHalfLifeMs();
+
+        this.refreshTimer = Timer.builder("hot_posts.refresh")
+                .description("인기글 스냅샷 갱신 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("hot_posts.tracked", scores, Map::size)
+                .description("점수를 유지 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public List<PostResponse> hotPosts() {
+        return snapshot;
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 좋아요/댓글은 점수에 넣지 않음)
+    public void recordLikesAfterCommit(Collection<Long> postIds, int delta) {
+        List<Long> copied = List.copyOf(postIds);
+        afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            copied.forEach(postId -> record(postId, delta * properties.getLikeWeight(), now));
+        });
+    }
+
+    public void recordView(Long postId) {
+        record(postId, properties.getViewWeight(), System.currentTimeMillis());
+    }
+
+    public void recordCommentAfterCommit(Long postId, int delta) {
+        afterCommit(() -> record(postId, delta * properties.getCommentWeight(), System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${hot-posts.refresh-interval-ms:10000}", initialDelayString = "${hot-posts.refresh-initial-delay-ms:5000}")
+    public void refresh() {
+        refreshTimer.record(() -> refresh(System.currentTimeMillis()));
+    }
+
+    void refresh(long now) {
+        if (!seeded) {
+            seed(now);
+        }
+
+        List<Long> candidateIds = topCandidates(properties.getSize() * 3, now);
+        if (candidateIds.isEmpty()) {
+            snapshot = List.of();
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusDays(properties.getMaxAgeDays());
+        Map<Long, Post> eligible = postRepository.findHotPostCandidates(candidateIds, since).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+        // 삭제됐거나, 동아리 공개글이거나, 기간이 지난 게시글은 점수에서도 제거
+        // 남은 게시글은 작성 시각을 기억해 두어 기간을 넘기면 후보에 오르지 않아도 prune 에서 제거
+        candidateIds.stream().filter(postId -> !eligible.containsKey(postId)).forEach(scores::remove);
+        eligible.values().forEach(this::rememberCreatedAt);
+
+        List<Post> ranked = candidateIds.stream()
+                .map(eligible::get)
+                .filter(Objects::nonNull)
+                .limit(properties.getSize())
+                .toList();
+        snapshot = toResponses(ranked);
+
+        prune(now);
+    }
+
+    void record(Long postId, double weight, long now) {
+        scores.compute(postId, (id, old) -> old == null
+                ? new Score(Math.max(weight, 0), now, 0L)
+                : old.add(weight, now, decayPerMs));
+    }
+
+    void rememberCreatedAt(Post post) {
+        if (post.getCreatedAt() == null) {
+            return;
+        }
+        long createdAt = toEpochMilli(post.getCreatedAt());
+        scores.computeIfPresent(post.getPostId(), (id, score) -> score.withCreatedAt(createdAt));
+    }
+
+    // 현재 감쇠 점수 기준 상위 limit 개 (점수 내림차순)
+    List<Long> topCandidates(int limit, long now) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+            double value = entry.getValue().decayedAt(now, decayPerMs);
+            if (value <= 0) {
+                continue;
+            }
+            heap.offer(Map.entry(entry.getKey(), value));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> top = new ArrayList<>(heap);
+        top.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        return top.stream().map(Map.Entry::getKey).toList();
+    }
+
+    int trackedCount() {
+        return scores.size();
+    }
+
+    // 기동 직후 메모리에 점수가 없으므로 누적 수치와 작성 시각으로 초기 점수를 채움
+    private void seed(long now) {
+        for (Post post : postRepository.findHotPosts(PageRequest.of(0, properties.getSeedLimit()))) {
+            double weight = post.getLikeCount() * properties.getLikeWeight()
+                    + post.getViewCount() * properties.getViewWeight()
+                    + post.getCommentCount() * properties.getCommentWeight();
+            long createdAt = toEpochMilli(post.getCreatedAt());
+            record(post.getPostId(), weight * Math.exp(-decayPerMs * Math.max(0, now - createdAt)), now);
+            rememberCreatedAt(post);
+        }
+        seeded = true;
+    }
+
+    private List<PostResponse> toResponses(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getPostId).toList();
+        Map<Long, List<String>> tags = postRepository.findTagsByPostIds(postIds);
+        Map<Long, List<String>> images = postRepository.findImagesByPostIds(postIds);
+
+        return posts.stream()
+                .map(post -> PostResponse.from(
+                        post,
+                        false,
+                        tags.getOrDefault(post.getPostId(), List.of()),
+                        images.getOrDefault(post.getPostId(), List.of())
+                ))
+                .toList();
+    }
+
+    // 기준 이하로 감쇠한 점수와 작성 후 maxAgeDays 가 지난 게시글을 지우고, 상한을 넘으면 낮은 점수부터 제거
+    void prune(long now) {
+        long createdAfter = now - Duration.ofDays(properties.getMaxAgeDays()).toMillis();
+        scores.entrySet().removeIf(entry -> entry.getValue().decayedAt(now, decayPerMs) <= properties.getPruneScore()
+                || entry.getValue().createdBefore(createdAfter));
+
+        int overflow = scores.size() - properties.getMaxTracked();
+        if (overflow > 0) {
+            scores.entrySet().stream()
+                    .sorted(Comparator.comparingDouble(entry -> entry.getValue().decayedAt(now, decayPerMs)))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(scores::remove);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // createdAt: 게시글 작성 시각 (아직 모르면 0)
+    private record Score(double value, long at, long createdAt) {
+        double decayedAt(long now, double decayPerMs) {
+            return value * Math.exp(-decayPerMs * Math.max(0, now - at));
+        }
+
+        Score add(double weight, long now, double decayPerMs) {
+            long base = Math.max(now, at);
+            return new Score(Math.max(decayedAt(base, decayPerMs) + weight, 0), base, createdAt);
+        }
+
+        Score withCreatedAt(long createdAt) {
+            return new Score(value, at, createdAt);
+        }
+
+        boolean createdBefore(long time) {
+            return createdAt > 0 && createdAt < time;
+        }
+    }
+}
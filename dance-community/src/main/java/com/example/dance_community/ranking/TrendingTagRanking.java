@@ -0,0 +1,190 @@
+package com.example.dance_community.ranking;
+
+import com.example.dance_community.config.TrendingTagProperties;
+import com.example.dance_community.dto.tag.TagUse;
+import com.example.dance_community.dto.tag.TrendingTagResponse;
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 인기 태그: GLOBAL 게시글/행사에 태그가 쓰일 때마다 태그 점수를 지수 감쇠로 누적하고,
+// 주기적으로 상위 K 개를 골라 스냅샷을 만들어 둠 (조회 요청은 스냅샷만 읽음)
+@Component
+public class TrendingTagRanking {
+    private static final double PRUNE_SCORE = 0.01;
+
+    private final PostRepository postRepository;
+    private final EventRepository eventRepository;
+    private final TrendingTagProperties properties;
+    private final double decayPerMs;
+    private final ConcurrentHashMap<String, Score> scores = new ConcurrentHashMap<>();
+    private final Timer refreshTimer;
+
+    private volatile List<TrendingTagResponse> snapshot = List.of();
+    private volatile boolean seeded = false;
+
+    public TrendingTagRanking(PostRepository postRepository, EventRepository eventRepository,
+                              TrendingTagProperties properties, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+        this.decayPerMs = Math.log(2) / properties.getHalfLifeMs();
+
+        this.refreshTimer = Timer.builder("trending_tags.refresh")
+                .description("인기 태그 스냅샷 갱신 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("trending_tags.tracked", scores, Map::size)
+                .description("점수를 유지 중인 태그 수")
+                .register(meterRegistry);
+    }
+
+    public List<TrendingTagResponse> trendingTags() {
+        return snapshot;
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 글의 태그는 세지 않음)
+    public void recordAfterCommit(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        Set<String> copied = new LinkedHashSet<>(tags);
+        afterCommit(() -> record(copied, System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${trending-tags.refresh-interval-ms:60000}", initialDelayString = "${trending-tags.refresh-initial-delay-ms:5000}")
+    public void refresh() {
+        refreshTimer.record(() -> refresh(System.currentTimeMillis()));
+    }
+
+    void refresh(long now) {
+        if (!seeded) {
+            seed(now);
+        }
+
+        snapshot = top(properties.getSize(), now);
+        prune(now);
+    }
+
+    // 한 글 안에서 같은 태그는 한 번만 셈 (앞뒤 공백만 무시)
+    // 피드 tag 필터가 trim 한 값으로 정확히 비교하므로 대소문자는 바꾸지 않음 (바꾸면 순위의 태그로 필터가 안 맞음)
+    void record(Collection<String> tags, long now) {
+        tags.stream()
+                .map(TrendingTagRanking::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(tag -> record(tag, 1.0, now));
+    }
+
+    List<TrendingTagResponse> top(int limit, long now) {
+        PriorityQueue<Map.Entry<String, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Score> entry : scores.entrySet()) {
+            double value = entry.getValue().decayedAt(now, decayPerMs);
+            if (value < PRUNE_SCORE) {
+                continue;
+            }
+            heap.offer(Map.entry(entry.getKey(), value));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<String, Double>> top = new ArrayList<>(heap);
+        top.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        return top.stream()
+                .map(entry -> new TrendingTagResponse(entry.getKey(), Math.round(entry.getValue() * 100) / 100.0))
+                .toList();
+    }
+
+    int trackedCount() {
+        return scores.size();
+    }
+
+    private void record(String tag, double weight, long now) {
+        scores.compute(tag, (key, old) -> old == null
+                ? new Score(weight, now)
+                : old.add(weight, now, decayPerMs));
+    }
+
+    // 기동 직후 메모리에 점수가 없으므로 최근 글/행사의 태그를 작성 시각만큼 감쇠시켜 채움
+    private void seed(long now) {
+        LocalDateTime since = LocalDateTime.now().minusDays(properties.getSeedDays());
+        Stream.concat(postRepository.findTagUsesSince(since).stream(), eventRepository.findTagUsesSince(since).stream())
+                .forEach(use -> seed(use, now));
+        seeded = true;
+    }
+
+    private void seed(TagUse use, long now) {
+        String tag = normalize(use.tag());
+        if (tag == null) {
+            return;
+        }
+        long usedAt = use.usedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        record(tag, Math.exp(-decayPerMs * Math.max(0, now - usedAt)), now);
+    }
+
+    // 거의 0 으로 감쇠한 점수를 지우고, 상한을 넘으면 낮은 점수부터 제거
+    private void prune(long now) {
+        scores.entrySet().removeIf(entry -> entry.getValue().decayedAt(now, decayPerMs) < PRUNE_SCORE);
+
+        int overflow = scores.size() - properties.getMaxTracked();
+        if (overflow > 0) {
+            scores.entrySet().stream()
+                    .sorted(Comparator.comparingDouble(entry -> entry.getValue().decayedAt(now, decayPerMs)))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(scores::remove);
+        }
+    }
+
+    private static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        return tag.trim();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Score(double value, long at) {
+        double decayedAt(long now, double decayPerMs) {
+            return value * Math.exp(-decayPerMs * Math.max(0, now - at));
+        }
+
+        Score add(double weight, long now, double decayPerMs) {
+            long base = Math.max(now, at);
+            return new Score(decayedAt(base, decayPerMs) + weight, base);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.dance_community.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 키별 토큰 버킷 모음. 키 수에 상한을 두고, 넘치면 가득 찬(유휴) 버킷만 비움
+// 사용 중인 버킷은 내보내지 않음 (내보내면 그 키의 한도가 초기화되어 제한이 풀림)
+// 지표: rate_limit.rejected, rate_limit.evictions, rate_limit.overflow, rate_limit.keys (tag: limiter=<name>)
+public class RateLimiter {
+    // 키가 가득 찼을 때 유휴 버킷 정리를 다시 시도하기까지의 최소 간격 (새 키마다 전체 순회하지 않도록)
+    private static final long MAKE_ROOM_INTERVAL_MS = 1_000L;
+
+    // 사용 중인 버킷만으로 키가 가득 찼을 때 새 키 처리 방식
+    public enum WhenFull {
+        // 거절
+        DENY,
+        // 추적하지 않고 허용 (다른 한도가 앞단에서 이미 걸러 주는 경우)
+        ALLOW
+    }
+
+    private final long capacity;
+    private final double refillPerMs;
+    private final int maxKeys;
+    private final WhenFull whenFull;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastMakeRoomAt;
+
+    private final Counter rejectedCounter;
+    private final Counter evictionCounter;
+    private final Counter overflowCounter;
+
+    public RateLimiter(String name, long capacity, long refillPerMinute, int maxKeys, MeterRegistry meterRegistry) {
+        this(name, capacity, refillPerMinute, maxKeys, WhenFull.DENY, meterRegistry);
+    }
+
+    public RateLimiter(String name, long capacity, long refillPerMinute, int maxKeys, WhenFull whenFull,
+                       MeterRegistry meterRegistry) {
+        this(name, capacity, refillPerMinute, maxKeys, whenFull, meterRegistry, System::currentTimeMillis);
+    }
+
+    RateLimiter(String name, long capacity, long refillPerMinute, int maxKeys, WhenFull whenFull,
+                MeterRegistry meterRegistry, LongSupplier clock) {
+        this.capacity = capacity;
+        this.refillPerMs = refillPerMinute / 60_000.0;
+        this.maxKeys = maxKeys;
+        this.whenFull = whenFull;
+        this.clock = clock;
+        this.lastMakeRoomAt = new AtomicLong(clock.getAsLong() - MAKE_ROOM_INTERVAL_MS);
+
+        this.rejectedCounter = Counter.builder("rate_limit.rejected").tag("limiter", name)
+                .description("한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("rate_limit.evictions").tag("limiter", name)
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("rate_limit.overflow").tag("limiter", name)
+                .description("키가 가득 차 버킷 없이 처리된 새 키 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("rate_limit.keys", buckets, Map::size).tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !makeRoom(now)) {
+                overflowCounter.increment();
+                if (whenFull == WhenFull.ALLOW) {
+                    return true;
+                }
+                rejectedCounter.increment();
+                return false;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerMs, now));
+        }
+
+        if (bucket.tryConsume(now)) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public void evictIdle() {
+        evictIdle(clock.getAsLong());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evictIdle(long now) {
+        buckets.entrySet().removeIf(entry -> {
+            boolean idle = entry.getValue().isFull(now);
+            if (idle) {
+                evictionCounter.increment();
+            }
+            return idle;
+        });
+    }
+
+    // 유휴 버킷 정리는 간격당 한 스레드만 수행, 그래도 가득 차 있으면 자리 없음
+    private boolean makeRoom(long now) {
+        long last = lastMakeRoomAt.get();
+        if (now - last >= MAKE_ROOM_INTERVAL_MS && lastMakeRoomAt.compareAndSet(last, now)) {
+            evictIdle(now);
+        }
+        return buckets.size() < maxKeys;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.dance_community.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 락 없는 토큰 버킷. 상태(남은 토큰, 마지막 갱신 시각)를 불변 객체로 두고 CAS 로 교체
+public class TokenBucket {
+    private final long capacity;
+    private final double refillPerMs;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerMs, long now) {
+        this.capacity = capacity;
+        this.refillPerMs = refillPerMs;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    public boolean tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, now);
+            if (tokens < 1) {
+                return false;
+            }
+            State next = new State(tokens - 1, Math.max(now, current.updatedAt()));
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 제한이 풀리지 않음
+    public boolean isFull(long now) {
+        return available(state.get(), now) >= capacity;
+    }
+
+    private double available(State current, long now) {
+        long elapsed = Math.max(0, now - current.updatedAt());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerMs);
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.dance_community.repository;
 import com.example.dance_community.entity.ClubJoin;
 import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.repository.custom.ClubJoinRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,9 @@ public interface ClubJoinRepository extends JpaRepository<ClubJoin, Long> , Club
     @Query("SELECT cj.club.clubId FROM ClubJoin cj WHERE cj.user.userId = :userId AND cj.status = :status")
     List<Long> findClubIdsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ClubJoinStatus status);
 
+    @Query("SELECT cj.user.userId FROM ClubJoin cj WHERE cj.club.clubId = :clubId AND cj.status = :status")
+    List<Long> findUserIdsByClubIdAndStatus(@Param("clubId") Long clubId, @Param("status") ClubJoinStatus status, Pageable pageable);
+
     @Modifying()
     @Query("UPDATE ClubJoin cj SET cj.status = :status WHERE cj.user.userId = :userId")
     void softDeleteByUserId(@Param("userId") Long userId, @Param("status") ClubJoinStatus status);
@@ -1,9 +1,43 @@
 package com.example.dance_community.repository;
 
 import com.example.dance_community.entity.Club;
+import com.example.dance_community.repository.custom.ClubRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface ClubRepository extends JpaRepository<Club, Long> {
-}
\ No newline at end of file
+public interface ClubRepository extends JpaRepository<Club, Long>, ClubRepositoryCustom {
+    // 멤버 수는 엔티티를 거치지 않고 SQL 에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Club c SET c.memberCount = c.memberCount + 1 WHERE c.clubId = :clubId")
+    int increaseMemberCount(@Param("clubId") Long clubId);
+
+    @Modifying
+    @Query("UPDATE Club c SET c.memberCount = c.memberCount - 1 WHERE c.clubId IN :clubIds AND c.memberCount > 0")
+    int decreaseMemberCounts(@Param("clubIds") Collection<Long> clubIds);
+
+    @Query("SELECT coalesce(max(c.clubId), 0) FROM Club c")
+    Long findMaxClubId();
+
+    // 멤버 수 보정 대상 (afterId < club_id <= toId, 잠금 없는 조회)
+    @Query(value = "SELECT c.club_id FROM clubs c " +
+            "WHERE c.club_id > :afterId AND c.club_id <= :toId AND c.is_deleted = false AND c.member_count <> " +
+            "(SELECT count(*) FROM club_joins cj WHERE cj.club_id = c.club_id AND cj.status = 'ACTIVE')",
+            nativeQuery = true)
+    List<Long> findMemberCountDriftIds(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 지정한 클럽 중 실제 ACTIVE 수와 여전히 어긋난 클럽만 재계산
+    @Modifying
+    @Query(value = "UPDATE clubs c SET member_count = " +
+            "(SELECT count(*) FROM club_joins cj WHERE cj.club_id = c.club_id AND cj.status = 'ACTIVE') " +
+            "WHERE c.club_id IN (:clubIds) AND c.member_count <> " +
+            "(SELECT count(*) FROM club_joins cj WHERE cj.club_id = c.club_id AND cj.status = 'ACTIVE')",
+            nativeQuery = true)
+    int reconcileMemberCounts(@Param("clubIds") Collection<Long> clubIds);
+}
@@ -1,11 +1,8 @@
 package com.example.dance_community.repository;
 
 import com.example.dance_community.entity.Comment;
+import com.example.dance_community.repository.custom.CommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
-
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPost_PostId(Long postId);
-    List<Comment> findByEvent_EventId(Long eventId);
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +18,9 @@ public interface EventJoinRepository extends JpaRepository<EventJoin, Long> , Ev
 
     long countByEvent_EventIdAndStatus(Long eventId, EventJoinStatus status);
 
+    @Query("SELECT ej.event.eventId FROM EventJoin ej WHERE ej.participant.userId = :userId AND ej.status = :status")
+    List<Long> findEventIdsByParticipant(@Param("userId") Long userId, @Param("status") EventJoinStatus status);
+
     @Modifying()
     @Query("UPDATE EventJoin cj SET cj.status = :status WHERE cj.participant.userId = :userId")
     void softDeleteByUserId(@Param("userId") Long userId, @Param("status") EventJoinStatus status);
@@ -1,20 +1,34 @@
 package com.example.dance_community.repository;
 
-import com.example.dance_community.entity.Event;
 import com.example.dance_community.entity.EventLike;
-import com.example.dance_community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 public interface EventLikeRepository extends JpaRepository<EventLike, Long> {
-    Optional<EventLike> findByEventAndUser(Event event, User user);
-    boolean existsByEventEventIdAndUserUserId(Long eventId, Long userId);;
+    boolean existsByEventEventIdAndUserUserId(Long eventId, Long userId);
     @Query("SELECT el.event.eventId FROM EventLike el " +
             "WHERE el.user.userId = :userId AND el.event.eventId IN :eventIds")
     Set<Long> findLikedEventIds(@Param("eventIds") List<Long> eventIds, @Param("userId") Long userId);
+
+    // 일괄 좋아요 선조회: 아직 좋아요하지 않은 활성 행사만
+    @Query("SELECT e.eventId FROM Event e WHERE e.eventId IN :eventIds AND NOT EXISTS (" +
+            "SELECT 1 FROM EventLike el WHERE el.event = e AND el.user.userId = :userId)")
+    List<Long> findUnlikedEventIds(@Param("eventIds") List<Long> eventIds, @Param("userId") Long userId);
+
+    // (event_id, user_id) 유니크 제약으로 중복 좋아요는 무시, 삭제된 행사면 0건
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO event_likes (event_id, user_id, created_at) " +
+            "SELECT e.event_id, :userId, CURRENT_TIMESTAMP FROM events e " +
+            "WHERE e.event_id = :eventId AND e.is_deleted = false",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM EventLike el WHERE el.event.eventId = :eventId AND el.user.userId = :userId")
+    int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
 }
@@ -1,26 +1,104 @@
 package com.example.dance_community.repository;
 
+import com.example.dance_community.dto.event.EventCounts;
 import com.example.dance_community.entity.Event;
 import com.example.dance_community.repository.custom.EventRepositoryCustom;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select e from Event e where e.eventId = :eventId")
-    Optional<Event> findWithLockByEventId(@Param("eventId") Long eventId);
+    // 조회수 버퍼 플러시용 일괄 증가
+    @Modifying
+    @Query("UPDATE Event e SET e.viewCount = e.viewCount + :delta WHERE e.eventId IN :eventIds")
+    int increaseViewCounts(@Param("eventIds") Collection<Long> eventIds, @Param("delta") long delta);
+
+    // 좋아요 수는 엔티티를 거치지 않고 SQL 에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Event e SET e.likeCount = e.likeCount + 1 WHERE e.eventId IN :eventIds")
+    int increaseLikeCounts(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.likeCount = e.likeCount - 1 WHERE e.eventId IN :eventIds AND e.likeCount > 0")
+    int decreaseLikeCounts(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT e.likeCount FROM Event e WHERE e.eventId = :eventId")
+    Optional<Long> findLikeCount(@Param("eventId") Long eventId);
 
+    // 정원 미만일 때만 증가 (0이면 마감)
     @Modifying
-    @Query("UPDATE Event e SET e.viewCount = e.viewCount + 1 WHERE e.eventId = :eventId")
-    void updateViewCount(@Param("eventId") Long eventId);
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount + 1 WHERE e.eventId = :eventId AND e.confirmedCount < e.capacity")
+    int increaseConfirmedCount(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount - 1 WHERE e.eventId = :eventId AND e.confirmedCount > 0")
+    int decreaseConfirmedCount(@Param("eventId") Long eventId);
+
+    @Query("SELECT coalesce(max(e.eventId), 0) FROM Event e")
+    Long findMaxEventId();
+
+    // 확정 인원 보정 대상 (afterId < event_id <= toId, 잠금 없는 조회)
+    @Query(value = "SELECT e.event_id FROM events e " +
+            "WHERE e.event_id > :afterId AND e.event_id <= :toId AND e.is_deleted = false AND e.confirmed_count <> " +
+            "(SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED')",
+            nativeQuery = true)
+    List<Long> findConfirmedCountDriftIds(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 지정한 행사 중 실제 CONFIRMED 수와 여전히 어긋난 행사만 재계산
+    @Modifying
+    @Query(value = "UPDATE events e SET confirmed_count = " +
+            "(SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED') " +
+            "WHERE e.event_id IN (:eventIds) AND e.confirmed_count <> " +
+            "(SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED')",
+            nativeQuery = true)
+    int reconcileConfirmedCounts(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.commentCount = e.commentCount + 1 WHERE e.eventId = :eventId")
+    int increaseCommentCount(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.commentCount = e.commentCount - 1 WHERE e.eventId = :eventId AND e.commentCount > 0")
+    int decreaseCommentCount(@Param("eventId") Long eventId);
+
+    // 댓글 수 보정 대상 (afterId < event_id <= toId, 잠금 없는 조회)
+    @Query(value = "SELECT e.event_id FROM events e " +
+            "WHERE e.event_id > :afterId AND e.event_id <= :toId AND e.is_deleted = false AND e.comment_count <> " +
+            "(SELECT count(*) FROM comments c WHERE c.event_id = e.event_id AND c.is_deleted = false)",
+            nativeQuery = true)
+    List<Long> findCommentCountDriftIds(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 지정한 행사 중 실제 댓글 수와 여전히 어긋난 행사만 재계산
+    @Modifying
+    @Query(value = "UPDATE events e SET comment_count = " +
+            "(SELECT count(*) FROM comments c WHERE c.event_id = e.event_id AND c.is_deleted = false) " +
+            "WHERE e.event_id IN (:eventIds) AND e.comment_count <> " +
+            "(SELECT count(*) FROM comments c WHERE c.event_id = e.event_id AND c.is_deleted = false)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("eventIds") Collection<Long> eventIds);
+
+    // 다가오는 행사 인덱스 적재용: 공개 범위(GLOBAL, 동아리별)마다 시작이 가까운 순으로 perScope 개씩
+    @Query(value = "SELECT t.event_id FROM (" +
+            "SELECT e.event_id, ROW_NUMBER() OVER (" +
+            "PARTITION BY CASE WHEN e.scope = 'CLUB' THEN e.club_id ELSE 0 END " +
+            "ORDER BY e.starts_at, e.event_id) AS rn " +
+            "FROM events e WHERE e.is_deleted = false AND e.starts_at > :now) t " +
+            "WHERE t.rn <= :perScope",
+            nativeQuery = true)
+    List<Long> findUpcomingEventIdsPerScope(@Param("now") LocalDateTime now, @Param("perScope") int perScope);
+
+    @Query("SELECT new com.example.dance_community.dto.event.EventCounts(" +
+            "e.eventId, e.confirmedCount, e.viewCount, e.likeCount, e.commentCount) " +
+            "FROM Event e WHERE e.eventId IN :eventIds")
+    List<EventCounts> findCountsByEventIds(@Param("eventIds") Collection<Long> eventIds);
 
     @Modifying()
     @Query("UPDATE Event e SET e.isDeleted = true WHERE e.host.userId = :userId")
@@ -1,20 +1,34 @@
 package com.example.dance_community.repository;
 
-import com.example.dance_community.entity.Post;
 import com.example.dance_community.entity.PostLike;
-import com.example.dance_community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-    Optional<PostLike> findByPostAndUser(Post post, User user);
     boolean existsByPostPostIdAndUserUserId(Long postId, Long userId);
     @Query("SELECT pl.post.postId FROM PostLike pl " +
             "WHERE pl.user.userId = :userId AND pl.post.postId IN :postIds")
     Set<Long> findLikedPostIds(@Param("postIds") List<Long> postIds, @Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 일괄 좋아요 선조회: 아직 좋아요하지 않은 활성 게시글만
+    @Query("SELECT p.postId FROM Post p WHERE p.postId IN :postIds AND NOT EXISTS (" +
+            "SELECT 1 FROM PostLike pl WHERE pl.post = p AND pl.user.userId = :userId)")
+    List<Long> findUnlikedPostIds(@Param("postIds") List<Long> postIds, @Param("userId") Long userId);
+
+    // (post_id, user_id) 유니크 제약으로 중복 좋아요는 무시, 삭제된 게시글이면 0건
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) " +
+            "SELECT p.post_id, :userId, CURRENT_TIMESTAMP FROM posts p " +
+            "WHERE p.post_id = :postId AND p.is_deleted = false",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.postId = :postId AND pl.user.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -0,0 +1,31 @@
+package com.example.dance_community.repository;
+
+import com.example.dance_community.entity.PostLikeShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostLikeShardRepository extends JpaRepository<PostLikeShard, Long> {
+    @Modifying
+    @Query(value = "INSERT INTO post_like_shards (post_id, shard_no, delta) VALUES (:postId, :shardNo, :delta) " +
+            "ON DUPLICATE KEY UPDATE delta = delta + :delta",
+            nativeQuery = true)
+    int addDelta(@Param("postId") Long postId, @Param("shardNo") int shardNo, @Param("delta") long delta);
+
+    List<PostLikeShard> findAllByDeltaNot(Long delta);
+
+    List<PostLikeShard> findAllByPostIdIn(Collection<Long> postIds);
+
+    // 읽은 값만큼만 차감하므로 합산 중 들어온 증감분은 보존
+    @Modifying
+    @Query("UPDATE PostLikeShard s SET s.delta = s.delta - :delta WHERE s.shardId = :shardId")
+    int subtractDelta(@Param("shardId") Long shardId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM PostLikeShard s WHERE s.delta = 0")
+    int deleteEmptyShards();
+}
@@ -8,11 +8,61 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+    // 조회수 버퍼 플러시용 일괄 증가
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.postId IN :postIds")
+    int increaseViewCounts(@Param("postIds") Collection<Long> postIds, @Param("delta") long delta);
+
+    // 좋아요 수는 엔티티를 거치지 않고 SQL 에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.postId IN :postIds")
+    int increaseLikeCounts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.postId IN :postIds AND p.likeCount > 0")
+    int decreaseLikeCounts(@Param("postIds") Collection<Long> postIds);
+
+    // 샤드 합산분 반영
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = GREATEST(like_count + :delta, 0) WHERE post_id = :postId",
+            nativeQuery = true)
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.postId = :postId")
+    Optional<Long> findLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.postId = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    @Query("SELECT coalesce(max(p.postId), 0) FROM Post p")
+    Long findMaxPostId();
+
+    // 댓글 수 보정 대상 (afterId < post_id <= toId, 잠금 없는 조회)
+    @Query(value = "SELECT p.post_id FROM posts p " +
+            "WHERE p.post_id > :afterId AND p.post_id <= :toId AND p.is_deleted = false AND p.comment_count <> " +
+            "(SELECT count(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = false)",
+            nativeQuery = true)
+    List<Long> findCommentCountDriftIds(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 지정한 게시글 중 실제 댓글 수와 여전히 어긋난 게시글만 재계산
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
-    void updateViewCount(@Param("postId") Long postId);
+    @Query(value = "UPDATE posts p SET comment_count = " +
+            "(SELECT count(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = false) " +
+            "WHERE p.post_id IN (:postIds) AND p.comment_count <> " +
+            "(SELECT count(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = false)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("postIds") Collection<Long> postIds);
 
     @Modifying()
     @Query("UPDATE Post p SET p.isDeleted = true WHERE p.author.userId = :userId")
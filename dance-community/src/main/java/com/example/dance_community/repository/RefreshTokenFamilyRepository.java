@@ -0,0 +1,19 @@
+package com.example.dance_community.repository;
+
+import com.example.dance_community.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+    List<RefreshTokenFamily> findAllByRevokedFalseAndExpiresAtGreaterThan(Long now);
+
+    boolean existsByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt <= :now")
+    int deleteExpired(@Param("now") Long now);
+}
@@ -2,6 +2,9 @@ package com.example.dance_community.repository;
 
 import com.example.dance_community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByNickname(String nickname);
     boolean existsByNicknameAndUserIdNot(String nickname, Long userId);
+
+    // 해시 비용 상향용: 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.userId = :userId AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("password") String password);
 }
\ No newline at end of file
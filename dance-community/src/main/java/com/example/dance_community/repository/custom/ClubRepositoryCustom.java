@@ -0,0 +1,17 @@
+package com.example.dance_community.repository.custom;
+
+import com.example.dance_community.entity.Club;
+import com.example.dance_community.enums.ClubSortType;
+import com.example.dance_community.enums.ClubType;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ClubRepositoryCustom {
+    // 클럽 디렉터리 조회 (타입, 지역, 태그 필터 + 정렬)
+    List<Club> findClubs(ClubType clubType, String locationName, String tag, ClubSortType sort, Pageable pageable);
+
+    // 페이지 단위 태그 일괄 조회
+    Map<Long, List<String>> findTagsByClubIds(List<Long> clubIds);
+}
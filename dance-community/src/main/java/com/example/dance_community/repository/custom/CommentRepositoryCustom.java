@@ -0,0 +1,11 @@
+package com.example.dance_community.repository.custom;
+
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.entity.Comment;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    // 게시글 또는 행사의 댓글을 작성순으로 조회 (커서 기반, 작성자 fetch join)
+    List<Comment> findCommentPage(Long postId, Long eventId, Cursor cursor, int limit);
+}
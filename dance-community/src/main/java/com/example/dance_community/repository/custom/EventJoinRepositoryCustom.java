@@ -4,11 +4,15 @@ import com.example.dance_community.entity.EventJoin;
 import com.example.dance_community.enums.EventJoinStatus;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface EventJoinRepositoryCustom {
     // 행사 참여자 목록 조회 (User 정보 포함)
     List<EventJoin> findParticipantsWithUser(Long eventId, EventJoinStatus status);
 
+    // 대기열 선두 조회 (승격 대상, 쓰기 잠금)
+    Optional<EventJoin> findWaitlistHead(Long eventId);
+
     // 내가 참여한 행사 목록 조회
     List<EventJoin> findMyJoinedEvents(Long userId, EventJoinStatus status);
 }
@@ -1,14 +1,30 @@
 package com.example.dance_community.repository.custom;
 
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.tag.TagUse;
 import com.example.dance_community.entity.Event;
-import org.springframework.data.domain.Pageable;
+import com.example.dance_community.enums.EventSortType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface EventRepositoryCustom {
-    // 접근 가능한 모든 행사 조회
-    List<Event> findAllEvents(List<Long> myClubIds);
+    // 접근 가능한 행사 피드 조회 (키셋 페이지네이션, tag 가 있으면 해당 태그 행사만)
+    List<Event> findEventFeed(List<Long> myClubIds, EventSortType sort, String tag, Cursor cursor, int limit);
 
-    // 다가오는 행사 조회
-    List<Event> findUpcomingEvents(List<Long> myClubIds, Pageable pageable);
+    // 검색 결과 id 목록을 행사로 변환 (미삭제만)
+    List<Event> findEventsByIds(Collection<Long> eventIds);
+
+    // 검색 색인 적재용: id 오름차순으로 afterId 다음부터
+    List<Event> findEventsForSearchIndex(Long afterId, int limit);
+
+    // 인기 태그 초기 점수용: since 이후 등록된 GLOBAL 행사의 태그
+    List<TagUse> findTagUsesSince(LocalDateTime since);
+
+    // 피드 DTO 조립용: 컬렉션 초기화 없이 id 묶음 단위로 한 번에 조회
+    Map<Long, List<String>> findTagsByEventIds(Collection<Long> eventIds);
+
+    Map<Long, List<String>> findImagesByEventIds(Collection<Long> eventIds);
 }
@@ -1,17 +1,42 @@
 package com.example.dance_community.repository.custom;
 
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.tag.TagUse;
 import com.example.dance_community.entity.Post;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PostRepositoryCustom {
-    // 접근 가능한 모든 게시글 조회
-    List<Post> findAllPosts(List<Long> myClubIds);
+    // 접근 가능한 게시글 피드 조회 (커서 기반, tag 가 있으면 해당 태그 글만)
+    List<Post> findPostFeed(List<Long> myClubIds, String tag, Cursor cursor, int limit);
 
-    // [메인 페이지] 인기글 조회
+    // [메인 페이지] 인기글 조회 (인기글 순위 초기 점수용)
     List<Post> findHotPosts(Pageable pageable);
 
-    // [메인 페이지] 내 동아리 소식 조회
-    List<Post> findMyClubPosts(Long userId, Pageable pageable);
+    // 인기글 후보 중 노출 가능한 게시글만 조회 (GLOBAL, 미삭제, since 이후 작성)
+    List<Post> findHotPostCandidates(Collection<Long> postIds, LocalDateTime since);
+
+    // 내 동아리 소식 타임라인 적재용: 최신순 postId -> clubId
+    Map<Long, Long> findMyClubPostIds(Long userId, int limit);
+
+    // 타임라인 id 목록을 게시글로 변환 (CLUB 범위, 미삭제만)
+    List<Post> findClubPostsByIds(Collection<Long> postIds);
+
+    // 검색 결과 id 목록을 게시글로 변환 (미삭제만)
+    List<Post> findPostsByIds(Collection<Long> postIds);
+
+    // 검색 색인 적재용: id 오름차순으로 afterId 다음부터
+    List<Post> findPostsForSearchIndex(Long afterId, int limit);
+
+    // 인기 태그 초기 점수용: since 이후 작성된 GLOBAL 게시글의 태그
+    List<TagUse> findTagUsesSince(LocalDateTime since);
+
+    // 피드 DTO 조립용: 컬렉션 초기화 없이 id 묶음 단위로 한 번에 조회
+    Map<Long, List<String>> findTagsByPostIds(Collection<Long> postIds);
+
+    Map<Long, List<String>> findImagesByPostIds(Collection<Long> postIds);
 }
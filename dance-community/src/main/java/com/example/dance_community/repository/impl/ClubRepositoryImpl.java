@@ -0,0 +1,82 @@
+package com.example.dance_community.repository.impl;
+
+import com.example.dance_community.entity.Club;
+import com.example.dance_community.enums.ClubSortType;
+import com.example.dance_community.enums.ClubType;
+import com.example.dance_community.repository.custom.ClubRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.example.dance_community.entity.QClub.club;
+
+@RequiredArgsConstructor
+public class ClubRepositoryImpl implements ClubRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Club> findClubs(ClubType clubType, String locationName, String tag, ClubSortType sort, Pageable pageable) {
+        return queryFactory
+                .selectFrom(club)
+                .where(
+                        club.isDeleted.isFalse(),
+                        clubTypeEq(clubType),
+                        locationNameContains(locationName),
+                        tagEq(tag)
+                )
+                .orderBy(directoryOrder(sort))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<String>> findTagsByClubIds(List<Long> clubIds) {
+        if (clubIds == null || clubIds.isEmpty()) {
+            return Map.of();
+        }
+
+        StringPath tag = Expressions.stringPath("tag");
+        List<Tuple> rows = queryFactory
+                .select(club.clubId, tag)
+                .from(club)
+                .join(club.tags, tag)
+                .where(club.clubId.in(clubIds))
+                .fetch();
+
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(club.clubId),
+                        Collectors.mapping(row -> row.get(tag), Collectors.toList())
+                ));
+    }
+
+    private BooleanExpression clubTypeEq(ClubType clubType) {
+        return clubType != null ? club.clubType.eq(clubType) : null;
+    }
+
+    private BooleanExpression locationNameContains(String locationName) {
+        return locationName != null && !locationName.isBlank() ? club.locationName.contains(locationName) : null;
+    }
+
+    private BooleanExpression tagEq(String tag) {
+        return tag != null && !tag.isBlank() ? club.tags.any().eq(tag.trim()) : null;
+    }
+
+    private OrderSpecifier<?>[] directoryOrder(ClubSortType sort) {
+        if (sort == ClubSortType.MEMBER_COUNT) {
+            return new OrderSpecifier<?>[]{club.memberCount.desc(), club.clubId.desc()};
+        }
+        return new OrderSpecifier<?>[]{club.createdAt.desc(), club.clubId.desc()};
+    }
+}
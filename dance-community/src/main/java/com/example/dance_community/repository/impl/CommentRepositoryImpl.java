@@ -0,0 +1,56 @@
+package com.example.dance_community.repository.impl;
+
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.entity.Comment;
+import com.example.dance_community.repository.custom.CommentRepositoryCustom;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.example.dance_community.entity.QComment.comment;
+import static com.example.dance_community.entity.QEvent.event;
+import static com.example.dance_community.entity.QPost.post;
+import static com.example.dance_community.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 삭제된 게시글/행사의 댓글은 부모 조인 조건으로 걸러서 별도 존재 확인 없이 한 번에 조회
+    @Override
+    public List<Comment> findCommentPage(Long postId, Long eventId, Cursor cursor, int limit) {
+        JPAQuery<Comment> query = queryFactory
+                .selectFrom(comment)
+                .join(comment.user, user).fetchJoin();
+
+        if (postId != null) {
+            query.join(comment.post, post)
+                    .where(post.postId.eq(postId), post.isDeleted.isFalse());
+        } else {
+            query.join(comment.event, event)
+                    .where(event.eventId.eq(eventId), event.isDeleted.isFalse());
+        }
+
+        return query
+                .where(
+                        comment.isDeleted.isFalse(),
+                        afterCursor(cursor)
+                )
+                .orderBy(comment.createdAt.asc(), comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return comment.createdAt.gt(cursor.at())
+                .or(comment.createdAt.eq(cursor.at()).and(comment.commentId.gt(cursor.id())));
+    }
+}
@@ -4,9 +4,11 @@ import com.example.dance_community.entity.EventJoin;
 import com.example.dance_community.enums.EventJoinStatus;
 import com.example.dance_community.repository.custom.EventJoinRepositoryCustom;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.example.dance_community.entity.QEventJoin.eventJoin;
 import static com.example.dance_community.entity.QUser.user;
@@ -30,6 +32,19 @@ public class EventJoinRepositoryImpl implements EventJoinRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public Optional<EventJoin> findWaitlistHead(Long eventId) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(eventJoin)
+                .where(
+                        eventJoin.event.eventId.eq(eventId),
+                        eventJoin.status.eq(EventJoinStatus.WAITLISTED)
+                )
+                .orderBy(eventJoin.waitlistedAt.asc(), eventJoin.eventJoinId.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchFirst());
+    }
+
     @Override
     public List<EventJoin> findMyJoinedEvents(Long userId, EventJoinStatus status) {
         return queryFactory
@@ -1,15 +1,26 @@
 package com.example.dance_community.repository.impl;
 
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.tag.TagUse;
 import com.example.dance_community.entity.Event;
+import com.example.dance_community.enums.EventSortType;
 import com.example.dance_community.enums.Scope;
 import com.example.dance_community.repository.custom.EventRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.dance_community.entity.QEvent.event;
 import static com.example.dance_community.entity.QUser.user;
@@ -21,36 +32,93 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<Event> findAllEvents(List<Long> myClubIds) {
+    public List<Event> findEventFeed(List<Long> myClubIds, EventSortType sort, String tag, Cursor cursor, int limit) {
         return queryFactory
                 .selectFrom(event)
                 .join(event.host, user).fetchJoin()
                 .leftJoin(event.club, club).fetchJoin()
                 .where(
                         event.isDeleted.isFalse(),
-                        accessibleEventCondition(myClubIds)
+                        accessibleEventCondition(myClubIds),
+                        tagEq(tag),
+                        cursorCondition(sort, cursor)
                 )
-                .orderBy(event.createdAt.desc())
+                .orderBy(feedOrder(sort))
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<Event> findUpcomingEvents(List<Long> myClubIds, Pageable pageable) {
+    public List<Event> findEventsByIds(Collection<Long> eventIds) {
         return queryFactory
                 .selectFrom(event)
                 .join(event.host, user).fetchJoin()
                 .leftJoin(event.club, club).fetchJoin()
                 .where(
-                        event.startsAt.gt(LocalDateTime.now()),
+                        event.eventId.in(eventIds),
+                        event.isDeleted.isFalse()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Event> findEventsForSearchIndex(Long afterId, int limit) {
+        return queryFactory
+                .selectFrom(event)
+                .where(
+                        afterId == null ? null : event.eventId.gt(afterId),
+                        event.isDeleted.isFalse()
+                )
+                .orderBy(event.eventId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<TagUse> findTagUsesSince(LocalDateTime since) {
+        StringPath tag = Expressions.stringPath("tag");
+        return queryFactory
+                .select(Projections.constructor(TagUse.class, tag, event.createdAt))
+                .from(event)
+                .join(event.tags, tag)
+                .where(
+                        event.createdAt.gt(since),
                         event.isDeleted.isFalse(),
-                        accessibleEventCondition(myClubIds)
+                        event.scope.eq(Scope.GLOBAL)
                 )
-                .orderBy(event.startsAt.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
                 .fetch();
     }
 
+    @Override
+    public Map<Long, List<String>> findTagsByEventIds(Collection<Long> eventIds) {
+        StringPath tag = Expressions.stringPath("tag");
+        return groupValues(queryFactory
+                .select(event.eventId, tag)
+                .from(event)
+                .join(event.tags, tag)
+                .where(event.eventId.in(eventIds))
+                .fetch(), tag);
+    }
+
+    @Override
+    public Map<Long, List<String>> findImagesByEventIds(Collection<Long> eventIds) {
+        StringPath image = Expressions.stringPath("image");
+        return groupValues(queryFactory
+                .select(event.eventId, image)
+                .from(event)
+                .join(event.images, image)
+                .where(event.eventId.in(eventIds))
+                .fetch(), image);
+    }
+
+    private Map<Long, List<String>> groupValues(List<Tuple> rows, StringPath value) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Tuple row : rows) {
+            grouped.computeIfAbsent(row.get(event.eventId), id -> new ArrayList<>()).add(row.get(value));
+        }
+        return grouped;
+    }
+
     private BooleanExpression accessibleEventCondition(List<Long> myClubIds) {
         BooleanExpression isGlobal = event.scope.eq(Scope.GLOBAL);
 
@@ -63,4 +131,28 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
 
         return isGlobal.or(isMyClubEvent);
     }
-}
\ No newline at end of file
+
+    private BooleanExpression tagEq(String tag) {
+        return tag != null && !tag.isBlank() ? event.tags.any().eq(tag.trim()) : null;
+    }
+
+    private BooleanExpression cursorCondition(EventSortType sort, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (sort == EventSortType.STARTS_AT) {
+            return event.startsAt.gt(cursor.at())
+                    .or(event.startsAt.eq(cursor.at()).and(event.eventId.gt(cursor.id())));
+        }
+        return event.createdAt.lt(cursor.at())
+                .or(event.createdAt.eq(cursor.at()).and(event.eventId.lt(cursor.id())));
+    }
+
+    private OrderSpecifier<?>[] feedOrder(EventSortType sort) {
+        if (sort == EventSortType.STARTS_AT) {
+            return new OrderSpecifier<?>[]{event.startsAt.asc(), event.eventId.asc()};
+        }
+        return new OrderSpecifier<?>[]{event.createdAt.desc(), event.eventId.desc()};
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.dance_community.repository.impl;
 
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.tag.TagUse;
 import com.example.dance_community.entity.Post;
 import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.enums.Scope;
 import com.example.dance_community.repository.custom.PostRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.dance_community.entity.QPost.post;
 import static com.example.dance_community.entity.QClub.club;
@@ -23,16 +34,19 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<Post> findAllPosts(List<Long> myClubIds) {
+    public List<Post> findPostFeed(List<Long> myClubIds, String tag, Cursor cursor, int limit) {
         return queryFactory
                 .selectFrom(post)
                 .join(post.author, user).fetchJoin()
                 .leftJoin(post.club, club).fetchJoin()
                 .where(
                         post.isDeleted.isFalse(),
-                        accessiblePostCondition(myClubIds)
+                        accessiblePostCondition(myClubIds),
+                        tagEq(tag),
+                        beforeCursor(cursor)
                 )
-                .orderBy(post.createdAt.desc())
+                .orderBy(post.createdAt.desc(), post.postId.desc())
+                .limit(limit)
                 .fetch();
     }
 
@@ -55,21 +69,126 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public List<Post> findMyClubPosts(Long userId, Pageable pageable) {
+    public List<Post> findHotPostCandidates(Collection<Long> postIds, LocalDateTime since) {
         return queryFactory
                 .selectFrom(post)
-                .join(post.club, club).fetchJoin()
                 .join(post.author, user).fetchJoin()
+                .leftJoin(post.club, club).fetchJoin()
+                .where(
+                        post.postId.in(postIds),
+                        post.createdAt.gt(since),
+                        post.isDeleted.isFalse(),
+                        post.scope.eq(Scope.GLOBAL)
+                )
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> findMyClubPostIds(Long userId, int limit) {
+        List<Tuple> rows = queryFactory
+                .select(post.postId, club.clubId)
+                .from(post)
+                .join(post.club, club)
                 .join(club.members, clubJoin)
                 .where(
                         clubJoin.user.userId.eq(userId),
                         clubJoin.status.eq(ClubJoinStatus.ACTIVE),
                         post.isDeleted.isFalse()
                 )
-                .orderBy(post.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(post.createdAt.desc(), post.postId.desc())
+                .limit(limit)
                 .fetch();
+
+        Map<Long, Long> clubIdByPostId = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            clubIdByPostId.put(row.get(post.postId), row.get(club.clubId));
+        }
+        return clubIdByPostId;
+    }
+
+    @Override
+    public List<Post> findClubPostsByIds(Collection<Long> postIds) {
+        return queryFactory
+                .selectFrom(post)
+                .join(post.author, user).fetchJoin()
+                .join(post.club, club).fetchJoin()
+                .where(
+                        post.postId.in(postIds),
+                        post.isDeleted.isFalse(),
+                        post.scope.eq(Scope.CLUB)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Post> findPostsByIds(Collection<Long> postIds) {
+        return queryFactory
+                .selectFrom(post)
+                .join(post.author, user).fetchJoin()
+                .leftJoin(post.club, club).fetchJoin()
+                .where(
+                        post.postId.in(postIds),
+                        post.isDeleted.isFalse()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Post> findPostsForSearchIndex(Long afterId, int limit) {
+        return queryFactory
+                .selectFrom(post)
+                .where(
+                        afterId == null ? null : post.postId.gt(afterId),
+                        post.isDeleted.isFalse()
+                )
+                .orderBy(post.postId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<TagUse> findTagUsesSince(LocalDateTime since) {
+        StringPath tag = Expressions.stringPath("tag");
+        return queryFactory
+                .select(Projections.constructor(TagUse.class, tag, post.createdAt))
+                .from(post)
+                .join(post.tags, tag)
+                .where(
+                        post.createdAt.gt(since),
+                        post.isDeleted.isFalse(),
+                        post.scope.eq(Scope.GLOBAL)
+                )
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<String>> findTagsByPostIds(Collection<Long> postIds) {
+        StringPath tag = Expressions.stringPath("tag");
+        return groupValues(queryFactory
+                .select(post.postId, tag)
+                .from(post)
+                .join(post.tags, tag)
+                .where(post.postId.in(postIds))
+                .fetch(), tag);
+    }
+
+    @Override
+    public Map<Long, List<String>> findImagesByPostIds(Collection<Long> postIds) {
+        StringPath image = Expressions.stringPath("image");
+        return groupValues(queryFactory
+                .select(post.postId, image)
+                .from(post)
+                .join(post.images, image)
+                .where(post.postId.in(postIds))
+                .fetch(), image);
+    }
+
+    private Map<Long, List<String>> groupValues(List<Tuple> rows, StringPath value) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Tuple row : rows) {
+            grouped.computeIfAbsent(row.get(post.postId), id -> new ArrayList<>()).add(row.get(value));
+        }
+        return grouped;
     }
 
     private BooleanExpression accessiblePostCondition(List<Long> myClubIds) {
@@ -84,4 +203,17 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
         return isGlobal.or(isMyClubPost);
     }
+
+    private BooleanExpression tagEq(String tag) {
+        return tag != null && !tag.isBlank() ? post.tags.any().eq(tag.trim()) : null;
+    }
+
+    private BooleanExpression beforeCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return post.createdAt.lt(cursor.at())
+                .or(post.createdAt.eq(cursor.at()).and(post.postId.lt(cursor.id())));
+    }
 }
\ No newline at end of file
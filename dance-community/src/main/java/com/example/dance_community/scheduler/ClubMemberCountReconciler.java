@@ -0,0 +1,40 @@
+package com.example.dance_community.scheduler;
+
+import com.example.dance_community.repository.ClubRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// clubs.member_count 와 실제 ACTIVE 멤버 수의 차이를 주기적으로 보정 (id 구간별)
+@Slf4j
+@Component
+public class ClubMemberCountReconciler {
+    private final ClubRepository clubRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ClubMemberCountReconciler(ClubRepository clubRepository, PlatformTransactionManager transactionManager,
+                                     @Value("${scheduler.reconcile-batch-size:1000}") int batchSize) {
+        this.clubRepository = clubRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.member-count.fixed-delay-ms:600000}",
+            initialDelayString = "${scheduler.member-count.initial-delay-ms:30000}"
+    )
+    public void reconcile() {
+        int repaired = RangedCounterReconciler.reconcile(
+                clubRepository.findMaxClubId(), batchSize, transactionTemplate,
+                clubRepository::findMemberCountDriftIds,
+                clubRepository::reconcileMemberCounts
+        );
+        if (repaired > 0) {
+            log.warn("클럽 멤버 수 보정: {}건", repaired);
+        }
+    }
+}
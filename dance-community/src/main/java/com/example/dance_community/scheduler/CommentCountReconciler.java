@@ -0,0 +1,49 @@
+package com.example.dance_community.scheduler;
+
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// posts/events.comment_count 와 실제 댓글 수의 차이를 주기적으로 보정 (id 구간별)
+@Slf4j
+@Component
+public class CommentCountReconciler {
+    private final PostRepository postRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CommentCountReconciler(PostRepository postRepository, EventRepository eventRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${scheduler.reconcile-batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.comment-count.fixed-delay-ms:600000}",
+            initialDelayString = "${scheduler.comment-count.initial-delay-ms:90000}"
+    )
+    public void reconcile() {
+        int repairedPosts = RangedCounterReconciler.reconcile(
+                postRepository.findMaxPostId(), batchSize, transactionTemplate,
+                postRepository::findCommentCountDriftIds,
+                postRepository::reconcileCommentCounts
+        );
+        int repairedEvents = RangedCounterReconciler.reconcile(
+                eventRepository.findMaxEventId(), batchSize, transactionTemplate,
+                eventRepository::findCommentCountDriftIds,
+                eventRepository::reconcileCommentCounts
+        );
+        if (repairedPosts + repairedEvents > 0) {
+            log.warn("댓글 수 보정: 게시글 {}건, 행사 {}건", repairedPosts, repairedEvents);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.dance_community.scheduler;
+
+import com.example.dance_community.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// events.confirmed_count 와 실제 CONFIRMED 신청 수의 차이를 주기적으로 보정 (id 구간별)
+@Slf4j
+@Component
+public class EventConfirmedCountReconciler {
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public EventConfirmedCountReconciler(EventRepository eventRepository, PlatformTransactionManager transactionManager,
+                                         @Value("${scheduler.reconcile-batch-size:1000}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.confirmed-count.fixed-delay-ms:600000}",
+            initialDelayString = "${scheduler.confirmed-count.initial-delay-ms:60000}"
+    )
+    public void reconcile() {
+        int repaired = RangedCounterReconciler.reconcile(
+                eventRepository.findMaxEventId(), batchSize, transactionTemplate,
+                eventRepository::findConfirmedCountDriftIds,
+                eventRepository::reconcileConfirmedCounts
+        );
+        if (repaired > 0) {
+            log.warn("행사 확정 인원 보정: {}건", repaired);
+        }
+    }
+}
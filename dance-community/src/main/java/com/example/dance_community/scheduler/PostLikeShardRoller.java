@@ -0,0 +1,63 @@
+package com.example.dance_community.scheduler;
+
+import com.example.dance_community.counter.LikeVelocityTracker;
+import com.example.dance_community.entity.PostLikeShard;
+import com.example.dance_community.repository.PostLikeShardRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 좋아요 샤드 증감분을 posts.like_count 에 합산
+// 샤드 차감과 게시글 반영이 한 트랜잭션이라 합산 도중 실패해도 증감분이 유실되거나 중복되지 않음
+@Slf4j
+@Component
+public class PostLikeShardRoller {
+    private final PostRepository postRepository;
+    private final PostLikeShardRepository postLikeShardRepository;
+    private final LikeVelocityTracker likeVelocityTracker;
+    private final Counter rolledUpCounter;
+
+    public PostLikeShardRoller(PostRepository postRepository, PostLikeShardRepository postLikeShardRepository,
+                               LikeVelocityTracker likeVelocityTracker, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postLikeShardRepository = postLikeShardRepository;
+        this.likeVelocityTracker = likeVelocityTracker;
+        this.rolledUpCounter = Counter.builder("like_counter.rolled_up")
+                .description("샤드에서 posts.like_count 로 합산된 증감분")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    @Scheduled(
+            fixedDelayString = "${like-counter.rollup-interval-ms:2000}",
+            initialDelayString = "${like-counter.rollup-interval-ms:2000}"
+    )
+    public void rollUp() {
+        List<PostLikeShard> shards = postLikeShardRepository.findAllByDeltaNot(0L);
+        if (!shards.isEmpty()) {
+            shards.forEach(shard -> postLikeShardRepository.subtractDelta(shard.getShardId(), shard.getDelta()));
+
+            Map<Long, Long> deltas = shards.stream()
+                    .collect(Collectors.groupingBy(PostLikeShard::getPostId, Collectors.summingLong(PostLikeShard::getDelta)));
+            deltas.forEach((postId, delta) -> {
+                if (delta != 0) {
+                    postRepository.addLikeCount(postId, delta);
+                }
+            });
+
+            rolledUpCounter.increment(shards.stream().mapToLong(shard -> Math.abs(shard.getDelta())).sum());
+            log.debug("좋아요 샤드 합산: 게시글 {}건", deltas.size());
+        }
+
+        postLikeShardRepository.deleteEmptyShards();
+        likeVelocityTracker.evictIdle();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.dance_community.scheduler;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+// 카운터 보정 공통: id 구간마다 잠금 없는 조회로 어긋난 행만 찾고, 그 행만 구간별 짧은 트랜잭션으로 재계산
+// 테이블 전체를 UPDATE 한 번으로 훑으면 MySQL 에서 스캔하는 동안 원본 행(댓글/신청)이 잠겨 쓰기가 멈춤
+final class RangedCounterReconciler {
+
+    private RangedCounterReconciler() {
+    }
+
+    // findDrifted(afterId, toId): afterId < id <= toId 구간에서 어긋난 id, repair(ids): 재계산된 행 수
+    static int reconcile(long maxId, int batchSize, TransactionTemplate transactionTemplate,
+                         BiFunction<Long, Long, List<Long>> findDrifted, ToIntFunction<List<Long>> repair) {
+        int repaired = 0;
+        for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+            List<Long> drifted = findDrifted.apply(afterId, afterId + batchSize);
+            if (drifted.isEmpty()) {
+                continue;
+            }
+            Integer count = transactionTemplate.execute(status -> repair.applyAsInt(drifted));
+            repaired += count != null ? count : 0;
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.dance_community.search;
+
+import com.example.dance_community.config.SearchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 게시글/행사 검색 색인 공통
+// 서비스의 생성/수정/삭제를 커밋 후 반영하고, 주기적으로 DB 에서 새 색인을 만들어 교체
+// 지표: search.query{index}, search.documents{index}
+public abstract class ContentSearchIndex {
+    private final SearchProperties properties;
+    private final Timer queryTimer;
+    private final Object writeLock = new Object();
+
+    private volatile InvertedIndex current = new InvertedIndex();
+
+    // 재색인 중 반영된 문서는 DB 에서 읽은 (더 오래됐을 수 있는) 값으로 덮어쓰지 않음
+    private InvertedIndex building;
+    private final Set<Long> touchedWhileBuilding = ConcurrentHashMap.newKeySet();
+
+    protected ContentSearchIndex(String name, SearchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queryTimer = Timer.builder("search.query").tag("index", name)
+                .description("검색 색인 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("search.documents", this, index -> index.current.size()).tag("index", name)
+                .description("색인된 문서 수")
+                .register(meterRegistry);
+    }
+
+    // 검색어의 모든 토큰을 포함하는 접근 가능한 문서 id 를 최신순으로 (beforeId 미만)
+    public List<Long> search(String query, Collection<Long> myClubIds, Long beforeId, int limit) {
+        Set<String> terms = KoreanBigramTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> clubIds = myClubIds == null ? Set.of() : new HashSet<>(myClubIds);
+        return queryTimer.record(() -> current.search(terms, clubIds, beforeId, limit));
+    }
+
+    public void indexAfterCommit(SearchDocument document) {
+        afterCommit(() -> apply(document.id(), index -> put(index, document)));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> apply(id, index -> index.remove(id)));
+    }
+
+    public void removeByOwnerAfterCommit(Long ownerId) {
+        afterCommit(() -> applyAll(index -> index.removeIf(doc -> ownerId.equals(doc.ownerId()))));
+    }
+
+    public void removeByClubAfterCommit(Long clubId) {
+        afterCommit(() -> applyAll(index -> index.removeIf(doc -> clubId.equals(doc.clubId()))));
+    }
+
+    // id 오름차순으로 afterId 다음부터 limit 개 (삭제되지 않은 문서만)
+    protected abstract List<SearchDocument> loadBatch(Long afterId, int limit);
+
+    protected synchronized void rebuild() {
+        InvertedIndex next = new InvertedIndex();
+        synchronized (writeLock) {
+            building = next;
+            touchedWhileBuilding.clear();
+        }
+
+        try {
+            Long afterId = null;
+            List<SearchDocument> batch;
+            do {
+                batch = loadBatch(afterId, properties.getRebuildBatchSize());
+                synchronized (writeLock) {
+                    for (SearchDocument document : batch) {
+                        if (!touchedWhileBuilding.contains(document.id())) {
+                            put(next, document);
+                        }
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().id();
+                }
+            } while (batch.size() == properties.getRebuildBatchSize());
+
+            synchronized (writeLock) {
+                current = next;
+            }
+        } finally {
+            synchronized (writeLock) {
+                building = null;
+                touchedWhileBuilding.clear();
+            }
+        }
+    }
+
+    int size() {
+        return current.size();
+    }
+
+    private void put(InvertedIndex index, SearchDocument document) {
+        Set<String> terms = new LinkedHashSet<>(KoreanBigramTokenizer.tokenizeForIndex(document.title()));
+        terms.addAll(KoreanBigramTokenizer.tokenizeForIndex(truncate(document.content())));
+        if (document.tags() != null) {
+            document.tags().forEach(tag -> terms.addAll(KoreanBigramTokenizer.tokenizeForIndex(tag)));
+        }
+        index.put(document.id(), document.clubId(), document.ownerId(), terms);
+    }
+
+    private String truncate(String content) {
+        if (content == null || content.length() <= properties.getMaxContentChars()) {
+            return content;
+        }
+        return content.substring(0, properties.getMaxContentChars());
+    }
+
+    private void apply(Long id, Consumer<InvertedIndex> change) {
+        synchronized (writeLock) {
+            change.accept(current);
+            if (building != null) {
+                change.accept(building);
+                touchedWhileBuilding.add(id);
+            }
+        }
+    }
+
+    private void applyAll(Consumer<InvertedIndex> change) {
+        synchronized (writeLock) {
+            change.accept(current);
+            if (building != null) {
+                change.accept(building);
+            }
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 변경이 색인에 남지 않도록)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.dance_community.search;
+
+import com.example.dance_community.config.SearchProperties;
+import com.example.dance_community.entity.Event;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class EventSearchIndex extends ContentSearchIndex {
+    private final EventRepository eventRepository;
+
+    public EventSearchIndex(EventRepository eventRepository, SearchProperties properties, MeterRegistry meterRegistry) {
+        super("event", properties, meterRegistry);
+        this.eventRepository = eventRepository;
+    }
+
+    // 트랜잭션 안에서 문서를 만들어 두고 커밋 후 반영
+    public void indexAfterCommit(Event event) {
+        indexAfterCommit(toDocument(event, event.getTags()));
+    }
+
+    @Scheduled(fixedDelayString = "${search.rebuild-interval-ms:86400000}", initialDelayString = "${search.rebuild-initial-delay-ms:0}")
+    public void rebuildIndex() {
+        rebuild();
+    }
+
+    @Override
+    protected List<SearchDocument> loadBatch(Long afterId, int limit) {
+        List<Event> events = eventRepository.findEventsForSearchIndex(afterId, limit);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<String>> tags = eventRepository.findTagsByEventIds(events.stream().map(Event::getEventId).toList());
+        return events.stream()
+                .map(event -> toDocument(event, tags.getOrDefault(event.getEventId(), List.of())))
+                .toList();
+    }
+
+    private static SearchDocument toDocument(Event event, List<String> tags) {
+        return new SearchDocument(
+                event.getEventId(),
+                event.getScope() == Scope.CLUB && event.getClub() != null ? event.getClub().getClubId() : null,
+                event.getHost().getUserId(),
+                event.getTitle(),
+                event.getContent(),
+                tags == null ? List.of() : new ArrayList<>(tags)
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dance_community.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// 단어 -> 문서 id 역색인
+// 검색은 읽기 잠금으로 동시에, 색인 변경은 쓰기 잠금으로 처리
+final class InvertedIndex {
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(long id, Long clubId, Long ownerId, Set<String> terms) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new PostingList()).add(id);
+            }
+            docs.put(id, new Doc(clubId, ownerId, terms.toArray(String[]::new)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeIf(Predicate<Doc> condition) {
+        lock.writeLock().lock();
+        try {
+            List<Long> targets = docs.entrySet().stream()
+                    .filter(entry -> condition.test(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            targets.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 단어를 포함하고 접근 가능한(GLOBAL 또는 내 동아리) 문서 id 를 최신(큰 id)순으로
+    List<Long> search(Set<String> terms, Collection<Long> myClubIds, Long beforeId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지는 이진 탐색
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            PostingList smallest = lists.getFirst();
+            List<PostingList> others = lists.subList(1, lists.size());
+
+            List<Long> result = new ArrayList<>(limit);
+            for (int i = smallest.lastIndexBefore(beforeId); i >= 0 && result.size() < limit; i--) {
+                long id = smallest.get(i);
+                if (containsAll(others, id) && isAccessible(docs.get(id), myClubIds)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(List<PostingList> lists, long id) {
+        for (PostingList list : lists) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(Doc doc, Collection<Long> myClubIds) {
+        return doc != null && (doc.clubId() == null || (myClubIds != null && myClubIds.contains(doc.clubId())));
+    }
+
+    // clubId 가 null 이면 GLOBAL
+    record Doc(Long clubId, Long ownerId, String[] terms) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.dance_community.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 검색용 토크나이저
+// 한글은 띄어쓰기/조사와 무관하게 찾을 수 있도록 연속 구간을 2글자 단위(bigram)로 자르고,
+// 그 외 문자/숫자는 단어 단위로 자름 (한 글자짜리 한글 구간은 그대로 사용)
+// 색인 시에는 한 글자 검색어("춤")도 찾을 수 있도록 한글 음절 하나하나도 토큰으로 추가
+public final class KoreanBigramTokenizer {
+    private static final int MAX_WORD_LENGTH = 40;
+
+    private KoreanBigramTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    public static Set<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static Set<String> tokenize(String text, boolean withSyllables) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            boolean hangul = isHangul(codePoint);
+            boolean wordChar = hangul || Character.isLetterOrDigit(codePoint);
+            if (!wordChar || (!run.isEmpty() && hangul != hangulRun)) {
+                flush(run, hangulRun, withSyllables, tokens);
+            }
+            if (wordChar) {
+                run.appendCodePoint(codePoint);
+                hangulRun = hangul;
+            }
+        }
+        flush(run, hangulRun, withSyllables, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, boolean withSyllables, Set<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+
+        if (!hangul) {
+            tokens.add(run.length() > MAX_WORD_LENGTH ? run.substring(0, MAX_WORD_LENGTH) : run.toString());
+        } else if (run.length() == 1) {
+            tokens.add(run.toString());
+        } else {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+            if (withSyllables) {
+                for (int i = 0; i < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 1));
+                }
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
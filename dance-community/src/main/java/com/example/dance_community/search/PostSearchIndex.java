@@ -0,0 +1,57 @@
+package com.example.dance_community.search;
+
+import com.example.dance_community.config.SearchProperties;
+import com.example.dance_community.entity.Post;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PostSearchIndex extends ContentSearchIndex {
+    private final PostRepository postRepository;
+
+    public PostSearchIndex(PostRepository postRepository, SearchProperties properties, MeterRegistry meterRegistry) {
+        super("post", properties, meterRegistry);
+        this.postRepository = postRepository;
+    }
+
+    // 트랜잭션 안에서 문서를 만들어 두고 커밋 후 반영
+    public void indexAfterCommit(Post post) {
+        indexAfterCommit(toDocument(post, post.getTags()));
+    }
+
+    @Scheduled(fixedDelayString = "${search.rebuild-interval-ms:86400000}", initialDelayString = "${search.rebuild-initial-delay-ms:0}")
+    public void rebuildIndex() {
+        rebuild();
+    }
+
+    @Override
+    protected List<SearchDocument> loadBatch(Long afterId, int limit) {
+        List<Post> posts = postRepository.findPostsForSearchIndex(afterId, limit);
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<String>> tags = postRepository.findTagsByPostIds(posts.stream().map(Post::getPostId).toList());
+        return posts.stream()
+                .map(post -> toDocument(post, tags.getOrDefault(post.getPostId(), List.of())))
+                .toList();
+    }
+
+    private static SearchDocument toDocument(Post post, List<String> tags) {
+        return new SearchDocument(
+                post.getPostId(),
+                post.getScope() == Scope.CLUB && post.getClub() != null ? post.getClub().getClubId() : null,
+                post.getAuthor().getUserId(),
+                post.getTitle(),
+                post.getContent(),
+                tags == null ? List.of() : new ArrayList<>(tags)
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dance_community.search;
+
+import java.util.Arrays;
+
+// 단어별 문서 id 목록 (오름차순 long[])
+// 새 문서는 대부분 가장 큰 id 라 끝에 붙고, 박싱 없이 이진 탐색으로 포함 여부를 확인
+final class PostingList {
+    private long[] ids = new long[4];
+    private int size = 0;
+
+    void add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    // beforeId 보다 작은 마지막 위치 (beforeId 가 null 이면 끝)
+    int lastIndexBefore(Long beforeId) {
+        if (beforeId == null) {
+            return size - 1;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, beforeId);
+        return (index >= 0 ? index : -index - 1) - 1;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.dance_community.search;
+
+import java.util.List;
+
+// 색인 대상 문서 (clubId 가 null 이면 GLOBAL 공개)
+public record SearchDocument(
+        Long id,
+        Long clubId,
+        Long ownerId,
+        String title,
+        String content,
+        List<String> tags
+) {
+}
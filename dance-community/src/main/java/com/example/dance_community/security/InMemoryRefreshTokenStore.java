@@ -0,0 +1,257 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.config.RefreshTokenProperties;
+import com.example.dance_community.entity.RefreshTokenFamily;
+import com.example.dance_community.enums.RefreshRotationResult;
+import com.example.dance_community.exception.ServiceUnavailableException;
+import com.example.dance_community.repository.RefreshTokenFamilyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 프로세스 내 refresh token family 저장소
+// 조회/교체는 메모리(ConcurrentHashMap)에서만 처리하고, 변경된 family 는 주기적으로 DB 에 write-behind
+// 폐기는 보안상 즉시 DB 에 기록 (재기동 후에도 폐기 상태 유지)
+// 전체 family 수와 사용자당 family 수에 상한을 둬 메모리 사용량을 제한
+// 인스턴스가 여러 대면 같은 계약의 Redis 구현으로 교체해야 함
+@Slf4j
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RefreshTokenProperties properties;
+
+    private final ConcurrentHashMap<String, TokenFamily> families = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<String>> familiesByUser = new ConcurrentHashMap<>();
+    private final Set<String> dirtyFamilyIds = ConcurrentHashMap.newKeySet();
+    // DB 에서 복원된 뒤 아직 교체되지 않은 family (write-behind 지연으로 영속본이 한 단계 뒤처졌을 수 있음)
+    private final Set<String> restoredFamilyIds = ConcurrentHashMap.newKeySet();
+    // 레거시 토큰 이관 중인 사용자 -> 레거시 토큰 만료 시각 (동시 이관 방지)
+    private final ConcurrentHashMap<Long, Long> legacyMigrations = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenStore(RefreshTokenFamilyRepository refreshTokenFamilyRepository,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                     RefreshTokenProperties properties) {
+        this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+
+        Gauge.builder("refresh_token.families", families, Map::size)
+                .description("메모리에 보관 중인 refresh token family 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        List<RefreshTokenFamily> persisted =
+                refreshTokenFamilyRepository.findAllByRevokedFalseAndExpiresAtGreaterThan(System.currentTimeMillis());
+        persisted.forEach(entity -> {
+            index(new TokenFamily(
+                    entity.getFamilyId(),
+                    entity.getUserId(),
+                    entity.getCurrentTokenId(),
+                    entity.getExpiresAt(),
+                    entity.getRevoked()
+            ));
+            restoredFamilyIds.add(entity.getFamilyId());
+        });
+        log.info("refresh token family 복원: {}건", persisted.size());
+    }
+
+    // 전체 상한에 걸리면 새 로그인 거절 (정리는 주기 플러시에서만 수행해 로그인 경로에서 전체 순회하지 않음)
+    @Override
+    public void create(TokenFamily family) {
+        if (families.size() >= properties.getMaxFamilies()) {
+            meterRegistry.counter("refresh_token.rejected", "reason", "capacity").increment();
+            throw new ServiceUnavailableException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        index(family);
+        dirtyFamilyIds.add(family.familyId());
+        revokeOverLimit(family.userId());
+    }
+
+    @Override
+    public RefreshRotationResult rotate(String familyId, String presentedTokenId, String presentedParentTokenId,
+                                        String nextTokenId, long nextExpiresAt) {
+        long now = System.currentTimeMillis();
+        AtomicReference<RefreshRotationResult> result = new AtomicReference<>(RefreshRotationResult.INVALID);
+        boolean restored = restoredFamilyIds.remove(familyId);
+
+        families.computeIfPresent(familyId, (id, family) -> {
+            if (!family.isActive(now)) {
+                return family;
+            }
+            // 재기동 직전 교체가 DB 에 반영되지 않았으면 복원된 토큰의 바로 다음 토큰까지 인정 (복원 후 첫 교체 한 번만)
+            boolean successorOfRestored = restored && family.currentTokenId().equals(presentedParentTokenId);
+            if (!family.currentTokenId().equals(presentedTokenId) && !successorOfRestored) {
+                result.set(RefreshRotationResult.REUSED);
+                return family.revoke();
+            }
+            result.set(RefreshRotationResult.ROTATED);
+            return family.rotate(nextTokenId, nextExpiresAt);
+        });
+
+        meterRegistry.counter("refresh_token.rotations", "result", result.get().name().toLowerCase()).increment();
+        switch (result.get()) {
+            case ROTATED -> dirtyFamilyIds.add(familyId);
+            case REUSED -> {
+                log.warn("refresh token 재사용 감지, family 폐기: familyId={}", familyId);
+                persist(List.of(familyId));
+            }
+            case INVALID -> {
+            }
+        }
+        return result.get();
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        if (families.computeIfPresent(familyId, (id, family) -> family.revoke()) != null) {
+            persist(List.of(familyId));
+        }
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        Set<String> familyIds = familiesByUser.getOrDefault(userId, Set.of());
+        familyIds.forEach(familyId -> families.computeIfPresent(familyId, (id, family) -> family.revoke()));
+        if (!familyIds.isEmpty()) {
+            persist(List.copyOf(familyIds));
+        }
+    }
+
+    @Override
+    public boolean claimLegacyMigration(Long userId, long legacyExpiresAt) {
+        if (familiesByUser.containsKey(userId) || legacyMigrations.putIfAbsent(userId, legacyExpiresAt) != null) {
+            return false;
+        }
+        // 메모리에서 내려간 폐기 family 까지 확인 (비밀번호 변경 후 옛 토큰으로 이관하는 것 방지)
+        if (refreshTokenFamilyRepository.existsByUserId(userId)) {
+            return false;
+        }
+        meterRegistry.counter("refresh_token.legacy_migrations").increment();
+        return true;
+    }
+
+    TokenFamily find(String familyId) {
+        return families.get(familyId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${refresh-token.flush-interval-ms:5000}",
+            initialDelayString = "${refresh-token.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        List<String> familyIds = new ArrayList<>(dirtyFamilyIds);
+        dirtyFamilyIds.removeAll(familyIds);
+        if (!familyIds.isEmpty()) {
+            persist(familyIds);
+        }
+        purgeExpired();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 사용자당 상한을 넘으면 만료가 가장 이른(가장 오래 교체되지 않은) family 부터 폐기
+    private void revokeOverLimit(Long userId) {
+        long now = System.currentTimeMillis();
+        List<TokenFamily> active = familiesByUser.getOrDefault(userId, Set.of()).stream()
+                .map(families::get)
+                .filter(family -> family != null && family.isActive(now))
+                .sorted(Comparator.comparingLong(TokenFamily::expiresAt))
+                .toList();
+
+        int overflow = active.size() - properties.getMaxFamiliesPerUser();
+        if (overflow <= 0) {
+            return;
+        }
+        List<String> revokedIds = active.subList(0, overflow).stream()
+                .map(TokenFamily::familyId)
+                .toList();
+        revokedIds.forEach(familyId -> families.computeIfPresent(familyId, (id, family) -> family.revoke()));
+        persist(revokedIds);
+    }
+
+    private void index(TokenFamily family) {
+        families.put(family.familyId(), family);
+        familiesByUser.compute(family.userId(), (id, familyIds) -> {
+            Set<String> ids = familyIds != null ? familyIds : ConcurrentHashMap.newKeySet();
+            ids.add(family.familyId());
+            return ids;
+        });
+    }
+
+    private void persist(Collection<String> familyIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, RefreshTokenFamily> existing = refreshTokenFamilyRepository.findAllById(familyIds).stream()
+                        .collect(Collectors.toMap(RefreshTokenFamily::getFamilyId, Function.identity()));
+
+                List<RefreshTokenFamily> toSave = new ArrayList<>();
+                for (String familyId : familyIds) {
+                    TokenFamily family = families.get(familyId);
+                    if (family == null) {
+                        continue;
+                    }
+                    RefreshTokenFamily entity = existing.get(familyId);
+                    if (entity == null) {
+                        entity = new RefreshTokenFamily(family.familyId(), family.userId(),
+                                family.currentTokenId(), family.expiresAt(), family.revoked());
+                    } else {
+                        entity.update(family.currentTokenId(), family.expiresAt(), family.revoked());
+                    }
+                    toSave.add(entity);
+                }
+                refreshTokenFamilyRepository.saveAll(toSave);
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도
+            dirtyFamilyIds.addAll(familyIds);
+            log.error("refresh token family 저장 실패: {}건, {}", familyIds.size(), e.getMessage());
+        }
+    }
+
+    // 만료됐거나 폐기가 DB 에 기록된 family 는 메모리에서 내려도 교체 결과(INVALID)가 같음
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        families.values().removeIf(family -> {
+            boolean revokedAndPersisted = family.revoked() && !dirtyFamilyIds.contains(family.familyId());
+            if (family.expiresAt() > now && !revokedAndPersisted) {
+                return false;
+            }
+            familiesByUser.computeIfPresent(family.userId(), (id, familyIds) -> {
+                familyIds.remove(family.familyId());
+                return familyIds.isEmpty() ? null : familyIds;
+            });
+            restoredFamilyIds.remove(family.familyId());
+            return true;
+        });
+        legacyMigrations.values().removeIf(expiresAt -> expiresAt <= now);
+
+        transactionTemplate.executeWithoutResult(status -> refreshTokenFamilyRepository.deleteExpired(now));
+    }
+}
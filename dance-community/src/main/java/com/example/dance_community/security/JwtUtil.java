@@ -1,80 +1,146 @@
 package com.example.dance_community.security;
 
+import com.example.dance_community.cache.TtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
+    private static final long ACCESS_TOKEN_EXPIRATION_MS = 1000L * 60 * 60; // 액세스 토큰 유효기간 : 1시간
+    private static final long REFRESH_TOKEN_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 7; // 리프레시 토큰 유효기간 : 7일
+
     @Value("${jwt.secret}")
     private String jwtSecret;
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize = 10_000;
+    @Value("${jwt.verified-cache.ttl-ms:3600000}")
+    private long verifiedCacheTtlMs = 3_600_000L;
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     private Key key;
+    private JwtParser parser;
+    // 토큰 원문 대신 SHA-256 해시를 키로 보관, 각 항목은 토큰 자체 만료 시각에 함께 만료
+    private TtlCache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = new TtlCache<>(
+                "jwt",
+                verifiedCacheTtlMs,
+                verifiedCacheMaxSize,
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry
+        );
     }
 
     public String generateAccessToken(Long userId) {
-        long accessTokenExpirationMs = 1000L * 60 * 60; // 액세스 토큰 유효기간 : 1시간
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
                 .claim("type", "ACCESS")
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationMs))
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_MS))
                 .signWith(key)
                 .compact();
     }
 
-    public String generateRefreshToken(Long userId) {
-        long refreshTokenExpirationMs = 1000L * 60 * 60 * 24 * 7; // 리프레시 토큰 유효기간 : 7일
+    // familyId: 로그인 1회 단위 계보, tokenId: 교체마다 새로 발급 (jti)
+    // parentTokenId: 이 토큰을 발급하며 교체된 직전 토큰 (로그인 직후 발급이면 null)
+    public String generateRefreshToken(Long userId, String familyId, String tokenId, String parentTokenId, long expiresAt) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .setId(tokenId)
                 .claim("type", "REFRESH")
+                .claim("fid", familyId)
+                .claim("pid", parentTokenId)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpirationMs))
+                .setExpiration(new Date(expiresAt))
                 .signWith(key)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    public long refreshTokenExpiresAt() {
+        return System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_MS;
+    }
+
+    // 서명 검증과 파싱을 한 번만 수행 (같은 토큰 재요청은 캐시에서 반환)
+    public Optional<VerifiedToken> parse(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String cacheKey = sha256(token);
+        Optional<VerifiedToken> cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = getClaims(token);
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken verified = new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    (String) claims.get("type"),
+                    claims.getExpiration().getTime(),
+                    claims.get("fid", String.class),
+                    claims.getId(),
+                    claims.get("pid", String.class)
+            );
+            verifiedTokens.put(cacheKey, verified, verified.expiresAt());
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
+    }
+
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public Long getUserId(String token) {
-        return Long.valueOf(getClaims(token).getSubject());
+        return parse(token)
+                .orElseThrow(() -> new MalformedJwtException("유효하지 않은 토큰입니다"))
+                .userId();
     }
 
     public boolean isAccessToken(String token) {
-        String type = (String) getClaims(token).get("type");
-        return "ACCESS".equals(type);
+        return parse(token).map(VerifiedToken::isAccessToken).orElse(false);
     }
 
     public boolean isRefreshToken(String token) {
-        String type = (String) getClaims(token).get("type");
-        return "REFRESH".equals(type);
+        return parse(token).map(VerifiedToken::isRefreshToken).orElse(false);
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
     }
 }
 
@@ -0,0 +1,49 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.config.LoginRateLimitProperties;
+import com.example.dance_community.exception.TooManyRequestsException;
+import com.example.dance_community.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+// 로그인 시도 제한 (IP, 이메일 각각 토큰 버킷)
+// DB 조회·비밀번호 해싱 전에 거절해서 없는 이메일로 두드리는 요청도 비용이 들지 않게 함
+@Component
+public class LoginRateLimiter {
+    private final boolean enabled;
+    private final RateLimiter ipLimiter;
+    private final RateLimiter emailLimiter;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.ipLimiter = new RateLimiter("login_ip",
+                properties.getIpCapacity(), properties.getIpRefillPerMinute(), properties.getMaxKeys(), meterRegistry);
+        // 이메일 키가 사용 중인 버킷으로 가득 차면 IP 한도만으로 판단
+        this.emailLimiter = new RateLimiter("login_email",
+                properties.getEmailCapacity(), properties.getEmailRefillPerMinute(), properties.getMaxKeys(),
+                RateLimiter.WhenFull.ALLOW, meterRegistry);
+    }
+
+    // IP 한도를 넘은 요청은 이메일 버킷을 소모하지 않음
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        if (email != null && !emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-rate-limit.evict-interval-ms:60000}",
+            initialDelayString = "${login-rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        ipLimiter.evictIdle();
+        emailLimiter.evictIdle();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.cache.TtlCache;
+import com.example.dance_community.config.PrincipalCacheProperties;
+import com.example.dance_community.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+// 인증된 사용자 정보(UserDetail) 캐시
+// 비밀번호 해시는 인증 이후에 쓰이지 않으므로 담지 않음
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final PrincipalCacheProperties properties;
+    private final TtlCache<Long, UserDetail> cache;
+
+    public PrincipalCache(UserRepository userRepository, PrincipalCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.cache = new TtlCache<>("principal", properties.getTtlMs(), properties.getMaxSize(), meterRegistry);
+    }
+
+    // 탈퇴했거나 존재하지 않는 사용자면 empty
+    public Optional<UserDetail> get(Long userId) {
+        if (properties.isClaimsOnly()) {
+            return Optional.of(new UserDetail(userId, null, null, null, null));
+        }
+        return cache.get(userId, this::load);
+    }
+
+    // 트랜잭션 안이면 커밋 후 한 번 더 비워 커밋 전 조회로 다시 채워진 값도 제거
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private UserDetail load(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> new UserDetail(
+                        user.getUserId(),
+                        user.getEmail(),
+                        user.getNickname(),
+                        user.getProfileImage(),
+                        user.getCreatedAt(),
+                        null
+                ))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.enums.RefreshRotationResult;
+
+// refresh token family 저장소
+// 모든 연산이 family 키 하나(+ 사용자별 family 목록)에 대한 원자적 연산이라
+// Redis 백엔드는 HASH(family) + SET(user -> families) + 교체용 Lua 스크립트로 같은 계약을 만족할 수 있음
+public interface RefreshTokenStore {
+
+    void create(TokenFamily family);
+
+    // presentedTokenId 가 현재 토큰이면 nextTokenId 로 교체
+    // 이미 교체된 토큰이 다시 제시되면 탈취로 보고 family 전체를 폐기 (REUSED)
+    // presentedParentTokenId 는 제시된 토큰의 직전 토큰 (영속본이 교체를 못 따라간 경우 판별용)
+    RefreshRotationResult rotate(String familyId, String presentedTokenId, String presentedParentTokenId,
+                                 String nextTokenId, long nextExpiresAt);
+
+    void revoke(String familyId);
+
+    // 비밀번호 변경, 탈퇴 시 해당 사용자의 모든 family 폐기
+    void revokeAll(Long userId);
+
+    // family 도입 전 발급된 토큰(fid/jti 없음)을 사용자당 한 번만 새 family 로 옮기도록 허용
+    // 이미 family 가 있는 사용자(로그인/이관/폐기 이력)는 거절
+    boolean claimLegacyMigration(Long userId, long legacyExpiresAt);
+}
@@ -0,0 +1,22 @@
+package com.example.dance_community.security;
+
+// 로그인 1회에서 이어지는 refresh token 계보, 가장 최근에 발급한 토큰(currentTokenId)만 유효
+public record TokenFamily(
+        String familyId,
+        Long userId,
+        String currentTokenId,
+        long expiresAt,
+        boolean revoked
+) {
+    public boolean isActive(long now) {
+        return !revoked && expiresAt > now;
+    }
+
+    public TokenFamily rotate(String nextTokenId, long nextExpiresAt) {
+        return new TokenFamily(familyId, userId, nextTokenId, nextExpiresAt, false);
+    }
+
+    public TokenFamily revoke() {
+        return new TokenFamily(familyId, userId, currentTokenId, expiresAt, true);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -15,6 +16,7 @@ public class UserDetail implements UserDetails {
     private final String email;
     private final String nickname;
     private final String profileImage;
+    private final LocalDateTime createdAt;
 
     private final String password;
     private final List<GrantedAuthority> authorities;
@@ -25,11 +27,23 @@ public class UserDetail implements UserDetails {
             String nickname,
             String profileImage,
             String password
+    ) {
+        this(userId, email, nickname, profileImage, null, password);
+    }
+
+    public UserDetail(
+            Long userId,
+            String email,
+            String nickname,
+            String profileImage,
+            LocalDateTime createdAt,
+            String password
     ) {
         this.userId = userId;
         this.email = email;
         this.nickname = nickname;
         this.profileImage = profileImage;
+        this.createdAt = createdAt;
         this.password = password;
         this.authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
@@ -0,0 +1,19 @@
+package com.example.dance_community.security;
+
+// 서명과 만료를 검증한 토큰 정보
+public record VerifiedToken(
+        Long userId,
+        String type,
+        long expiresAt,
+        String familyId,
+        String tokenId,
+        String parentTokenId
+) {
+    public boolean isAccessToken() {
+        return "ACCESS".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(type);
+    }
+}
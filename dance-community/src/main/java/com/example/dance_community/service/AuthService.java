@@ -3,20 +3,37 @@ package com.example.dance_community.service;
 import com.example.dance_community.dto.auth.*;
 import com.example.dance_community.dto.user.UserResponse;
 import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.RefreshRotationResult;
 import com.example.dance_community.exception.AuthException;
+import com.example.dance_community.exception.ServiceUnavailableException;
 import com.example.dance_community.security.CookieUtil;
 import com.example.dance_community.security.JwtUtil;
+import com.example.dance_community.security.LoginRateLimiter;
+import com.example.dance_community.security.PrincipalCache;
+import com.example.dance_community.security.RefreshTokenStore;
+import com.example.dance_community.security.TokenFamily;
+import com.example.dance_community.security.UserDetail;
+import com.example.dance_community.security.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserService userService;
     private final CookieUtil cookieUtil;
     private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public AuthResponse signup(SignupRequest request){
@@ -30,38 +47,108 @@ public class AuthService {
         return new AuthResponse(userResponse, "");
     }
 
-    public AuthResponse login(LoginRequest request, HttpServletResponse response) {
+    public AuthResponse login(LoginRequest request, String clientIp, HttpServletResponse response) {
+        loginRateLimiter.check(clientIp, request.getEmail());
+
         User user = userService.findByEmail(request.getEmail());
 
         if (!userService.matchesPassword(user, request.getPassword())) {
             throw new AuthException("비밀번호가 일치하지 않습니다");
         }
+        try {
+            userService.upgradePasswordIfNeeded(user, request.getPassword());
+        } catch (ServiceUnavailableException e) {
+            // 재해싱은 다음 로그인에서 다시 시도
+            meterRegistry.counter("password.rehash.rejected").increment();
+            log.warn("비밀번호 재해싱 거절, 다음 로그인에서 재시도: userId={}, {}", user.getUserId(), e.getMessage());
+        }
 
         String accessToken = jwtUtil.generateAccessToken(user.getUserId());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId());
-
-        cookieUtil.setRefreshTokenCookie(response, refreshToken);
+        issueRefreshToken(user.getUserId(), response);
 
         return new AuthResponse(UserResponse.from(user), accessToken);
     }
 
-    public AuthResponse refresh(String refreshToken) {
+    // refresh token 도 함께 교체 (이전 토큰을 다시 쓰면 family 전체 폐기)
+    public AuthResponse refresh(String refreshToken, HttpServletResponse response) {
         if (refreshToken == null) {
             throw new AuthException("refreshToken이 없습니다");
         }
 
-        if (!jwtUtil.validateToken(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
+        VerifiedToken verified = jwtUtil.parse(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .orElseThrow(() -> new AuthException("유효하지 않은 refreshToken"));
+        if (verified.familyId() == null || verified.tokenId() == null) {
+            return migrateLegacy(verified, response);
+        }
+
+        Long userId = verified.userId();
+        String nextTokenId = UUID.randomUUID().toString();
+        long expiresAt = jwtUtil.refreshTokenExpiresAt();
+
+        RefreshRotationResult result = refreshTokenStore.rotate(
+                verified.familyId(), verified.tokenId(), verified.parentTokenId(), nextTokenId, expiresAt);
+        if (result == RefreshRotationResult.REUSED) {
+            cookieUtil.deleteRefreshTokenCookie(response);
+            throw new AuthException("이미 사용된 refreshToken입니다. 다시 로그인해주세요");
+        }
+        if (result != RefreshRotationResult.ROTATED) {
             throw new AuthException("유효하지 않은 refreshToken");
         }
 
-        Long userId = jwtUtil.getUserId(refreshToken);
-        User user = userService.findByUserId(userId);
+        UserDetail principal = principalCache.get(userId)
+                .orElseThrow(() -> {
+                    refreshTokenStore.revoke(verified.familyId());
+                    return new AuthException("사용자를 찾을 수 없습니다");
+                });
 
+        cookieUtil.setRefreshTokenCookie(response,
+                jwtUtil.generateRefreshToken(userId, verified.familyId(), nextTokenId, verified.tokenId(), expiresAt));
         String newAccessToken = jwtUtil.generateAccessToken(userId);
-        return new AuthResponse(UserResponse.from(user), newAccessToken);
+        return new AuthResponse(toUserResponse(principal), newAccessToken);
+    }
+
+    // family 도입 전에 발급된 토큰(fid/jti 없음)은 사용자당 한 번만 받아 새 family 로 옮김 (배포 직후 일괄 재로그인 방지)
+    private AuthResponse migrateLegacy(VerifiedToken verified, HttpServletResponse response) {
+        Long userId = verified.userId();
+        if (!refreshTokenStore.claimLegacyMigration(userId, verified.expiresAt())) {
+            cookieUtil.deleteRefreshTokenCookie(response);
+            throw new AuthException("만료된 로그인 정보입니다. 다시 로그인해주세요");
+        }
+
+        UserDetail principal = principalCache.get(userId)
+                .orElseThrow(() -> new AuthException("사용자를 찾을 수 없습니다"));
+
+        issueRefreshToken(userId, response);
+        return new AuthResponse(toUserResponse(principal), jwtUtil.generateAccessToken(userId));
+    }
+
+    private void issueRefreshToken(Long userId, HttpServletResponse response) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = jwtUtil.refreshTokenExpiresAt();
+        refreshTokenStore.create(new TokenFamily(familyId, userId, tokenId, expiresAt, false));
+
+        cookieUtil.setRefreshTokenCookie(response, jwtUtil.generateRefreshToken(userId, familyId, tokenId, null, expiresAt));
     }
 
-    public void logout(HttpServletResponse response) {
+    public void logout(String refreshToken, HttpServletResponse response) {
+        if (refreshToken != null) {
+            jwtUtil.parse(refreshToken)
+                    .filter(VerifiedToken::isRefreshToken)
+                    .map(VerifiedToken::familyId)
+                    .ifPresent(refreshTokenStore::revoke);
+        }
         cookieUtil.deleteRefreshTokenCookie(response);
     }
+
+    private UserResponse toUserResponse(UserDetail principal) {
+        return new UserResponse(
+                principal.getUserId(),
+                principal.getEmail(),
+                principal.getNickname(),
+                principal.getProfileImage(),
+                principal.getCreatedAt()
+        );
+    }
 }
@@ -1,8 +1,9 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipCache;
+import com.example.dance_community.cache.ClubRoleCache;
 import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.ClubJoin;
-import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.enums.ClubRole;
 import com.example.dance_community.exception.AuthException;
 import com.example.dance_community.exception.NotFoundException;
@@ -20,19 +21,22 @@ import java.util.List;
 public class ClubAuthService {
     private final ClubRepository clubRepository;
     private final ClubJoinRepository clubJoinRepository;
+    private final ClubMembershipCache clubMembershipCache;
+    private final ClubRoleCache clubRoleCache;
 
+    // 권한 확인은 엔티티 대신 역할 캐시로 (역할/상태 변경 시 ClubMembershipChangedEvent 로 무효화)
     public void validateClubAuthority(Long userId, Long clubId) {
-        ClubJoin clubJoin = findClubJoin(userId, clubId);
+        ClubRoleCache.Membership membership = findMembership(userId, clubId);
 
-        if (!clubJoin.hasManagementPermission()) {
+        if (!membership.hasManagementPermission()) {
             throw new AuthException("클럽 권한이 없습니다");
         }
     }
 
     public void validateLeaderAuthority(Long userId, Long clubId) {
-        ClubJoin clubJoin = findClubJoin(userId, clubId);
+        ClubRoleCache.Membership membership = findMembership(userId, clubId);
 
-        if (clubJoin == null || clubJoin.getRole() != ClubRole.LEADER) {
+        if (membership.role() != ClubRole.LEADER) {
             throw new AuthException("클럽 리더만 가능합니다");
         }
     }
@@ -47,7 +51,13 @@ public class ClubAuthService {
                 .orElseThrow(() -> new NotFoundException("가입 정보를 찾을 수 없습니다"));
     }
 
+    private ClubRoleCache.Membership findMembership(Long userId, Long clubId) {
+        return clubRoleCache.find(userId, clubId)
+                .orElseThrow(() -> new NotFoundException("가입 정보를 찾을 수 없습니다"));
+    }
+
+    // 피드 조회마다 쓰이므로 캐시 경유
     public List<Long> findUserClubIds(Long userId) {
-        return clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE);
+        return clubMembershipCache.findClubIds(userId);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
 import com.example.dance_community.dto.club.ClubJoinResponse;
 import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.ClubJoin;
@@ -10,8 +11,10 @@ import com.example.dance_community.exception.ConflictException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
 import com.example.dance_community.repository.ClubJoinRepository;
+import com.example.dance_community.repository.ClubRepository;
 import com.example.dance_community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,8 +25,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ClubJoinService {
     private final ClubJoinRepository clubJoinRepository;
+    private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final ClubAuthService clubAuthService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 일반 사용자용
     @Transactional
@@ -38,6 +43,7 @@ public class ClubJoinService {
             }
             existingJoin.changeStatus(ClubJoinStatus.PENDING);
             existingJoin.changeRole(ClubRole.MEMBER);
+            eventPublisher.publishEvent(ClubMembershipChangedEvent.of(userId, clubId));
             return ClubJoinResponse.from(existingJoin);
         }
 
@@ -52,7 +58,9 @@ public class ClubJoinService {
                 .status(ClubJoinStatus.PENDING)
                 .build();
 
-        return ClubJoinResponse.from(clubJoinRepository.save(newClubJoin));
+        ClubJoinResponse response = ClubJoinResponse.from(clubJoinRepository.save(newClubJoin));
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(userId, clubId));
+        return response;
     }
 
     @Transactional
@@ -64,6 +72,7 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.CANCELED);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(userId, clubId));
     }
 
     @Transactional
@@ -79,6 +88,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.LEFT);
+        clubRepository.decreaseMemberCounts(List.of(clubId));
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(userId, clubId));
     }
 
     public List<ClubJoinResponse> getMyClubs(Long userId) {
@@ -102,6 +113,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.ACTIVE);
+        clubRepository.increaseMemberCount(clubId);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(applicantId, clubId));
     }
 
     @Transactional
@@ -114,6 +127,7 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.REJECTED);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(applicantId, clubId));
     }
 
     @Transactional
@@ -132,6 +146,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.LEFT);
+        clubRepository.decreaseMemberCounts(List.of(clubId));
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(targetUserId, clubId));
     }
 
     @Transactional
@@ -147,6 +163,7 @@ public class ClubJoinService {
         }
 
         clubJoin.changeRole(newRole);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(targetUserId, clubId));
     }
 
     // 조회용
@@ -167,10 +184,17 @@ public class ClubJoinService {
 
     @Transactional
     public void softDeleteByUserId(Long userId) {
+        // 활동 중이던 클럽의 멤버 수를 먼저 줄이고 상태 변경
+        List<Long> activeClubIds = clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE);
+        if (!activeClubIds.isEmpty()) {
+            clubRepository.decreaseMemberCounts(activeClubIds);
+        }
         clubJoinRepository.softDeleteByUserId(userId, ClubJoinStatus.LEFT);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.ofUser(userId));
     }
     @Transactional
     public void softDeleteByClubId(Long clubId) {
         clubJoinRepository.softDeleteByClubId(clubId, ClubJoinStatus.CANCELED);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.ofClub(clubId));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
+import com.example.dance_community.config.PaginationProperties;
 import com.example.dance_community.dto.club.ClubCreateRequest;
 import com.example.dance_community.dto.club.ClubResponse;
 import com.example.dance_community.dto.club.ClubUpdateRequest;
@@ -7,15 +9,22 @@ import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.enums.ClubRole;
+import com.example.dance_community.enums.ClubSortType;
+import com.example.dance_community.enums.ClubType;
+import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
 import com.example.dance_community.repository.ClubRepository;
 import com.example.dance_community.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +38,8 @@ public class ClubService {
     private final PostService postService;
     private final EventService eventService;
     private final FileStorageService fileStorageService;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
     private final EntityManager em;
 
     @Transactional
@@ -44,17 +55,33 @@ public class ClubService {
                 .clubType(request.getClubType())
                 .clubImage(request.getClubImage())
                 .tags(request.getTags())
+                .memberCount(1L)
                 .build();
 
         club.addMember(user, ClubRole.LEADER, ClubJoinStatus.ACTIVE);
-        return ClubResponse.from(clubRepository.save(club));
+        Club savedClub = clubRepository.save(club);
+        eventPublisher.publishEvent(ClubMembershipChangedEvent.of(userId, savedClub.getClubId()));
+        return ClubResponse.from(savedClub);
     }
 
     public ClubResponse getClub(Long clubId) {
         return ClubResponse.from(clubAuthService.findByClubId(clubId));
     }
-    public List<ClubResponse> getClubs() {
-        return clubRepository.findAll().stream().map(ClubResponse::from).toList();
+    public List<ClubResponse> getClubs(ClubType clubType, String locationName, String tag, String sort, int page, Integer size) {
+        ClubSortType sortType = parseSortType(sort);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), paginationProperties.resolveSize(size));
+
+        List<Club> clubs = clubRepository.findClubs(clubType, locationName, tag, sortType, pageable);
+        if (clubs.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> clubIds = clubs.stream().map(Club::getClubId).toList();
+        Map<Long, List<String>> tagsByClubId = clubRepository.findTagsByClubIds(clubIds);
+
+        return clubs.stream()
+                .map(club -> ClubResponse.of(club, tagsByClubId.getOrDefault(club.getClubId(), List.of())))
+                .toList();
     }
 
     @Transactional
@@ -109,4 +136,15 @@ public class ClubService {
         em.flush();
         em.clear();
     }
+
+    private ClubSortType parseSortType(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return ClubSortType.LATEST;
+        }
+        try {
+            return ClubSortType.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 정렬 기준입니다. (LATEST, MEMBER_COUNT 중 선택)");
+        }
+    }
 }
\ No newline at end of file
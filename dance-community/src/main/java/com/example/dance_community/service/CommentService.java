@@ -1,5 +1,8 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.comment.CommentRequest;
 import com.example.dance_community.dto.comment.CommentResponse;
 import com.example.dance_community.entity.Comment;
@@ -9,13 +12,12 @@ import com.example.dance_community.entity.User;
 import com.example.dance_community.exception.AccessDeniedException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
 import com.example.dance_community.repository.CommentRepository;
 import com.example.dance_community.repository.EventRepository;
 import com.example.dance_community.repository.PostRepository;
 import com.example.dance_community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,8 @@ public class CommentService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final EventRepository eventRepository;
+    private final PaginationProperties paginationProperties;
+    private final HotPostRanking hotPostRanking;
 
     @Transactional
     public CommentResponse createComment(Long userId, CommentRequest request) {
@@ -57,29 +61,34 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        if (post != null) {
+            postRepository.increaseCommentCount(post.getPostId());
+            hotPostRanking.recordCommentAfterCommit(post.getPostId(), 1);
+        } else {
+            eventRepository.increaseCommentCount(event.getEventId());
+        }
         return CommentResponse.from(savedComment, userId);
     }
 
-    public List<CommentResponse> getComments(Long postId, Long eventId, Long currentUserId) {
+    public CursorPage<CommentResponse> getComments(Long postId, Long eventId, Long currentUserId, String after, Integer size) {
         validateOneTargetOnly(postId, eventId);
+        int pageSize = paginationProperties.resolveSize(size);
+        Cursor cursor = Cursor.decode(after);
 
-        List<Comment> commentList;
+        List<Comment> comments = commentRepository.findCommentPage(postId, eventId, cursor, pageSize + 1);
 
-        if (postId != null) {
-            if (!postRepository.existsById(postId)) {
-                throw new NotFoundException("게시글을 찾을 수 없습니다.");
-            }
-            commentList = commentRepository.findByPost_PostId(postId);
-        } else {
-            if (!eventRepository.existsById(eventId)) {
-                throw new NotFoundException("행사를 찾을 수 없습니다.");
-            }
-            commentList = commentRepository.findByEvent_EventId(eventId);
+        // 빈 페이지일 때만 부모 존재 여부 확인 (댓글이 있으면 부모가 살아 있다는 뜻)
+        if (comments.isEmpty()) {
+            validateTargetExists(postId, eventId);
         }
 
-        return commentList.stream()
-                .map(comment -> CommentResponse.from(comment, currentUserId))
-                .toList();
+        return CursorPage.of(
+                comments, pageSize,
+                comment -> new Cursor(comment.getCreatedAt(), comment.getCommentId()),
+                content -> content.stream()
+                        .map(comment -> CommentResponse.from(comment, currentUserId))
+                        .toList()
+        );
     }
 
     @Transactional
@@ -97,6 +106,12 @@ public class CommentService {
         validateOwner(comment, userId);
 
         comment.delete();
+        if (comment.getPost() != null) {
+            postRepository.decreaseCommentCount(comment.getPost().getPostId());
+            hotPostRanking.recordCommentAfterCommit(comment.getPost().getPostId(), -1);
+        } else if (comment.getEvent() != null) {
+            eventRepository.decreaseCommentCount(comment.getEvent().getEventId());
+        }
     }
 
     private void validateOneTargetOnly(Long postId, Long eventId) {
@@ -108,6 +123,15 @@ public class CommentService {
         }
     }
 
+    private void validateTargetExists(Long postId, Long eventId) {
+        if (postId != null && !postRepository.existsById(postId)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        if (eventId != null && !eventRepository.existsById(eventId)) {
+            throw new NotFoundException("행사를 찾을 수 없습니다.");
+        }
+    }
+
     private Comment findComment(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
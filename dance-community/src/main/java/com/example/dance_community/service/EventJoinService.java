@@ -11,6 +11,7 @@ import com.example.dance_community.repository.EventJoinRepository;
 import com.example.dance_community.repository.EventRepository;
 import com.example.dance_community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +24,12 @@ public class EventJoinService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventJoinRepository eventJoinRepository;
+    private final EventSeatGate eventSeatGate;
 
+    // 좌석 확보(조건부 UPDATE)를 신청 행 INSERT 보다 먼저 수행
+    // INSERT 의 event_id 외래 키 검사가 events 행에 S 잠금을 잡으므로, 그 뒤에 UPDATE(X 잠금)를 하면
+    // 동시 신청끼리 서로의 S 잠금을 기다리며 교착됨 (MySQL InnoDB)
+    // 정원이 찼으면 예외 대신 대기열(WAITLISTED)에 등록
     @Transactional
     public EventJoinResponse applyEvent(Long userId, Long eventId) {
         EventJoin existingJoin = eventJoinRepository
@@ -34,31 +40,52 @@ public class EventJoinService {
             if (existingJoin.getStatus() == EventJoinStatus.CONFIRMED) {
                 throw new ConflictException("이미 신청이 완료된 행사입니다.");
             }
+            if (existingJoin.getStatus() == EventJoinStatus.WAITLISTED) {
+                throw new ConflictException("이미 대기 중인 행사입니다.");
+            }
         }
 
-        Event event = eventRepository.findWithLockByEventId(eventId)
+        Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("행사를 찾을 수 없습니다"));
+        User user = existingJoin == null
+                ? userRepository.findById(userId).orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"))
+                : null;
 
-        long currentCount = eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED);
-        if (currentCount >= event.getCapacity()) {
-            throw new ConflictException("선착순 마감되었습니다.");
-        }
+        // 잠금을 잡은 뒤에는 신청 행 기록만 남겨 잠금 구간을 짧게 유지
+        EventJoinStatus status = reserveSeat(eventId) ? EventJoinStatus.CONFIRMED : EventJoinStatus.WAITLISTED;
 
+        EventJoin join;
         if (existingJoin != null) {
-            existingJoin.changeStatus(EventJoinStatus.CONFIRMED);
-            return EventJoinResponse.from(existingJoin);
+            existingJoin.changeStatus(status);
+            join = existingJoin;
+        } else {
+            EventJoin newJoin = EventJoin.builder()
+                    .participant(user)
+                    .event(event)
+                    .status(status)
+                    .build();
+
+            // 중복 신청이면 예외로 롤백되어 위에서 늘린 확정 인원도 함께 되돌려짐
+            try {
+                join = eventJoinRepository.save(newJoin);
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("이미 신청이 완료된 행사입니다.");
+            }
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
-
-        EventJoin newJoin = EventJoin.builder()
-                .participant(user)
-                .event(event)
-                .status(EventJoinStatus.CONFIRMED)
-                .build();
+        return EventJoinResponse.from(join);
+    }
 
-        return EventJoinResponse.from(eventJoinRepository.save(newJoin));
+    // 마감 표시가 없으면 확정 인원을 조건부로 늘리고, 0건이면 마감 표시 후 실패
+    private boolean reserveSeat(Long eventId) {
+        if (eventSeatGate.isSoldOut(eventId)) {
+            return false;
+        }
+        if (eventRepository.increaseConfirmedCount(eventId) == 0) {
+            eventSeatGate.markSoldOut(eventId);
+            return false;
+        }
+        return true;
     }
 
     @Transactional
@@ -66,11 +93,15 @@ public class EventJoinService {
         EventJoin join = eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId)
                 .orElseThrow(() -> new NotFoundException("신청 내역이 없습니다"));
 
-        if (join.getStatus() != EventJoinStatus.CONFIRMED) {
+        EventJoinStatus previousStatus = join.getStatus();
+        if (previousStatus != EventJoinStatus.CONFIRMED && previousStatus != EventJoinStatus.WAITLISTED) {
             throw new InvalidRequestException("취소할 수 없는 상태입니다");
         }
 
         join.changeStatus(EventJoinStatus.CANCELED);
+        if (previousStatus == EventJoinStatus.CONFIRMED) {
+            releaseSeat(eventId);
+        }
     }
 
     @Transactional
@@ -90,6 +121,35 @@ public class EventJoinService {
         }
 
         targetJoin.changeStatus(EventJoinStatus.REJECTED);
+        releaseSeat(eventId);
+    }
+
+    // 빈 좌석은 대기열 선두에게 그대로 넘기고, 대기자가 없을 때만 확정 인원을 줄임
+    private void releaseSeat(Long eventId) {
+        EventJoin head = eventJoinRepository.findWaitlistHead(eventId).orElse(null);
+        if (head != null) {
+            head.changeStatus(EventJoinStatus.CONFIRMED);
+            return;
+        }
+
+        eventRepository.decreaseConfirmedCount(eventId);
+        eventSeatGate.reopen(eventId);
+    }
+
+    // 정원 증가분만큼 대기열 선두부터 확정, 대기자가 바닥나면 마감 표시 해제
+    @Transactional
+    public void fillOpenSeats(Long eventId) {
+        while (true) {
+            EventJoin head = eventJoinRepository.findWaitlistHead(eventId).orElse(null);
+            if (head == null) {
+                eventSeatGate.reopen(eventId);
+                return;
+            }
+            if (eventRepository.increaseConfirmedCount(eventId) == 0) {
+                return;
+            }
+            head.changeStatus(EventJoinStatus.CONFIRMED);
+        }
     }
 
     public EventJoinResponse getJoinStatus(Long userId, Long eventId) {
@@ -115,8 +175,12 @@ public class EventJoinService {
                 .stream().map(EventJoinResponse::from).toList();
     }
 
+    // 탈퇴 유저가 확정돼 있던 행사마다 좌석 반납 (대기자 승격 또는 확정 인원 차감)
+    @Transactional
     public void softDeleteByUserId(Long userId) {
+        List<Long> confirmedEventIds = eventJoinRepository.findEventIdsByParticipant(userId, EventJoinStatus.CONFIRMED);
         eventJoinRepository.softDeleteByUserId(userId, EventJoinStatus.CANCELED);
+        confirmedEventIds.forEach(this::releaseSeat);
     }
     public void softDeleteByClubId(Long clubId) {
         eventJoinRepository.softDeleteByClubId(clubId, EventJoinStatus.CANCELED);
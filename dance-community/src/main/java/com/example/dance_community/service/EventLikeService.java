@@ -1,13 +1,15 @@
 package com.example.dance_community.service;
 
 import com.example.dance_community.dto.like.EventlikeResponse;
-import com.example.dance_community.entity.*;
-import com.example.dance_community.repository.*;
+import com.example.dance_community.dto.like.LikeStatusResponse;
+import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.repository.EventLikeRepository;
+import com.example.dance_community.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -15,35 +17,62 @@ import java.util.Optional;
 public class EventLikeService {
     private final EventRepository eventRepository;
     private final EventLikeRepository eventLikeRepository;
-    private final UserRepository userRepository;
+
+    // 이미 좋아요 상태여도 성공 (멱등)
+    @Transactional
+    public EventlikeResponse like(Long userId, Long eventId) {
+        if (eventLikeRepository.insertIfAbsent(eventId, userId) > 0) {
+            eventRepository.increaseLikeCounts(List.of(eventId));
+        }
+        return new EventlikeResponse(true, getLikeCount(eventId));
+    }
+
+    @Transactional
+    public EventlikeResponse unlike(Long userId, Long eventId) {
+        if (eventLikeRepository.deleteByEventIdAndUserId(eventId, userId) > 0) {
+            eventRepository.decreaseLikeCounts(List.of(eventId));
+        }
+        return new EventlikeResponse(false, getLikeCount(eventId));
+    }
 
     @Transactional
     public EventlikeResponse toggleLike(Long userId, Long eventId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("행사를 찾을 수 없습니다"));
-
-        Optional<EventLike> existingLike = eventLikeRepository.findByEventAndUser(event, user);
-
-        boolean isLiked;
-
-        if (existingLike.isPresent()) {
-            eventLikeRepository.delete(existingLike.get());
-            event.decrementLikeCount();
-            isLiked = false;
-        } else {
-            EventLike newLike = EventLike.builder()
-                    .event(event)
-                    .user(user)
-                    .build();
-            eventLikeRepository.save(newLike);
-            event.incrementLikeCount();
-            isLiked = true;
+        if (eventLikeRepository.insertIfAbsent(eventId, userId) > 0) {
+            eventRepository.increaseLikeCounts(List.of(eventId));
+            return new EventlikeResponse(true, getLikeCount(eventId));
+        }
+        return unlike(userId, eventId);
+    }
+
+    // 존재하지 않거나 삭제된 행사는 결과에서 제외
+    // 선조회로 후보만 추리고, 실제 변경 여부는 건별 INSERT IGNORE/DELETE 의 영향 행 수로 판단
+    @Transactional
+    public List<LikeStatusResponse> updateLikes(Long userId, List<Long> eventIds, boolean liked) {
+        List<Long> targetIds = eventIds.stream().distinct().toList();
+        List<Long> candidateIds = liked
+                ? eventLikeRepository.findUnlikedEventIds(targetIds, userId)
+                : List.copyOf(eventLikeRepository.findLikedEventIds(targetIds, userId));
+
+        List<Long> changedIds = candidateIds.stream()
+                .filter(eventId -> liked
+                        ? eventLikeRepository.insertIfAbsent(eventId, userId) > 0
+                        : eventLikeRepository.deleteByEventIdAndUserId(eventId, userId) > 0)
+                .toList();
+        if (!changedIds.isEmpty()) {
+            if (liked) {
+                eventRepository.increaseLikeCounts(changedIds);
+            } else {
+                eventRepository.decreaseLikeCounts(changedIds);
+            }
         }
 
-        return new EventlikeResponse(isLiked, event.getLikeCount());
+        return eventRepository.findAllById(targetIds).stream()
+                .map(event -> new LikeStatusResponse(event.getEventId(), liked, event.getLikeCount()))
+                .toList();
     }
-}
 
+    private Long getLikeCount(Long eventId) {
+        return eventRepository.findLikeCount(eventId)
+                .orElseThrow(() -> new NotFoundException("행사를 찾을 수 없습니다"));
+    }
+}
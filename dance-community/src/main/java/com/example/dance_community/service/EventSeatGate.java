@@ -0,0 +1,35 @@
+package com.example.dance_community.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마감된 행사에 대한 신청을 DB 접근 없이 빠르게 거절하기 위한 인메모리 게이트
+// 좌석 수의 정합성은 events.confirmed_count 조건부 UPDATE가 보장하고, 여기서는 마감 힌트만 짧게 보관
+@Component
+public class EventSeatGate {
+    private static final long SOLD_OUT_TTL_MILLIS = 1_000L;
+
+    private final Map<Long, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+    public boolean isSoldOut(Long eventId) {
+        Long until = soldOutUntil.get(eventId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            soldOutUntil.remove(eventId, until);
+            return false;
+        }
+        return true;
+    }
+
+    public void markSoldOut(Long eventId) {
+        soldOutUntil.put(eventId, System.currentTimeMillis() + SOLD_OUT_TTL_MILLIS);
+    }
+
+    public void reopen(Long eventId) {
+        soldOutUntil.remove(eventId);
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.counter.ViewCountBuffer;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.event.EventCreateRequest;
 import com.example.dance_community.dto.event.EventResponse;
 import com.example.dance_community.dto.event.EventUpdateRequest;
@@ -7,24 +11,33 @@ import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.Event;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.EventJoinStatus;
+import com.example.dance_community.enums.EventSortType;
 import com.example.dance_community.enums.EventType;
 import com.example.dance_community.enums.Scope;
+import com.example.dance_community.enums.TargetType;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.index.UpcomingEventIndex;
+import com.example.dance_community.ranking.TrendingTagRanking;
 import com.example.dance_community.repository.EventJoinRepository;
 import com.example.dance_community.repository.EventLikeRepository;
 import com.example.dance_community.repository.EventRepository;
 import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.search.EventSearchIndex;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,9 +46,15 @@ public class EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventJoinRepository eventJoinRepository;
+    private final EventJoinService eventJoinService;
     private final EventLikeRepository eventLikeRepository;
     private final ClubAuthService clubAuthService;
     private final FileStorageService fileStorageService;
+    private final PaginationProperties paginationProperties;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventSearchIndex eventSearchIndex;
+    private final TrendingTagRanking trendingTagRanking;
     private final EntityManager em;
 
     @Transactional
@@ -76,45 +95,117 @@ public class EventService {
                 .endsAt(request.getEndsAt())
                 .build();
 
-        return EventResponse.from(eventRepository.save(event), false);
+        Event savedEvent = eventRepository.save(event);
+        EventResponse response = EventResponse.from(savedEvent, false);
+        upcomingEventIndex.upsertAfterCommit(response);
+        eventSearchIndex.indexAfterCommit(savedEvent);
+        if (scope == Scope.GLOBAL) {
+            trendingTagRanking.recordAfterCommit(savedEvent.getTags());
+        }
+        return response;
     }
 
-    @Transactional
     public EventResponse getEvent(Long eventId, Long userId) {
         Event event = getActiveEvent(eventId);
-        eventRepository.updateViewCount(eventId);
+        viewCountBuffer.recordView(TargetType.EVENT, eventId, userId);
 
         boolean isLiked = userId != null && eventLikeRepository.existsByEventEventIdAndUserUserId(eventId, userId);
 
         return EventResponse.from(event, isLiked);
     }
-    public List<EventResponse> getEvents(Long userId) {
+    public CursorPage<EventResponse> getEvents(Long userId, String sort, String tag, String cursor, Integer size) {
+        EventSortType sortType = parseSortType(sort);
+        int pageSize = paginationProperties.resolveSize(size);
+        Cursor decoded = Cursor.decode(cursor);
+
+        List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
+        List<Event> events = eventRepository.findEventFeed(myClubIds, sortType, tag, decoded, pageSize + 1);
+
+        return CursorPage.of(
+                events, pageSize,
+                event -> new Cursor(sortType == EventSortType.STARTS_AT ? event.getStartsAt() : event.getCreatedAt(), event.getEventId()),
+                content -> convertToResponses(content, userId)
+        );
+    }
+    // 색인에서 id 를 찾고 행사는 id 로만 조회 (최신 등록순, cursor 이전)
+    // 색인에는 있지만 조회되지 않는 행사가 섞이면 마지막 색인 id 뒤에서 더 읽어 pageSize + 1 개를 채움 (다음 커서 판단용)
+    public CursorPage<EventResponse> searchEvents(Long userId, String query, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요");
+        }
+        int pageSize = paginationProperties.resolveSize(size);
+        Cursor decoded = Cursor.decode(cursor);
+
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
-        List<Event> events = eventRepository.findAllEvents(myClubIds);
-        return convertToResponses(events, userId);
+        List<Event> events = new ArrayList<>();
+        Long beforeId = decoded == null ? null : decoded.id();
+        while (events.size() <= pageSize) {
+            int limit = pageSize + 1 - events.size();
+            List<Long> eventIds = eventSearchIndex.search(query, myClubIds, beforeId, limit);
+            if (eventIds.isEmpty()) {
+                break;
+            }
+            events.addAll(orderByIds(eventIds, eventRepository.findEventsByIds(eventIds)));
+            if (eventIds.size() < limit) {
+                break;
+            }
+            beforeId = eventIds.getLast();
+        }
+
+        return CursorPage.of(
+                events, pageSize,
+                event -> new Cursor(event.getCreatedAt(), event.getEventId()),
+                content -> convertToResponses(content, userId)
+        );
     }
     public List<EventResponse> getUpcomingEvents(Long userId) {
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
-        Pageable pageable = PageRequest.of(0, 10);
+        List<EventResponse> events = upcomingEventIndex.upcoming(myClubIds, 10);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> likedEventIds = userId == null
+                ? Collections.emptySet()
+                : eventLikeRepository.findLikedEventIds(events.stream().map(EventResponse::eventId).toList(), userId);
 
-        List<Event> events = eventRepository.findUpcomingEvents(myClubIds, pageable);
-        return convertToResponses(events, userId);
+        return events.stream()
+                .map(event -> event.withIsLiked(likedEventIds.contains(event.eventId())))
+                .toList();
+    }
+    // id 목록 순서대로 정렬, 조회되지 않은(삭제된) 행사는 제외
+    private List<Event> orderByIds(List<Long> eventIds, List<Event> events) {
+        Map<Long, Event> eventsById = events.stream()
+                .collect(Collectors.toMap(Event::getEventId, Function.identity()));
+        return eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
     private List<EventResponse> convertToResponses(List<Event> events, Long userId) {
         if (events.isEmpty()) {
             return List.of();
         }
 
+        List<Long> eventIds = events.stream().map(Event::getEventId).toList();
+
         Set<Long> likedEventIds = new HashSet<>();
         if (userId != null) {
-            List<Long> eventIds = events.stream().map(Event::getEventId).toList();
             likedEventIds = eventLikeRepository.findLikedEventIds(eventIds, userId);
         }
 
         Set<Long> finalLikedEventIds = likedEventIds;
 
+        Map<Long, List<String>> tags = eventRepository.findTagsByEventIds(eventIds);
+        Map<Long, List<String>> images = eventRepository.findImagesByEventIds(eventIds);
+
         return events.stream()
-                .map(event -> EventResponse.from(event, finalLikedEventIds.contains(event.getEventId())))
+                .map(event -> EventResponse.from(
+                        event,
+                        finalLikedEventIds.contains(event.getEventId()),
+                        tags.getOrDefault(event.getEventId(), List.of()),
+                        images.getOrDefault(event.getEventId(), List.of())
+                ))
                 .toList();
     }
 
@@ -122,6 +213,7 @@ public class EventService {
     public EventResponse updateEvent(Long userId, Long eventId, EventUpdateRequest request) {
         Event event = getActiveEvent(eventId);
         checkHost(userId, event);
+        Long previousCapacity = event.getCapacity();
 
         event.updateEvent(
                 request.getTitle(), request.getContent(), request.getTags(),
@@ -129,11 +221,17 @@ public class EventService {
                 request.getLocationLink(), request.getCapacity(),
                 request.getStartsAt(), request.getEndsAt()
         );
+        if (previousCapacity != null && request.getCapacity() != null && request.getCapacity() > previousCapacity) {
+            eventJoinService.fillOpenSeats(eventId);
+        }
 
         fileStorageService.processImageUpdate(event, request.getNewImagePaths(), request.getKeepImages());
         boolean isLiked = eventLikeRepository.existsByEventEventIdAndUserUserId(eventId, userId);
 
-        return EventResponse.from(event, isLiked);
+        EventResponse response = EventResponse.from(event, isLiked);
+        upcomingEventIndex.upsertAfterCommit(response.withIsLiked(false));
+        eventSearchIndex.indexAfterCommit(event);
+        return response;
     }
 
     @Transactional
@@ -149,6 +247,8 @@ public class EventService {
 
         eventJoinRepository.softDeleteByEventId(eventId, EventJoinStatus.CANCELED);
         event.delete();
+        upcomingEventIndex.removeAfterCommit(eventId);
+        eventSearchIndex.removeAfterCommit(eventId);
 
         em.flush();
         em.clear();
@@ -158,6 +258,16 @@ public class EventService {
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("행사 조회 실패"));
     }
+    private EventSortType parseSortType(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return EventSortType.LATEST;
+        }
+        try {
+            return EventSortType.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 정렬 기준입니다. (LATEST, STARTS_AT 중 선택)");
+        }
+    }
     private void checkHost(Long userId, Event event) {
         if (!event.getHost().getUserId().equals(userId)) {
             throw new InvalidRequestException("권한이 없습니다");
@@ -166,6 +276,12 @@ public class EventService {
 
     public void softDeleteByUserId(Long userId) {
         eventRepository.softDeleteByUserId(userId);
+        upcomingEventIndex.removeByHostAfterCommit(userId);
+        eventSearchIndex.removeByOwnerAfterCommit(userId);
+    }
+    public void softDeleteByClubId(Long clubId) {
+        eventRepository.softDeleteByClubId(clubId);
+        upcomingEventIndex.removeByClubAfterCommit(clubId);
+        eventSearchIndex.removeByClubAfterCommit(clubId);
     }
-    public void softDeleteByClubId(Long clubId) { eventRepository.softDeleteByClubId(clubId); }
 }
\ No newline at end of file
@@ -1,53 +1,99 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.counter.PostLikeCounter;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.like.PostLikeResponse;
-import com.example.dance_community.entity.Post;
-import com.example.dance_community.entity.PostLike;
-import com.example.dance_community.entity.User;
+import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
 import com.example.dance_community.repository.PostLikeRepository;
 import com.example.dance_community.repository.PostRepository;
-import com.example.dance_community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostLikeService {
-    private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostLikeCounter postLikeCounter;
+    private final HotPostRanking hotPostRanking;
+
+    // 이미 좋아요 상태여도 성공 (멱등)
+    @Transactional
+    public PostLikeResponse like(Long userId, Long postId) {
+        if (postLikeRepository.insertIfAbsent(postId, userId) > 0) {
+            increase(List.of(postId));
+        }
+        return new PostLikeResponse(true, getLikeCount(postId));
+    }
+
+    @Transactional
+    public PostLikeResponse unlike(Long userId, Long postId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            decrease(List.of(postId));
+        }
+        return new PostLikeResponse(false, getLikeCount(postId));
+    }
 
     @Transactional
     public PostLikeResponse toggleLike(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다"));
-
-        Optional<PostLike> existingLike = postLikeRepository.findByPostAndUser(post, user);
-
-        boolean isLiked;
-
-        if (existingLike.isPresent()) {
-            postLikeRepository.delete(existingLike.get());
-            post.decrementLikeCount();
-            isLiked = false;
-        } else {
-            PostLike newLike = PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            postLikeRepository.save(newLike);
-            post.incrementLikeCount();
-            isLiked = true;
+        if (postLikeRepository.insertIfAbsent(postId, userId) > 0) {
+            increase(List.of(postId));
+            return new PostLikeResponse(true, getLikeCount(postId));
+        }
+        return unlike(userId, postId);
+    }
+
+    // 존재하지 않거나 삭제된 게시글은 결과에서 제외
+    // 선조회로 바뀔 후보만 추리고, 실제 변경 여부는 건별 INSERT IGNORE/DELETE 의 영향 행 수로 판단
+    // (선조회는 잠그지 않으므로 같은 사용자의 동시 요청이 둘 다 '안 누름'으로 볼 수 있음)
+    @Transactional
+    public List<LikeStatusResponse> updateLikes(Long userId, List<Long> postIds, boolean liked) {
+        List<Long> targetIds = postIds.stream().distinct().toList();
+        List<Long> candidateIds = liked
+                ? postLikeRepository.findUnlikedPostIds(targetIds, userId)
+                : List.copyOf(postLikeRepository.findLikedPostIds(targetIds, userId));
+
+        List<Long> changedIds = candidateIds.stream()
+                .filter(postId -> liked
+                        ? postLikeRepository.insertIfAbsent(postId, userId) > 0
+                        : postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0)
+                .toList();
+        if (!changedIds.isEmpty()) {
+            if (liked) {
+                increase(changedIds);
+            } else {
+                decrease(changedIds);
+            }
         }
 
-        return new PostLikeResponse(isLiked, post.getLikeCount());
+        Map<Long, Long> pendingDeltas = postLikeCounter.pendingDeltas(targetIds);
+        return postRepository.findAllById(targetIds).stream()
+                .map(post -> new LikeStatusResponse(
+                        post.getPostId(),
+                        liked,
+                        post.getLikeCount() + pendingDeltas.getOrDefault(post.getPostId(), 0L)
+                ))
+                .toList();
+    }
+
+    private void increase(List<Long> postIds) {
+        postLikeCounter.increase(postIds);
+        hotPostRanking.recordLikesAfterCommit(postIds, 1);
+    }
+
+    private void decrease(List<Long> postIds) {
+        postLikeCounter.decrease(postIds);
+        hotPostRanking.recordLikesAfterCommit(postIds, -1);
     }
-}
 
+    private Long getLikeCount(Long postId) {
+        return postLikeCounter.likeCount(postId)
+                .orElseThrow(() -> new NotFoundException("게시물을 찾을 수 없습니다"));
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.counter.ViewCountBuffer;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.post.PostCreateRequest;
 import com.example.dance_community.dto.post.PostResponse;
 import com.example.dance_community.dto.post.PostUpdateRequest;
@@ -7,29 +11,45 @@ import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.Post;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.Scope;
+import com.example.dance_community.enums.TargetType;
 import com.example.dance_community.exception.AccessDeniedException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
+import com.example.dance_community.ranking.TrendingTagRanking;
 import com.example.dance_community.repository.*;
+import com.example.dance_community.search.PostSearchIndex;
+import com.example.dance_community.timeline.ClubPostTimeline;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final int MY_CLUB_POSTS_SIZE = 10;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
     private final ClubAuthService clubAuthService;
     private final FileStorageService fileStorageService;
+    private final PaginationProperties paginationProperties;
+    private final ViewCountBuffer viewCountBuffer;
+    private final HotPostRanking hotPostRanking;
+    private final ClubPostTimeline clubPostTimeline;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingTagRanking trendingTagRanking;
 
     @Transactional
     public PostResponse createPost(Long userId, PostCreateRequest request) {
@@ -62,34 +82,111 @@ public class PostService {
                 .images(request.getImages())
                 .build();
 
-        return PostResponse.from(postRepository.save(post), false);
+        Post savedPost = postRepository.save(post);
+        postSearchIndex.indexAfterCommit(savedPost);
+        if (club != null) {
+            clubPostTimeline.publishAfterCommit(savedPost.getPostId(), club.getClubId());
+        } else {
+            trendingTagRanking.recordAfterCommit(savedPost.getTags());
+        }
+        return PostResponse.from(savedPost, false);
     }
 
-    @Transactional
     public PostResponse getPost(Long postId, Long userId) {
         Post post = getActivePost(postId);
-        postRepository.updateViewCount(postId);
+        if (viewCountBuffer.recordView(TargetType.POST, postId, userId)) {
+            hotPostRanking.recordView(postId);
+        }
 
         boolean isLiked = userId != null && postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId);
 
         return PostResponse.from(post, isLiked);
     }
-    public List<PostResponse> getPosts(Long userId) {
+    public CursorPage<PostResponse> getPosts(Long userId, String tag, String before, Integer size) {
+        int pageSize = paginationProperties.resolveSize(size);
+        Cursor cursor = Cursor.decode(before);
+
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
-        List<Post> posts = postRepository.findAllPosts(myClubIds);
-        return convertToResponses(posts, userId);
+        List<Post> posts = postRepository.findPostFeed(myClubIds, tag, cursor, pageSize + 1);
+
+        return CursorPage.of(
+                posts, pageSize,
+                post -> new Cursor(post.getCreatedAt(), post.getPostId()),
+                content -> convertToResponses(content, userId)
+        );
     }
+    // 순위와 응답은 HotPostRanking 스냅샷에서 읽고 좋아요 여부만 사용자별로 조회
     public List<PostResponse> getHotPosts(Long userId) {
-        Pageable pageable = PageRequest.of(0, 10);
+        List<PostResponse> hotPosts = hotPostRanking.hotPosts();
+        if (userId == null || hotPosts.isEmpty()) {
+            return hotPosts;
+        }
 
-        List<Post> posts = postRepository.findHotPosts(pageable);
-        return convertToResponses(posts, userId);
+        List<Long> postIds = hotPosts.stream().map(PostResponse::postId).toList();
+        Set<Long> likedPostIds = postLikeRepository.findLikedPostIds(postIds, userId);
+        return hotPosts.stream()
+                .map(response -> response.withIsLiked(likedPostIds.contains(response.postId())))
+                .toList();
     }
+    // 색인에서 id 를 찾고 게시글은 id 로만 조회 (최신순, before 커서 이전)
+    // 색인에는 있지만 조회되지 않는 글이 섞이면 마지막 색인 id 뒤에서 더 읽어 pageSize + 1 개를 채움 (다음 커서 판단용)
+    public CursorPage<PostResponse> searchPosts(Long userId, String query, String before, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요");
+        }
+        int pageSize = paginationProperties.resolveSize(size);
+        Cursor decoded = Cursor.decode(before);
+
+        List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
+        List<Post> posts = new ArrayList<>();
+        Long beforeId = decoded == null ? null : decoded.id();
+        while (posts.size() <= pageSize) {
+            int limit = pageSize + 1 - posts.size();
+            List<Long> postIds = postSearchIndex.search(query, myClubIds, beforeId, limit);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            posts.addAll(orderByIds(postIds, postRepository.findPostsByIds(postIds)));
+            if (postIds.size() < limit) {
+                break;
+            }
+            beforeId = postIds.getLast();
+        }
+
+        return CursorPage.of(
+                posts, pageSize,
+                post -> new Cursor(post.getCreatedAt(), post.getPostId()),
+                content -> convertToResponses(content, userId)
+        );
+    }
+
+    // 타임라인에서 id 조각을 읽고 게시글은 id 로만 조회 (삭제된 글이 빠져도 채울 수 있게 여유분까지 읽음)
     public List<PostResponse> getMyClubPosts(Long userId) {
-        Pageable pageable = PageRequest.of(0, 10);
-        List<Post> posts = postRepository.findMyClubPosts(userId, pageable);
+        List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
+        if (myClubIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = clubPostTimeline.recentPostIds(userId, myClubIds, MY_CLUB_POSTS_SIZE * 2);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Post> posts = orderByIds(postIds, postRepository.findClubPostsByIds(postIds)).stream()
+                .limit(MY_CLUB_POSTS_SIZE)
+                .toList();
         return convertToResponses(posts, userId);
     }
+
+    // id 목록 순서대로 정렬, 조회되지 않은(삭제된) 글은 제외
+    private List<Post> orderByIds(List<Long> postIds, List<Post> posts) {
+        Map<Long, Post> postsById = posts.stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
     private List<PostResponse> convertToResponses(List<Post> posts, Long userId) {
         if (posts.isEmpty()) {
             return List.of();
@@ -102,8 +199,16 @@ public class PostService {
 
         Set<Long> finalLikedPostIds = likedPostIds;
 
+        Map<Long, List<String>> tags = postRepository.findTagsByPostIds(postIds);
+        Map<Long, List<String>> images = postRepository.findImagesByPostIds(postIds);
+
         return posts.stream()
-                .map(post -> PostResponse.from(post, finalLikedPostIds.contains(post.getPostId())))
+                .map(post -> PostResponse.from(
+                        post,
+                        finalLikedPostIds.contains(post.getPostId()),
+                        tags.getOrDefault(post.getPostId(), List.of()),
+                        images.getOrDefault(post.getPostId(), List.of())
+                ))
                 .toList();
     }
 
@@ -114,6 +219,7 @@ public class PostService {
 
         post.updatePost(request.getTitle(), request.getContent(), request.getTags());
         fileStorageService.processImageUpdate(post, request.getNewImagePaths(), request.getKeepImages());
+        postSearchIndex.indexAfterCommit(post);
         boolean isLiked = postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId);
 
         return PostResponse.from(post, isLiked);
@@ -124,6 +230,7 @@ public class PostService {
         Post post = getActivePost(postId);
         checkAuthor(userId, post);
         post.delete();
+        postSearchIndex.removeAfterCommit(postId);
     }
 
     private Post getActivePost(Long postId) {
@@ -139,9 +246,11 @@ public class PostService {
     @Transactional
     public void softDeleteByUserId(Long userId) {
         postRepository.softDeleteByUserId(userId);
+        postSearchIndex.removeByOwnerAfterCommit(userId);
     }
     @Transactional
     public void softDeleteByClubId(Long clubId) {
         postRepository.softDeleteByClubId(clubId);
+        postSearchIndex.removeByClubAfterCommit(clubId);
     }
 }
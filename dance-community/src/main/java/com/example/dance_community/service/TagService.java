@@ -0,0 +1,19 @@
+package com.example.dance_community.service;
+
+import com.example.dance_community.dto.tag.TrendingTagResponse;
+import com.example.dance_community.ranking.TrendingTagRanking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+    private final TrendingTagRanking trendingTagRanking;
+
+    // 순위는 TrendingTagRanking 스냅샷에서 읽음 (요청마다 집계하지 않음)
+    public List<TrendingTagResponse> getTrendingTags() {
+        return trendingTagRanking.trendingTags();
+    }
+}
@@ -7,10 +7,12 @@ import com.example.dance_community.entity.User;
 import com.example.dance_community.exception.ConflictException;
 import com.example.dance_community.exception.NotFoundException;
 import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.security.PasswordHasher;
+import com.example.dance_community.security.PrincipalCache;
+import com.example.dance_community.security.RefreshTokenStore;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 
@@ -18,13 +20,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final FileStorageService fileStorageService;
     private final PostService postService;
     private final EventService eventService;
     private final ClubJoinService clubJoinService;
     private final EventJoinService eventJoinService;
     private final EntityManager em;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public UserResponse createUser(String email, String password, String nickname, String profileImage) {
@@ -37,7 +41,7 @@ public class UserService {
 
         User user = User.builder()
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHasher.encode(password))
                 .nickname(nickname)
                 .profileImage(profileImage)
                 .build();
@@ -65,6 +69,7 @@ public class UserService {
                 request.getNickname(),
                 request.getProfileImage() == null ? user.getProfileImage() : request.getProfileImage()
         );
+        principalCache.evict(userId);
 
         return UserResponse.from(userRepository.save(user));
     }
@@ -74,8 +79,10 @@ public class UserService {
         User user = this.findByUserId(userId);
 
         user.updatePassword(
-                passwordEncoder.encode(request.getPassword())
+                passwordHasher.encode(request.getPassword())
         );
+        principalCache.evict(userId);
+        refreshTokenStore.revokeAll(userId);
 
         User savedUser = userRepository.save(user);
         return UserResponse.from(savedUser);
@@ -88,6 +95,7 @@ public class UserService {
         if (user.getProfileImage() != null) {
             fileStorageService.deleteFile(user.getProfileImage());
             user.deleteImage();
+            principalCache.evict(userId);
         }
 
         User savedUser = userRepository.save(user);
@@ -107,13 +115,24 @@ public class UserService {
         clubJoinService.softDeleteByUserId(userId);
         eventJoinService.softDeleteByUserId(userId);
         user.delete();
+        principalCache.evict(userId);
+        refreshTokenStore.revokeAll(userId);
 
         em.flush();
         em.clear();
     }
 
     public boolean matchesPassword(User user, String rawPassword) {
-        return passwordEncoder.matches(rawPassword, user.getPassword());
+        return passwordHasher.matches(rawPassword, user.getPassword());
+    }
+
+    // 설정된 해시 cost 가 올라갔으면 로그인 성공 시점의 평문으로 재해싱
+    @Transactional
+    public void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsUpgrade(user.getPassword())) {
+            return;
+        }
+        userRepository.updatePasswordIfUnchanged(user.getUserId(), user.getPassword(), passwordHasher.encode(rawPassword));
     }
     public User findByUserId(Long userId) {
         return userRepository.findById(userId)
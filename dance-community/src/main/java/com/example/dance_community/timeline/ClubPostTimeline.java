@@ -0,0 +1,194 @@
+package com.example.dance_community.timeline;
+
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
+import com.example.dance_community.config.ClubTimelineProperties;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.repository.ClubJoinRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 내 동아리 소식 타임라인 (fan-out-on-write)
+// 동아리 글이 작성되면 활동 회원의 타임라인 링 버퍼에 id 를 밀어넣고, 조회는 링 버퍼 조각 읽기로 처리
+// 회원이 많은 동아리는 동아리 링 버퍼에만 기록하고 조회 시 병합 (fan-out-on-read)
+// 지표: club_timeline.fanout{mode=write|read}, club_timeline.users
+@Component
+public class ClubPostTimeline {
+    private final PostRepository postRepository;
+    private final ClubJoinRepository clubJoinRepository;
+    private final ClubTimelineProperties properties;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Long, TimelineRing> userTimelines = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, TimelineRing> largeClubTimelines = new ConcurrentHashMap<>();
+
+    private final Counter writeFanoutCounter;
+    private final Counter readFanoutCounter;
+
+    public ClubPostTimeline(PostRepository postRepository, ClubJoinRepository clubJoinRepository,
+                            ClubTimelineProperties properties, MeterRegistry meterRegistry) {
+        this(postRepository, clubJoinRepository, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    ClubPostTimeline(PostRepository postRepository, ClubJoinRepository clubJoinRepository,
+                     ClubTimelineProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.postRepository = postRepository;
+        this.clubJoinRepository = clubJoinRepository;
+        this.properties = properties;
+        this.clock = clock;
+
+        this.writeFanoutCounter = Counter.builder("club_timeline.fanout").tag("mode", "write")
+                .description("회원 타임라인에 밀어넣은 동아리 글 수")
+                .register(meterRegistry);
+        this.readFanoutCounter = Counter.builder("club_timeline.fanout").tag("mode", "read")
+                .description("회원이 많아 동아리 타임라인에만 기록한 동아리 글 수")
+                .register(meterRegistry);
+        Gauge.builder("club_timeline.users", userTimelines, Map::size)
+                .description("타임라인을 보관 중인 사용자 수")
+                .register(meterRegistry);
+    }
+
+    // 롤백된 글이 퍼지지 않도록 커밋 후 반영
+    public void publishAfterCommit(Long postId, Long clubId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(postId, clubId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(postId, clubId);
+            }
+        });
+    }
+
+    // 내 동아리(myClubIds) 글 id 를 최신순으로 limit 개
+    // 탈퇴한 동아리 글은 걸러내고, 삭제된 글은 호출 측에서 조회 시 걸러짐
+    public List<Long> recentPostIds(Long userId, Collection<Long> myClubIds, int limit) {
+        Set<Long> clubIds = new HashSet<>(myClubIds);
+
+        List<TimelineRing.Entry> entries = new ArrayList<>(timelineOf(userId).newestFirst());
+        boolean merged = false;
+        for (Long clubId : clubIds) {
+            TimelineRing clubTimeline = largeClubTimelines.get(clubId);
+            if (clubTimeline != null) {
+                entries.addAll(clubTimeline.newestFirst());
+                merged = true;
+            }
+        }
+        if (merged) {
+            entries.sort(Comparator.comparingLong(TimelineRing.Entry::postId).reversed());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<Long> postIds = new ArrayList<>(limit);
+        for (TimelineRing.Entry entry : entries) {
+            if (postIds.size() >= limit) {
+                break;
+            }
+            if (clubIds.contains(entry.clubId()) && seen.add(entry.postId())) {
+                postIds.add(entry.postId());
+            }
+        }
+        return postIds;
+    }
+
+    // 가입/탈퇴 등으로 대상 동아리가 바뀐 사용자는 다음 조회 때 다시 적재
+    @EventListener
+    public void onMembershipChanged(ClubMembershipChangedEvent event) {
+        if (event.userId() == null) {
+            largeClubTimelines.remove(event.clubId());
+            return;
+        }
+
+        Long userId = event.userId();
+        userTimelines.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userTimelines.remove(userId);
+                }
+            });
+        }
+    }
+
+    void publish(Long postId, Long clubId) {
+        int limit = properties.getFanoutMaxMembers();
+        List<Long> memberIds = clubJoinRepository.findUserIdsByClubIdAndStatus(
+                clubId, ClubJoinStatus.ACTIVE, PageRequest.of(0, limit + 1));
+
+        if (memberIds.size() > limit) {
+            largeClubTimelines
+                    .computeIfAbsent(clubId, id -> new TimelineRing(properties.getCapacity(), clock.getAsLong()))
+                    .push(postId, clubId);
+            readFanoutCounter.increment();
+            return;
+        }
+
+        // 타임라인이 아직 없는 회원은 다음 조회 때 DB 에서 적재되므로 건너뜀
+        for (Long memberId : memberIds) {
+            TimelineRing timeline = userTimelines.get(memberId);
+            if (timeline != null) {
+                timeline.push(postId, clubId);
+            }
+        }
+        writeFanoutCounter.increment();
+    }
+
+    int trackedUsers() {
+        return userTimelines.size();
+    }
+
+    private TimelineRing timelineOf(Long userId) {
+        long now = clock.getAsLong();
+        TimelineRing timeline = userTimelines.get(userId);
+        if (timeline != null && now - timeline.createdAt() < properties.getTtlMs()) {
+            return timeline;
+        }
+
+        TimelineRing loaded = load(userId, now);
+        if (userTimelines.size() >= properties.getMaxUsers() && !userTimelines.containsKey(userId)) {
+            makeRoom();
+        }
+        userTimelines.put(userId, loaded);
+        return loaded;
+    }
+
+    private TimelineRing load(Long userId, long now) {
+        TimelineRing timeline = new TimelineRing(properties.getCapacity(), now);
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(
+                postRepository.findMyClubPostIds(userId, properties.getCapacity()).entrySet());
+
+        // 최신순 결과를 오래된 것부터 밀어넣어 링 버퍼 순서를 맞춤
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            timeline.push(rows.get(i).getKey(), rows.get(i).getValue());
+        }
+        return timeline;
+    }
+
+    private void makeRoom() {
+        Iterator<Long> userIds = userTimelines.keySet().iterator();
+        while (userTimelines.size() >= properties.getMaxUsers() && userIds.hasNext()) {
+            userIds.next();
+            userIds.remove();
+        }
+    }
+}
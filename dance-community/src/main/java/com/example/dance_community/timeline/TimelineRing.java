@@ -0,0 +1,44 @@
+package com.example.dance_community.timeline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 고정 크기 링 버퍼: 가득 차면 가장 오래 전에 넣은 항목을 덮어씀
+// 커밋 순서가 뒤섞일 수 있어 읽을 때 postId 내림차순으로 정렬 (IDENTITY 라 작성 순서와 같음)
+final class TimelineRing {
+    private final long[] postIds;
+    private final long[] clubIds;
+    private final long createdAt;
+    private int next = 0;
+    private int size = 0;
+
+    TimelineRing(int capacity, long createdAt) {
+        this.postIds = new long[capacity];
+        this.clubIds = new long[capacity];
+        this.createdAt = createdAt;
+    }
+
+    synchronized void push(long postId, long clubId) {
+        postIds[next] = postId;
+        clubIds[next] = clubId;
+        next = (next + 1) % postIds.length;
+        size = Math.min(size + 1, postIds.length);
+    }
+
+    synchronized List<Entry> newestFirst() {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(postIds[i], clubIds[i]));
+        }
+        entries.sort(Comparator.comparingLong(Entry::postId).reversed());
+        return entries;
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    record Entry(long postId, long clubId) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.dance_community.cache;
+
+import com.example.dance_community.config.ClubMembershipCacheProperties;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.repository.ClubJoinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubMembershipCacheTest {
+
+    @Mock
+    private ClubJoinRepository clubJoinRepository;
+
+    private ClubMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClubMembershipCache(clubJoinRepository, new ClubMembershipCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 DB 를 거치지 않고 가입 여부도 캐시로 판별")
+    void findClubIds_Cached() {
+        // given
+        given(clubJoinRepository.findClubIdsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(30L, 10L, 20L));
+
+        // when
+        List<Long> first = cache.findClubIds(1L);
+        List<Long> second = cache.findClubIds(1L);
+
+        // then
+        assertThat(first).containsExactly(10L, 20L, 30L);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.isMember(1L, 20L)).isTrue();
+        assertThat(cache.isMember(1L, 40L)).isFalse();
+        verify(clubJoinRepository, times(1)).findClubIdsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("동아리 단위 무효화 - 해당 동아리 회원 항목만 다시 조회")
+    void evictClub_OnlyMembers() {
+        // given
+        given(clubJoinRepository.findClubIdsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE)).willReturn(List.of(10L));
+        given(clubJoinRepository.findClubIdsByUserIdAndStatus(2L, ClubJoinStatus.ACTIVE)).willReturn(List.of(20L));
+        cache.findClubIds(1L);
+        cache.findClubIds(2L);
+
+        // when
+        cache.evictClub(10L);
+        cache.findClubIds(1L);
+        cache.findClubIds(2L);
+
+        // then
+        verify(clubJoinRepository, times(2)).findClubIdsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE);
+        verify(clubJoinRepository, times(1)).findClubIdsByUserIdAndStatus(2L, ClubJoinStatus.ACTIVE);
+    }
+}
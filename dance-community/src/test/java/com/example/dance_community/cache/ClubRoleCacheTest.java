@@ -0,0 +1,73 @@
+package com.example.dance_community.cache;
+
+import com.example.dance_community.config.ClubRoleCacheProperties;
+import com.example.dance_community.entity.ClubJoin;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.enums.ClubRole;
+import com.example.dance_community.repository.ClubJoinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubRoleCacheTest {
+
+    @Mock
+    private ClubJoinRepository clubJoinRepository;
+
+    private ClubRoleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClubRoleCache(clubJoinRepository, new ClubRoleCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("역할 변경 이벤트 후에만 다시 조회")
+    void find_ReloadsAfterEvent() {
+        // given
+        ClubJoin member = ClubJoin.builder().role(ClubRole.MEMBER).status(ClubJoinStatus.ACTIVE).build();
+        ClubJoin manager = ClubJoin.builder().role(ClubRole.MANAGER).status(ClubJoinStatus.ACTIVE).build();
+        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(1L, 10L))
+                .willReturn(Optional.of(member), Optional.of(manager));
+
+        // when
+        ClubRoleCache.Membership before = cache.find(1L, 10L).orElseThrow();
+        cache.find(1L, 10L);
+        cache.onMembershipChanged(ClubMembershipChangedEvent.of(1L, 10L));
+        ClubRoleCache.Membership after = cache.find(1L, 10L).orElseThrow();
+
+        // then
+        assertThat(before.hasManagementPermission()).isFalse();
+        assertThat(after.hasManagementPermission()).isTrue();
+        verify(clubJoinRepository, times(2)).findByUser_UserIdAndClub_ClubId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("가입 이력이 없는 조합도 캐시하고, 동아리 단위 이벤트로 무효화")
+    void find_NotJoinedCachedUntilClubEvent() {
+        // given
+        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(1L, 10L)).willReturn(Optional.empty());
+
+        // when
+        Optional<ClubRoleCache.Membership> first = cache.find(1L, 10L);
+        cache.find(1L, 10L);
+        cache.onMembershipChanged(ClubMembershipChangedEvent.ofClub(10L));
+        cache.find(1L, 10L);
+
+        // then
+        assertThat(first).isEmpty();
+        verify(clubJoinRepository, times(2)).findByUser_UserIdAndClub_ClubId(1L, 10L);
+    }
+}
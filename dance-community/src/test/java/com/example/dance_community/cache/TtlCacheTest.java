@@ -0,0 +1,124 @@
+package com.example.dance_community.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private SimpleMeterRegistry meterRegistry;
+    private TtlCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TtlCache<>("test", 1_000L, 2, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 loader 를 다시 호출하지 않고 적중/미스 지표 기록")
+    void get_HitSkipsLoader() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        String value = cache.get(1L, key -> "v" + loads.incrementAndGet()).orElseThrow();
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 로드")
+    void get_ExpiredReloads() {
+        cache.put(1L, "old");
+        now.set(1_000L);
+
+        assertThat(cache.get(1L, key -> "new")).contains("new");
+    }
+
+    @Test
+    @DisplayName("개별 만료 시각은 TTL 보다 앞설 때만 적용")
+    void put_WithExpiresAt() {
+        cache.put(1L, "short", 100L);
+        cache.put(2L, "long", 60_000L);
+        now.set(500L);
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+        assertThat(cache.getIfPresent(2L)).contains("long");
+
+        now.set(1_000L);
+        assertThat(cache.getIfPresent(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘지 않고 무효화 가능")
+    void put_BoundedAndInvalidate() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.put(3L, "c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent(3L)).contains("c");
+
+        cache.invalidate(3L);
+        assertThat(cache.getIfPresent(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가득 차면 상한의 10% 를 한 번에 내보내 다음 새 키는 바로 들어감")
+    void put_EvictsBatchWhenFull() {
+        TtlCache<Long, String> large = new TtlCache<>("large", 1_000L, 20, meterRegistry, now::get);
+        for (long key = 1; key <= 20; key++) {
+            large.put(key, "v" + key);
+        }
+
+        large.put(21L, "v21");
+        large.put(22L, "v22");
+
+        assertThat(large.size()).isEqualTo(20);
+        assertThat(large.getIfPresent(21L)).contains("v21");
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "large").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 만료 항목을 먼저 비우고 살아 있는 항목은 내보내지 않음")
+    void put_SweepsExpiredFirst() {
+        cache.put(1L, "a", 100L);
+        cache.put(2L, "b");
+        now.set(200L);
+
+        cache.put(3L, "c");
+
+        assertThat(cache.getIfPresent(2L)).contains("b");
+        assertThat(cache.getIfPresent(3L)).contains("c");
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "test").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("loader 가 null 을 돌려주면 캐시하지 않음")
+    void get_NullNotCached() {
+        assertThat(cache.get(1L, key -> null)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("키/값 조건으로 무효화")
+    void invalidateIf_ByCondition() {
+        cache.put(1L, "club-10");
+        cache.put(2L, "club-20");
+
+        cache.invalidateIf((key, value) -> value.endsWith("10"));
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+        assertThat(cache.getIfPresent(2L)).contains("club-20");
+    }
+}
@@ -115,7 +115,7 @@ class AuthControllerTest {
         LoginRequest request = new LoginRequest("test@email.com", "pw");
         AuthResponse response = new AuthResponse(new UserResponse(1L, "e", "n", null, null), "token");
 
-        given(authService.login(any(), any())).willReturn(response);
+        given(authService.login(any(), any(), any())).willReturn(response);
 
         // when & then
         mockMvc.perform(post("/auth/login")
@@ -132,7 +132,7 @@ class AuthControllerTest {
     void login_Fail_Unauthorized() throws Exception {
         // given
         LoginRequest request = new LoginRequest("test@email.com", "wrong-pw");
-        given(authService.login(any(), any()))
+        given(authService.login(any(), any(), any()))
                 .willThrow(new com.example.dance_community.exception.AuthException("비밀번호가 일치하지 않습니다"));
 
         // when & then
@@ -152,7 +152,7 @@ class AuthControllerTest {
         String refreshToken = "valid-refresh-token";
         AuthResponse response = new AuthResponse(null, "new-access-token");
 
-        given(authService.refresh(refreshToken)).willReturn(response);
+        given(authService.refresh(eq(refreshToken), any())).willReturn(response);
 
         // when & then
         mockMvc.perform(post("/auth/refresh")
@@ -168,7 +168,7 @@ class AuthControllerTest {
     void refresh_Fail_InvalidToken() throws Exception {
         // given
         String invalidToken = "invalid-token";
-        given(authService.refresh(invalidToken))
+        given(authService.refresh(eq(invalidToken), any()))
                 .willThrow(new com.example.dance_community.exception.AuthException("유효하지 않은 refreshToken"));
 
         // when & then
@@ -201,6 +201,6 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("로그아웃 성공"));
 
-        verify(authService).logout(any());
+        verify(authService).logout(any(), any());
     }
 }
\ No newline at end of file
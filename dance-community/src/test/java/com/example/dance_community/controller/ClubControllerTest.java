@@ -80,6 +80,7 @@ class ClubControllerTest {
                         .param("clubName", "Club Name")
                         .param("intro", "Intro")
                         .param("locationName", "Seoul")
+                        .param("tag", "popping")
                         .param("description", "Desc")
                         .param("clubType", "CLUB")
                         .param("tags", "tag1", "tag2")
@@ -88,6 +89,23 @@ class ClubControllerTest {
                 .andExpect(jsonPath("$.message").value("클럽 생성 성공"));
     }
 
+    @Test
+    @DisplayName("클럽 디렉터리 조회 성공 - 필터/태그/정렬/페이지 파라미터 전달")
+    @WithCustomMockUser
+    void getClubs_Success() throws Exception {
+        given(clubService.getClubs(eq(ClubType.CREW), eq("Seoul"), eq("popping"), eq("MEMBER_COUNT"), eq(1), eq(10)))
+                .willReturn(List.of(createMockResponse()));
+
+        mockMvc.perform(get("/clubs")
+                        .param("clubType", "CREW")
+                        .param("locationName", "Seoul")
+                        .param("sort", "MEMBER_COUNT")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].clubId").value(1L));
+    }
+
     @Test
     @DisplayName("클럽 조회 성공")
     @WithCustomMockUser
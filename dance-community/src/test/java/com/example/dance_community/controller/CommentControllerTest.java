@@ -1,5 +1,6 @@
 package com.example.dance_community.controller;
 
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.comment.CommentRequest;
 import com.example.dance_community.dto.comment.CommentResponse;
 import com.example.dance_community.security.JwtFilter;
@@ -109,7 +110,8 @@ class CommentControllerTest {
     @WithCustomMockUser
     void getComments_ByPostId_Success() throws Exception {
         // given
-        given(commentService.getComments(eq(1L), eq(null), any())).willReturn(List.of(createMockResponse()));
+        given(commentService.getComments(eq(1L), eq(null), any(), eq(null), eq(null)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), null));
 
         // when & then
         mockMvc.perform(get("/comments")
@@ -124,14 +126,18 @@ class CommentControllerTest {
     @WithCustomMockUser
     void getComments_ByEventId_Success() throws Exception {
         // given
-        given(commentService.getComments(eq(null), eq(1L), any())).willReturn(List.of(createMockResponse()));
+        given(commentService.getComments(eq(null), eq(1L), any(), eq("cursor"), eq(10)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), "next"));
 
         // when & then
         mockMvc.perform(get("/comments")
-                        .param("eventId", "1"))
+                        .param("eventId", "1")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("댓글 조회 성공"))
-                .andExpect(jsonPath("$.data[0].commentId").value(1L));
+                .andExpect(jsonPath("$.data[0].commentId").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
@@ -1,8 +1,10 @@
 package com.example.dance_community.controller;
 
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.event.EventCreateRequest;
 import com.example.dance_community.dto.event.EventResponse;
 import com.example.dance_community.dto.event.EventUpdateRequest;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.like.EventlikeResponse;
 import com.example.dance_community.enums.ImageType;
 import com.example.dance_community.security.JwtFilter;
@@ -20,6 +22,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -111,10 +114,30 @@ class EventControllerTest {
     @DisplayName("전체 행사 조회 성공")
     @WithCustomMockUser
     void getEvents_Success() throws Exception {
-        given(eventService.getEvents(any())).willReturn(List.of(createMockResponse()));
+        given(eventService.getEvents(any(), eq("STARTS_AT"), eq("popping"), any(), eq(10)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), "next"));
 
-        mockMvc.perform(get("/events"))
+        mockMvc.perform(get("/events")
+                        .param("sort", "STARTS_AT")
+                        .param("tag", "popping")
+                        .param("size", "10"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].eventId").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("행사 검색 성공")
+    @WithCustomMockUser
+    void searchEvents_Success() throws Exception {
+        given(eventService.searchEvents(any(), eq("워크샵"), any(), eq(10)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), null));
+
+        mockMvc.perform(get("/events/search")
+                        .param("q", "워크샵")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("행사 검색 성공"))
                 .andExpect(jsonPath("$.data[0].eventId").value(1L));
     }
 
@@ -164,4 +187,54 @@ class EventControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.data.isLiked").value(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("행사 좋아요 등록 성공 (멱등)")
+    @WithCustomMockUser
+    void like_Success() throws Exception {
+        given(eventLikeService.like(any(), eq(1L))).willReturn(new EventlikeResponse(true, 10L));
+
+        mockMvc.perform(put("/events/{eventId}/like", 1L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isLiked").value(true));
+    }
+
+    @Test
+    @DisplayName("행사 좋아요 취소 성공 (멱등)")
+    @WithCustomMockUser
+    void unlike_Success() throws Exception {
+        given(eventLikeService.unlike(any(), eq(1L))).willReturn(new EventlikeResponse(false, 9L));
+
+        mockMvc.perform(delete("/events/{eventId}/like", 1L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isLiked").value(false));
+    }
+
+    @Test
+    @DisplayName("행사 좋아요 일괄 처리 성공")
+    @WithCustomMockUser
+    void updateLikes_Success() throws Exception {
+        given(eventLikeService.updateLikes(any(), eq(List.of(1L, 2L)), eq(true)))
+                .willReturn(List.of(new LikeStatusResponse(1L, true, 3L), new LikeStatusResponse(2L, true, 1L)));
+
+        mockMvc.perform(post("/events/likes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetIds\": [1, 2], \"liked\": true}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1].targetId").value(2L));
+    }
+
+    @Test
+    @DisplayName("행사 좋아요 일괄 처리 실패 - 대상 id 미입력")
+    @WithCustomMockUser
+    void updateLikes_Fail_EmptyTargets() throws Exception {
+        mockMvc.perform(post("/events/likes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetIds\": [], \"liked\": true}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+}
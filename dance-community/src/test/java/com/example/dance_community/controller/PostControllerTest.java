@@ -1,5 +1,7 @@
 package com.example.dance_community.controller;
 
+import com.example.dance_community.dto.CursorPage;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.like.PostLikeResponse;
 import com.example.dance_community.dto.post.PostCreateRequest;
 import com.example.dance_community.dto.post.PostResponse;
@@ -20,6 +22,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -107,11 +110,32 @@ class PostControllerTest {
     @DisplayName("전체 게시글 조회 성공")
     @WithCustomMockUser
     void getPosts_Success() throws Exception {
-        given(postService.getPosts(any())).willReturn(List.of(createMockResponse()));
+        given(postService.getPosts(any(), eq("popping"), eq("cursor"), eq(10)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), "next"));
 
-        mockMvc.perform(get("/posts"))
+        mockMvc.perform(get("/posts")
+                        .param("tag", "popping")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].postId").value(1L));
+                .andExpect(jsonPath("$.data[0].postId").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("게시물 검색 성공")
+    @WithCustomMockUser
+    void searchPosts_Success() throws Exception {
+        given(postService.searchPosts(any(), eq("힙합"), any(), eq(10)))
+                .willReturn(new CursorPage<>(List.of(createMockResponse()), "next"));
+
+        mockMvc.perform(get("/posts/search")
+                        .param("q", "힙합")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("게시물 검색 성공"))
+                .andExpect(jsonPath("$.data[0].postId").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
@@ -166,4 +190,54 @@ class PostControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.data.isLiked").value(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시글 좋아요 등록 성공 (멱등)")
+    @WithCustomMockUser
+    void like_Success() throws Exception {
+        given(postLikeService.like(any(), eq(1L))).willReturn(new PostLikeResponse(true, 10L));
+
+        mockMvc.perform(put("/posts/{postId}/like", 1L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isLiked").value(true));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 성공 (멱등)")
+    @WithCustomMockUser
+    void unlike_Success() throws Exception {
+        given(postLikeService.unlike(any(), eq(1L))).willReturn(new PostLikeResponse(false, 9L));
+
+        mockMvc.perform(delete("/posts/{postId}/like", 1L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isLiked").value(false));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 처리 성공")
+    @WithCustomMockUser
+    void updateLikes_Success() throws Exception {
+        given(postLikeService.updateLikes(any(), eq(List.of(1L, 2L)), eq(true)))
+                .willReturn(List.of(new LikeStatusResponse(1L, true, 3L), new LikeStatusResponse(2L, true, 1L)));
+
+        mockMvc.perform(post("/posts/likes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetIds\": [1, 2], \"liked\": true}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1].targetId").value(2L));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 처리 실패 - 대상 id 미입력")
+    @WithCustomMockUser
+    void updateLikes_Fail_EmptyTargets() throws Exception {
+        mockMvc.perform(post("/posts/likes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetIds\": [], \"liked\": true}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dance_community.controller;
+
+import com.example.dance_community.dto.tag.TrendingTagResponse;
+import com.example.dance_community.security.JwtFilter;
+import com.example.dance_community.security.JwtUtil;
+import com.example.dance_community.security.WithCustomMockUser;
+import com.example.dance_community.service.TagService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = TagController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtFilter.class)
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TagService tagService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @Test
+    @DisplayName("인기 태그 조회 성공")
+    @WithCustomMockUser
+    void getTrendingTags_Success() throws Exception {
+        given(tagService.getTrendingTags()).willReturn(List.of(
+                new TrendingTagResponse("popping", 3.5), new TrendingTagResponse("hiphop", 1.2)));
+
+        mockMvc.perform(get("/tags/trending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("인기 태그 조회 성공"))
+                .andExpect(jsonPath("$.data[0].tag").value("popping"))
+                .andExpect(jsonPath("$.data[1].score").value(1.2));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.LikeCounterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeVelocityTrackerTest {
+
+    private LikeVelocityTracker likeVelocityTracker;
+
+    @BeforeEach
+    void setUp() {
+        LikeCounterProperties properties = new LikeCounterProperties();
+        properties.setHotThreshold(3);
+        properties.setVelocityWindowMs(1_000L);
+        properties.setHotTtlMs(10_000L);
+        likeVelocityTracker = new LikeVelocityTracker(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("창 안에서 임계치에 도달하면 샤드 집계로 전환")
+    void record_CrossesThreshold() {
+        assertThat(likeVelocityTracker.record(1L, 0L)).isFalse();
+        assertThat(likeVelocityTracker.record(1L, 100L)).isFalse();
+        assertThat(likeVelocityTracker.record(1L, 200L)).isTrue();
+        assertThat(likeVelocityTracker.wasHot(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("창이 바뀌면 횟수를 다시 셈")
+    void record_NewWindowResetsCount() {
+        likeVelocityTracker.record(1L, 0L);
+        likeVelocityTracker.record(1L, 500L);
+
+        assertThat(likeVelocityTracker.record(1L, 1_000L)).isFalse();
+        assertThat(likeVelocityTracker.wasHot(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("hot 상태는 TTL 동안 유지되고 이후 정리됨")
+    void hotState_ExpiresAfterTtl() {
+        likeVelocityTracker.record(1L, 0L);
+        likeVelocityTracker.record(1L, 0L);
+        likeVelocityTracker.record(1L, 0L);
+
+        assertThat(likeVelocityTracker.record(1L, 5_000L)).isTrue();
+        likeVelocityTracker.evictIdle(9_000L);
+        assertThat(likeVelocityTracker.wasHot(1L)).isTrue();
+
+        assertThat(likeVelocityTracker.record(1L, 10_500L)).isFalse();
+        likeVelocityTracker.evictIdle(12_000L);
+        assertThat(likeVelocityTracker.wasHot(1L)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.LikeCounterProperties;
+import com.example.dance_community.entity.PostLikeShard;
+import com.example.dance_community.repository.PostLikeShardRepository;
+import com.example.dance_community.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeCounterTest {
+
+    @InjectMocks
+    private PostLikeCounter postLikeCounter;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostLikeShardRepository postLikeShardRepository;
+    @Mock
+    private LikeVelocityTracker likeVelocityTracker;
+    @Spy
+    private LikeCounterProperties properties = new LikeCounterProperties();
+
+    @Test
+    @DisplayName("평소에는 게시글 행의 좋아요 수를 바로 증가")
+    void increase_Direct() {
+        // given
+        given(likeVelocityTracker.record(1L)).willReturn(false);
+
+        // when
+        postLikeCounter.increase(List.of(1L));
+
+        // then
+        verify(postRepository).increaseLikeCounts(List.of(1L));
+        verify(postLikeShardRepository, never()).addDelta(any(), anyInt(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("좋아요가 몰리는 게시글은 샤드 행에 나눠 기록")
+    void decrease_Sharded() {
+        // given
+        given(likeVelocityTracker.record(1L)).willReturn(true);
+
+        // when
+        postLikeCounter.decrease(List.of(1L));
+
+        // then
+        verify(postLikeShardRepository).addDelta(eq(1L), anyInt(), eq(-1L));
+        verify(postRepository, never()).decreaseLikeCounts(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 조회 - 미합산 샤드 증감분을 더해 반환")
+    void likeCount_IncludesPendingShards() {
+        // given
+        given(postRepository.findLikeCount(1L)).willReturn(Optional.of(10L));
+        given(likeVelocityTracker.wasHot(1L)).willReturn(true);
+        given(postLikeShardRepository.findAllByPostIdIn(List.of(1L)))
+                .willReturn(List.of(new PostLikeShard(1L, 0, 3L), new PostLikeShard(1L, 5, -1L)));
+
+        // when & then
+        assertThat(postLikeCounter.likeCount(1L)).contains(12L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 조회 - 샤드로 집계된 적 없으면 샤드 조회 생략")
+    void likeCount_SkipsShardLookupForColdPost() {
+        // given
+        given(postRepository.findLikeCount(1L)).willReturn(Optional.of(10L));
+        given(likeVelocityTracker.wasHot(1L)).willReturn(false);
+
+        // when & then
+        assertThat(postLikeCounter.likeCount(1L)).contains(10L);
+        verify(postLikeShardRepository, never()).findAllByPostIdIn(any());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.ViewCountProperties;
+import com.example.dance_community.enums.TargetType;
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ViewCountProperties properties = new ViewCountProperties();
+    private SimpleMeterRegistry meterRegistry;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties.setDedupExpectedInsertions(1_000);
+        ViewDeduplicator viewDeduplicator = new ViewDeduplicator(properties, meterRegistry);
+        // 상한 초과 플러시를 호출 스레드에서 바로 실행해 검증
+        viewCountBuffer = new ViewCountBuffer(postRepository, eventRepository, properties, viewDeduplicator,
+                transactionManager, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("플러시 - 같은 증가분끼리 묶어 일괄 UPDATE 후 버퍼 비움")
+    void flush_GroupsByDelta() {
+        // given
+        viewCountBuffer.increment(TargetType.POST, 1L);
+        viewCountBuffer.increment(TargetType.POST, 1L);
+        viewCountBuffer.increment(TargetType.POST, 2L);
+        viewCountBuffer.increment(TargetType.POST, 2L);
+        viewCountBuffer.increment(TargetType.POST, 3L);
+        viewCountBuffer.increment(TargetType.EVENT, 10L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository).increaseViewCounts(argThat(ids -> sameIds(ids, List.of(1L, 2L))), eq(2L));
+        verify(postRepository).increaseViewCounts(argThat(ids -> sameIds(ids, List.of(3L))), eq(1L));
+        verify(eventRepository).increaseViewCounts(argThat(ids -> sameIds(ids, List.of(10L))), eq(1L));
+        assertThat(viewCountBuffer.pending(TargetType.POST, 1L)).isZero();
+        assertThat(meterRegistry.get("view_count.flushed").counter().count()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("플러시 실패 - 증가분을 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_Failure_RestoresDeltas() {
+        // given
+        viewCountBuffer.increment(TargetType.POST, 1L);
+        viewCountBuffer.increment(TargetType.POST, 1L);
+        given(postRepository.increaseViewCounts(any(), anyLong())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.pending(TargetType.POST, 1L)).isEqualTo(2L);
+        assertThat(meterRegistry.get("view_count.pending").tag("type", "post").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("버퍼 id 수가 상한을 넘으면 주기를 기다리지 않고 플러시 예약")
+    void increment_OverMaxBufferedIds_FlushesEarly() {
+        // given
+        properties.setMaxBufferedIds(2);
+        viewCountBuffer.increment(TargetType.EVENT, 1L);
+        viewCountBuffer.increment(TargetType.EVENT, 2L);
+        verify(eventRepository, never()).increaseViewCounts(any(), anyLong());
+
+        // when
+        viewCountBuffer.increment(TargetType.EVENT, 3L);
+
+        // then
+        verify(eventRepository).increaseViewCounts(argThat(ids -> sameIds(ids, List.of(1L, 2L, 3L))), eq(1L));
+        assertThat(meterRegistry.get("view_count.buffered_ids").tag("type", "event").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 기록 - 같은 사용자의 재조회는 한 번만 집계")
+    void recordView_SameViewer_CountedOnce() {
+        // when
+        viewCountBuffer.recordView(TargetType.POST, 1L, 100L);
+        viewCountBuffer.recordView(TargetType.POST, 1L, 100L);
+        viewCountBuffer.recordView(TargetType.POST, 1L, 200L);
+
+        // then
+        assertThat(viewCountBuffer.pending(TargetType.POST, 1L)).isEqualTo(2L);
+        assertThat(meterRegistry.get("view_count.dedup.duplicates").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("플러시와 동시에 증가해도 증가분 유실 없음")
+    void increment_ConcurrentWithFlush_NoLostViews() throws InterruptedException {
+        // given
+        AtomicLong written = new AtomicLong();
+        given(postRepository.increaseViewCounts(any(), anyLong())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            long delta = invocation.getArgument(1);
+            written.addAndGet(ids.size() * delta);
+            return ids.size();
+        });
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int n = 0; n < perThread; n++) {
+                    viewCountBuffer.increment(TargetType.POST, 1L);
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            viewCountBuffer.flush();
+        }
+        viewCountBuffer.flush();
+        executor.shutdown();
+
+        // then
+        assertThat(written.get()).isEqualTo((long) threads * perThread);
+    }
+
+    private static boolean sameIds(Collection<Long> actual, List<Long> expected) {
+        return actual != null && actual.size() == expected.size() && actual.containsAll(expected);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dance_community.counter;
+
+import com.example.dance_community.config.ViewCountProperties;
+import com.example.dance_community.enums.TargetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewDeduplicatorTest {
+
+    private ViewDeduplicator viewDeduplicator;
+
+    @BeforeEach
+    void setUp() {
+        ViewCountProperties properties = new ViewCountProperties();
+        properties.setDedupExpectedInsertions(10_000);
+        viewDeduplicator = new ViewDeduplicator(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 사용자, 같은 대상의 재조회는 중복으로 판단")
+    void isFirstView_Duplicate() {
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L)).isTrue();
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자, 대상 id, 대상 타입이 다르면 각각 첫 조회")
+    void isFirstView_DistinctKeys() {
+        viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L);
+
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 1L, 200L)).isTrue();
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 2L, 100L)).isTrue();
+        assertThat(viewDeduplicator.isFirstView(TargetType.EVENT, 1L, 100L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회자를 알 수 없으면 항상 집계")
+    void isFirstView_UnknownViewer() {
+        assertThat(viewDeduplicator.isFirstView(TargetType.EVENT, 1L, null)).isTrue();
+        assertThat(viewDeduplicator.isFirstView(TargetType.EVENT, 1L, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("두 번 회전하면 이전 창의 조회 기록이 만료")
+    void rotate_ExpiresAfterTwoWindows() {
+        viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L);
+
+        viewDeduplicator.rotate();
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L)).isFalse();
+
+        viewDeduplicator.rotate();
+        viewDeduplicator.rotate();
+        assertThat(viewDeduplicator.isFirstView(TargetType.POST, 1L, 100L)).isTrue();
+    }
+}
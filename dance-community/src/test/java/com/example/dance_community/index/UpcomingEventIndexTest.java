@@ -0,0 +1,180 @@
+package com.example.dance_community.index;
+
+import com.example.dance_community.config.UpcomingEventProperties;
+import com.example.dance_community.dto.event.EventCounts;
+import com.example.dance_community.dto.event.EventResponse;
+import com.example.dance_community.entity.Event;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.EventType;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UpcomingEventIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private UpcomingEventIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new UpcomingEventIndex(eventRepository, new UpcomingEventProperties(), new SimpleMeterRegistry());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("GLOBAL과 내 동아리 행사만 시작 시각 순으로 병합")
+    void upcoming_MergesAccessibleScopes() {
+        // given
+        index.upsert(response(1L, "GLOBAL", null, now.plusDays(3)));
+        index.upsert(response(2L, "CLUB", 10L, now.plusDays(1)));
+        index.upsert(response(3L, "CLUB", 20L, now.plusDays(2)));
+        index.upsert(response(4L, "GLOBAL", null, now.plusDays(2)));
+
+        // when
+        List<EventResponse> result = index.upcoming(List.of(10L), 10, now);
+
+        // then
+        assertThat(result).extracting(EventResponse::eventId).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼만 반환")
+    void upcoming_Limit() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(response(id, "GLOBAL", null, now.plusHours(id)));
+        }
+
+        // when
+        List<EventResponse> result = index.upcoming(List.of(), 3, now);
+
+        // then
+        assertThat(result).extracting(EventResponse::eventId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정으로 시작 시각/공개 범위가 바뀌면 이전 위치에서 빠짐")
+    void upsert_MovesEntry() {
+        // given
+        index.upsert(response(1L, "CLUB", 10L, now.plusDays(1)));
+
+        // when
+        index.upsert(response(1L, "GLOBAL", null, now.plusDays(5)));
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.upcoming(List.of(10L), 10, now))
+                .extracting(EventResponse::startsAt)
+                .containsExactly(now.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("시작된 행사는 조회에서 제외되고 정리 시 제거")
+    void evictStarted_RemovesStarted() {
+        // given
+        index.upsert(response(1L, "GLOBAL", null, now.plusHours(1)));
+        index.upsert(response(2L, "CLUB", 10L, now.plusHours(3)));
+
+        // when
+        LocalDateTime later = now.plusHours(2);
+        List<EventResponse> beforeEvict = index.upcoming(List.of(10L), 10, later);
+        index.evictStarted(later);
+
+        // then
+        assertThat(beforeEvict).extracting(EventResponse::eventId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 반영")
+    void remove_Success() {
+        // given
+        index.upsert(response(1L, "GLOBAL", null, now.plusHours(1)));
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.upcoming(List.of(), 10, now)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재적재 - DB에 없는 항목은 제거하고 새 항목은 추가")
+    void reload_SyncsWithDatabase() {
+        // given
+        index.upsert(response(1L, "GLOBAL", null, now.plusHours(1)));
+
+        Event event = Event.builder()
+                .eventId(2L)
+                .host(User.builder().userId(1L).build())
+                .scope(Scope.GLOBAL)
+                .type(EventType.BATTLE)
+                .startsAt(now.plusHours(2))
+                .build();
+        given(eventRepository.findUpcomingEventIdsPerScope(any(), eq(30))).willReturn(List.of(2L));
+        given(eventRepository.findEventsByIds(List.of(2L))).willReturn(List.of(event));
+        given(eventRepository.findTagsByEventIds(anyCollection())).willReturn(Map.of(2L, List.of("battle")));
+        given(eventRepository.findImagesByEventIds(anyCollection())).willReturn(Map.of());
+
+        // when
+        index.reload();
+
+        // then
+        List<EventResponse> result = index.upcoming(List.of(), 10, now);
+        assertThat(result).extracting(EventResponse::eventId).containsExactly(2L);
+        assertThat(result.getFirst().tags()).containsExactly("battle");
+    }
+
+    @Test
+    @DisplayName("카운터 갱신 - 보관 중인 행사의 참가/조회/좋아요/댓글 수만 교체")
+    void refreshCounts_ReplacesCounts() {
+        // given
+        given(eventRepository.findUpcomingEventIdsPerScope(any(), eq(30))).willReturn(List.of());
+        index.reload();
+        index.upsert(response(1L, "CLUB", 10L, now.plusHours(1)));
+        given(eventRepository.findCountsByEventIds(List.of(1L)))
+                .willReturn(List.of(new EventCounts(1L, 7L, 100L, 5L, 3L)));
+
+        // when
+        index.refreshCounts();
+
+        // then
+        EventResponse result = index.upcoming(List.of(10L), 10, now).getFirst();
+        assertThat(result.currentParticipants()).isEqualTo(7L);
+        assertThat(result.viewCount()).isEqualTo(100L);
+        assertThat(result.likeCount()).isEqualTo(5L);
+        assertThat(result.commentCount()).isEqualTo(3);
+        assertThat(result.title()).isEqualTo("Title");
+    }
+
+    private EventResponse response(Long eventId, String scope, Long clubId, LocalDateTime startsAt) {
+        return new EventResponse(
+                eventId, 1L, "Host", null, scope, clubId, null,
+                "WORKSHOP", "Title", "Content", List.of(), List.of(),
+                "Loc", "Addr", "Link", 50L, 0L,
+                startsAt, startsAt.plusHours(2),
+                0L, 0L, false, 0, now, now
+        );
+    }
+}
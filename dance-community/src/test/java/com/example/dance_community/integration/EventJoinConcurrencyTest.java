@@ -0,0 +1,161 @@
+package com.example.dance_community.integration;
+
+import com.example.dance_community.dto.eventJoin.EventJoinResponse;
+import com.example.dance_community.entity.Event;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.EventJoinStatus;
+import com.example.dance_community.enums.EventType;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.EventJoinRepository;
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.service.EventJoinService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 롤백 없이 실제 커밋 경합을 검증하므로 @Transactional 을 붙이지 않고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+class EventJoinConcurrencyTest {
+
+    private static final int APPLICANTS = 2_000;
+    private static final long CAPACITY = 100L;
+    private static final int THREADS = 32;
+
+    @Autowired private EventJoinService eventJoinService;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventJoinRepository eventJoinRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long eventId;
+
+    @AfterEach
+    void tearDown() {
+        eventJoinRepository.deleteAllInBatch();
+        if (eventId != null) {
+            eventRepository.deleteAllByIdInBatch(List.of(eventId));
+        }
+        userRepository.deleteAllByIdInBatch(userIds);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 2000명이 동시에 신청해도 확정 인원은 정원을 넘지 않고 나머지는 대기열로")
+    void applyEvent_Concurrently_NeverExceedsCapacity() throws InterruptedException {
+        // given
+        User host = userRepository.save(new User("host@concurrency.com", "pw", "Host", null));
+        userIds.add(host.getUserId());
+        eventId = eventRepository.save(Event.builder()
+                .host(host).title("Popular Workshop").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .capacity(CAPACITY).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .build()).getEventId();
+
+        List<User> applicants = userRepository.saveAll(IntStream.range(0, APPLICANTS)
+                .mapToObj(i -> new User("user" + i + "@concurrency.com", "pw", "User" + i, null))
+                .toList());
+        applicants.forEach(applicant -> userIds.add(applicant.getUserId()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(APPLICANTS);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (User applicant : applicants) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    EventJoinResponse response = eventJoinService.applyEvent(applicant.getUserId(), eventId);
+                    if (EventJoinStatus.WAITLISTED.name().equals(response.status())) {
+                        waitlisted.incrementAndGet();
+                    } else {
+                        confirmed.incrementAndGet();
+                    }
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(2, TimeUnit.MINUTES);
+        executor.shutdownNow();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(unexpected).isEmpty();
+        assertThat(confirmed.get()).isEqualTo((int) CAPACITY);
+        assertThat(waitlisted.get()).isEqualTo(APPLICANTS - (int) CAPACITY);
+        assertThat(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.WAITLISTED))
+                .isEqualTo(APPLICANTS - CAPACITY);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getConfirmedCount()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("행사 수정 중에 신청/좋아요/조회수가 커밋돼도 수정 커밋이 카운터를 덮어쓰지 않음")
+    void updateEvent_WhileJoinCommits_KeepsCounters() throws Exception {
+        // given
+        User host = userRepository.save(new User("host@update.com", "pw", "Host", null));
+        User applicant = userRepository.save(new User("applicant@update.com", "pw", "Applicant", null));
+        userIds.addAll(List.of(host.getUserId(), applicant.getUserId()));
+        eventId = eventRepository.save(Event.builder()
+                .host(host).title("Workshop").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .capacity(1L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .build()).getEventId();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when: 수정 트랜잭션이 행사를 읽은 뒤, 다른 트랜잭션에서 신청과 카운터 증가가 먼저 커밋됨
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Event event = eventRepository.findById(eventId).orElseThrow();
+                try {
+                    executor.submit(() -> {
+                        eventJoinService.applyEvent(applicant.getUserId(), eventId);
+                        transactionTemplate.executeWithoutResult(inner -> {
+                            eventRepository.increaseLikeCounts(List.of(eventId));
+                            eventRepository.increaseViewCounts(List.of(eventId), 5L);
+                        });
+                    }).get(30, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                event.updateEvent("Edited", "C", List.of(), "Loc", null, null,
+                        event.getCapacity(), event.getStartsAt(), event.getEndsAt());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Event saved = eventRepository.findById(eventId).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("Edited");
+        assertThat(saved.getConfirmedCount()).isEqualTo(1L);
+        assertThat(saved.getLikeCount()).isEqualTo(1L);
+        assertThat(saved.getViewCount()).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.dance_community.integration;
+
+import com.example.dance_community.config.LikeCounterProperties;
+import com.example.dance_community.entity.Post;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.PostLikeRepository;
+import com.example.dance_community.repository.PostLikeShardRepository;
+import com.example.dance_community.repository.PostRepository;
+import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.scheduler.PostLikeShardRoller;
+import com.example.dance_community.service.PostLikeService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 게시글에 좋아요가 몰릴 때 행 직접 갱신 vs 샤드 카운터 처리량 비교
+// 실행: RUN_BENCHMARKS=true ./gradlew test --tests '*PostLikeStormBenchmarkTest'
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class PostLikeStormBenchmarkTest {
+
+    private static final int LIKERS = 3_000;
+    private static final int THREADS = 32;
+
+    @Autowired private PostLikeService postLikeService;
+    @Autowired private PostLikeShardRoller postLikeShardRoller;
+    @Autowired private LikeCounterProperties properties;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private PostLikeShardRepository postLikeShardRepository;
+    @Autowired private UserRepository userRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+    private List<User> likers;
+    private int originalThreshold;
+
+    @BeforeEach
+    void setUp() {
+        originalThreshold = properties.getHotThreshold();
+        likers = userRepository.saveAll(IntStream.range(0, LIKERS)
+                .mapToObj(i -> new User("liker" + i + "@storm.com", "pw", "Liker" + i, null))
+                .toList());
+        likers.forEach(liker -> userIds.add(liker.getUserId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setHotThreshold(originalThreshold);
+        postLikeShardRepository.deleteAllInBatch();
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllByIdInBatch(postIds);
+        userRepository.deleteAllByIdInBatch(userIds);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 단일 게시글 좋아요 폭주 - 행 직접 갱신 vs 샤드 카운터")
+    void likeStorm_DirectVsSharded() throws InterruptedException {
+        properties.setHotThreshold(Integer.MAX_VALUE);
+        long directMs = storm(newPost("Direct"));
+
+        properties.setHotThreshold(1);
+        Long shardedPostId = newPost("Sharded");
+        long shardedMs = storm(shardedPostId);
+        postLikeShardRoller.rollUp();
+
+        log.info("좋아요 {}건 / 스레드 {}개 - 직접 갱신: {}ms ({} ops/s), 샤드: {}ms ({} ops/s)",
+                LIKERS, THREADS,
+                directMs, LIKERS * 1000L / Math.max(directMs, 1),
+                shardedMs, LIKERS * 1000L / Math.max(shardedMs, 1));
+
+        assertThat(postRepository.findLikeCount(postIds.get(0))).contains((long) LIKERS);
+        assertThat(postRepository.findLikeCount(shardedPostId)).contains((long) LIKERS);
+        assertThat(postLikeShardRepository.findAllByDeltaNot(0L)).isEmpty();
+    }
+
+    private Long newPost(String title) {
+        Long postId = postRepository.save(Post.builder()
+                .author(likers.get(0)).title(title).scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build()).getPostId();
+        postIds.add(postId);
+        return postId;
+    }
+
+    private long storm(Long postId) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(LIKERS);
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (User liker : likers) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    postLikeService.like(liker.getUserId(), postId);
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdownNow();
+
+        assertThat(finished).isTrue();
+        assertThat(unexpected).isEmpty();
+        return elapsedMs;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.dance_community.ranking;
+
+import com.example.dance_community.config.HotPostProperties;
+import com.example.dance_community.dto.post.PostResponse;
+import com.example.dance_community.entity.Post;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.Scope;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class HotPostRankingTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private HotPostProperties properties;
+    private HotPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HotPostProperties();
+        properties.setSize(2);
+        properties.setHalfLifeMs(HOUR);
+        ranking = new HotPostRanking(postRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("가중치 합으로 순위 결정 - 댓글 1개가 좋아요 1개보다 높음")
+    void topCandidates_Weighted() {
+        // given
+        long now = 1_000_000L;
+        ranking.record(1L, properties.getLikeWeight(), now);
+        ranking.record(2L, properties.getCommentWeight() * 2, now);
+        ranking.record(3L, properties.getViewWeight(), now);
+
+        // when
+        List<Long> top = ranking.topCandidates(2, now);
+
+        // then
+        assertThat(top).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("시간 감쇠 - 반감기가 지난 점수는 절반, 최근 활동이 앞섬")
+    void topCandidates_Decay() {
+        // given
+        long now = 10 * HOUR;
+        ranking.record(1L, 10, now - 2 * HOUR);
+        ranking.record(2L, 3, now);
+
+        // when
+        List<Long> top = ranking.topCandidates(2, now);
+
+        // then (10 * 0.25 = 2.5 < 3)
+        assertThat(top).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소로 점수가 음수가 되지 않음")
+    void record_NotNegative() {
+        // given
+        long now = 1_000_000L;
+        ranking.record(1L, 1, now);
+        ranking.record(1L, -5, now);
+
+        // when & then
+        assertThat(ranking.topCandidates(10, now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 노출 불가 게시글은 점수에서 제거하고 상위 K개만 유지")
+    void refresh_BuildsSnapshot() {
+        // given
+        long now = System.currentTimeMillis();
+        ReflectionTestUtils.setField(ranking, "seeded", true);
+        ranking.record(1L, 5, now);
+        ranking.record(2L, 4, now);
+        ranking.record(3L, 3, now);
+        ranking.record(4L, 2, now);
+
+        given(postRepository.findHotPostCandidates(anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of(post(3L), post(2L), post(4L)));
+
+        // when
+        ranking.refresh(now);
+
+        // then
+        assertThat(ranking.hotPosts()).extracting(PostResponse::postId).containsExactly(2L, 3L);
+        assertThat(ranking.trackedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정리 - 기준 점수 이하로 감쇠한 게시글 제거")
+    void prune_RemovesDecayedScores() {
+        // given
+        long now = System.currentTimeMillis();
+        ranking.record(1L, properties.getLikeWeight(), now - HOUR);
+        ranking.record(2L, properties.getViewWeight(), now - 4 * HOUR);
+
+        // when
+        ranking.prune(now);
+
+        // then (0.1 / 16 < 0.01)
+        assertThat(ranking.topCandidates(10, now)).containsExactly(1L);
+        assertThat(ranking.trackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 - 점수가 높아도 작성 후 maxAgeDays 가 지난 게시글은 제거")
+    void prune_RemovesPostsOlderThanMaxAge() {
+        // given
+        long now = System.currentTimeMillis();
+        ranking.record(1L, 100, now);
+        ranking.record(2L, 100, now);
+        ranking.rememberCreatedAt(post(1L, LocalDateTime.now().minusDays(1)));
+        ranking.rememberCreatedAt(post(2L, LocalDateTime.now().minusDays(properties.getMaxAgeDays() + 1)));
+
+        // when
+        ranking.prune(now);
+
+        // then
+        assertThat(ranking.topCandidates(10, now)).containsExactly(1L);
+    }
+
+    private static Post post(Long postId, LocalDateTime createdAt) {
+        Post post = post(postId);
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        return post;
+    }
+
+    private static Post post(Long postId) {
+        return Post.builder()
+                .postId(postId)
+                .title("Post " + postId)
+                .author(User.builder().userId(9L).build())
+                .scope(Scope.GLOBAL)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.dance_community.ranking;
+
+import com.example.dance_community.config.TrendingTagProperties;
+import com.example.dance_community.dto.tag.TagUse;
+import com.example.dance_community.dto.tag.TrendingTagResponse;
+import com.example.dance_community.repository.EventRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingTagRankingTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private EventRepository eventRepository;
+
+    private TrendingTagProperties properties;
+    private TrendingTagRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TrendingTagProperties();
+        properties.setSize(2);
+        properties.setHalfLifeMs(HOUR);
+        ranking = new TrendingTagRanking(postRepository, eventRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("많이 쓰인 태그 순 - 앞뒤 공백이 달라도 같은 태그, 한 글 안의 중복은 한 번만")
+    void top_CountsNormalizedTags() {
+        // given
+        long now = 1_000_000L;
+        ranking.record(List.of("popping", " popping ", "hiphop"), now);
+        ranking.record(List.of("popping", ""), now);
+        ranking.record(List.of("locking"), now);
+        ranking.record(List.of("locking"), now);
+        ranking.record(List.of("hiphop"), now);
+        ranking.record(List.of("hiphop"), now);
+
+        // when
+        List<TrendingTagResponse> top = ranking.top(2, now);
+
+        // then
+        assertThat(top).extracting(TrendingTagResponse::tag).containsExactly("hiphop", "popping");
+        assertThat(top.getFirst().score()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("대소문자가 다른 태그는 피드 필터처럼 다른 태그로 셈")
+    void top_KeepsCase() {
+        // given
+        long now = 1_000_000L;
+        ranking.record(List.of("HipHop"), now);
+        ranking.record(List.of("hiphop"), now);
+        ranking.record(List.of("hiphop"), now);
+
+        // when
+        List<TrendingTagResponse> top = ranking.top(2, now);
+
+        // then
+        assertThat(top).extracting(TrendingTagResponse::tag).containsExactly("hiphop", "HipHop");
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 감쇠 - 최근에 쓰인 태그가 예전에 많이 쓰인 태그를 앞지름")
+    void top_Decay() {
+        // given
+        long now = 1_000_000L;
+        ranking.record(List.of("old"), now);
+        ranking.record(List.of("old"), now);
+        ranking.record(List.of("old"), now);
+        ranking.record(List.of("new"), now + 2 * HOUR);
+
+        // when
+        List<TrendingTagResponse> top = ranking.top(2, now + 2 * HOUR);
+
+        // then
+        assertThat(top).extracting(TrendingTagResponse::tag).containsExactly("new", "old");
+    }
+
+    @Test
+    @DisplayName("첫 갱신 시 최근 글/행사 태그로 초기 점수를 채우고 스냅샷 생성")
+    void refresh_SeedsOnce() {
+        // given
+        LocalDateTime recent = LocalDateTime.now().minusMinutes(1);
+        given(postRepository.findTagUsesSince(any())).willReturn(List.of(
+                new TagUse("popping", recent), new TagUse("popping", recent), new TagUse("popping", recent),
+                new TagUse("hiphop", recent)));
+        given(eventRepository.findTagUsesSince(any())).willReturn(List.of(new TagUse("Hiphop", recent)));
+
+        // when
+        ranking.refresh(System.currentTimeMillis());
+        ranking.refresh(System.currentTimeMillis());
+
+        // then
+        assertThat(ranking.trendingTags()).extracting(TrendingTagResponse::tag).containsExactly("popping", "hiphop");
+        assertThat(ranking.trackedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("거의 0 으로 감쇠한 태그는 정리되고 최대 개수 초과분은 낮은 점수부터 제거")
+    void refresh_Prunes() {
+        // given
+        properties.setMaxTracked(2);
+        given(postRepository.findTagUsesSince(any())).willReturn(List.of());
+        given(eventRepository.findTagUsesSince(any())).willReturn(List.of());
+        long now = System.currentTimeMillis();
+        ranking.record(List.of("stale"), now - 20 * HOUR);
+        ranking.record(List.of("a", "b"), now);
+        ranking.record(List.of("a", "c"), now);
+        ranking.record(List.of("a", "b"), now);
+
+        // when
+        ranking.refresh(now);
+
+        // then
+        assertThat(ranking.trackedCount()).isEqualTo(2);
+        assertThat(ranking.top(10, now)).extracting(TrendingTagResponse::tag).containsExactly("a", "b");
+    }
+}
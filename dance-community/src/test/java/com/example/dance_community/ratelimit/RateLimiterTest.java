@@ -0,0 +1,127 @@
+package com.example.dance_community.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("버킷 용량만큼 허용 후 거절, 시간이 지나면 회복")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 3, 60, 100, RateLimiter.WhenFull.DENY, meterRegistry, now::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+
+        now.addAndGet(1_000L);
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(meterRegistry.get("rate_limit.rejected").tag("limiter", "test").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 유휴로 보고 제거")
+    void evictIdle_RemovesOnlyFullBuckets() {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 2, 60, 100, RateLimiter.WhenFull.DENY, meterRegistry, now::get);
+        limiter.tryAcquire("a");
+        now.addAndGet(1_000L);
+        limiter.tryAcquire("b");
+
+        // when
+        limiter.evictIdle();
+
+        // then
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.tryAcquire("b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 수 상한을 넘지 않고, 사용 중인 버킷은 내보내지 않음")
+    void tryAcquire_BoundedKeys() {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 1, 1, 10, RateLimiter.WhenFull.DENY, meterRegistry, now::get);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+
+        // then
+        assertThat(limiter.size()).isEqualTo(10);
+        assertThat(limiter.tryAcquire("ip-0")).isFalse();
+        assertThat(meterRegistry.get("rate_limit.evictions").tag("limiter", "test").counter().count()).isZero();
+        assertThat(meterRegistry.get("rate_limit.overflow").tag("limiter", "test").counter().count()).isEqualTo(990);
+    }
+
+    @Test
+    @DisplayName("키가 가득 차도 회복된 버킷이 생기면 비우고 새 키 허용")
+    void tryAcquire_Full_EvictsRefilledBuckets() {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 1, 60, 2, RateLimiter.WhenFull.DENY, meterRegistry, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        assertThat(limiter.tryAcquire("c")).isFalse();
+
+        // when
+        now.addAndGet(1_000L);
+
+        // then
+        assertThat(limiter.tryAcquire("c")).isTrue();
+        assertThat(meterRegistry.get("rate_limit.evictions").tag("limiter", "test").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ALLOW 정책이면 키가 가득 찼을 때 새 키는 추적 없이 허용")
+    void tryAcquire_Full_AllowPolicy() {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 1, 1, 1, RateLimiter.WhenFull.ALLOW, meterRegistry, now::get);
+        limiter.tryAcquire("a");
+
+        // when & then
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 용량 이상 허용하지 않음")
+    void tryAcquire_Concurrent() throws InterruptedException {
+        // given
+        RateLimiter limiter = new RateLimiter("test", 100, 0, 10, RateLimiter.WhenFull.DENY, meterRegistry, now::get);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (limiter.tryAcquire("same-key")) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
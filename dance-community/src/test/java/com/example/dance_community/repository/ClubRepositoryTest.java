@@ -0,0 +1,140 @@
+package com.example.dance_community.repository;
+
+import com.example.dance_community.config.JpaConfig;
+import com.example.dance_community.config.QueryDslConfig;
+import com.example.dance_community.entity.Club;
+import com.example.dance_community.entity.ClubJoin;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.ClubJoinStatus;
+import com.example.dance_community.enums.ClubRole;
+import com.example.dance_community.enums.ClubSortType;
+import com.example.dance_community.enums.ClubType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+class ClubRepositoryTest {
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ClubJoinRepository clubJoinRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Club seoulCrew;
+    private Club seoulClub;
+    private Club busanCrew;
+
+    @BeforeEach
+    void setUp() {
+        seoulCrew = clubRepository.save(Club.builder().clubName("Seoul Crew").clubType(ClubType.CREW)
+                .locationName("서울 마포구").tags(List.of("hiphop", "popping")).memberCount(1L).build());
+        seoulClub = clubRepository.save(Club.builder().clubName("Seoul Club").clubType(ClubType.CLUB)
+                .locationName("서울 강남구").tags(List.of("waacking")).build());
+        busanCrew = clubRepository.save(Club.builder().clubName("Busan Crew").clubType(ClubType.CREW)
+                .locationName("부산 해운대구").memberCount(2L).build());
+
+        User user1 = userRepository.save(new User("user1@test.com", "pw", "User1", null));
+        User user2 = userRepository.save(new User("user2@test.com", "pw", "User2", null));
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user1).club(busanCrew).role(ClubRole.LEADER).status(ClubJoinStatus.ACTIVE).build());
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user2).club(busanCrew).role(ClubRole.MEMBER).status(ClubJoinStatus.ACTIVE).build());
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user1).club(seoulCrew).role(ClubRole.MEMBER).status(ClubJoinStatus.ACTIVE).build());
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user2).club(seoulCrew).role(ClubRole.MEMBER).status(ClubJoinStatus.PENDING).build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 클럽 디렉터리 조회 (타입, 지역 필터링)")
+    void findClubs_Filter() {
+        // when
+        List<Club> crews = clubRepository.findClubs(ClubType.CREW, null, null, ClubSortType.LATEST, PageRequest.of(0, 10));
+        List<Club> seoulCrews = clubRepository.findClubs(ClubType.CREW, "서울", null, ClubSortType.LATEST, PageRequest.of(0, 10));
+
+        // then
+        assertThat(crews).extracting("clubName").containsExactlyInAnyOrder("Seoul Crew", "Busan Crew");
+        assertThat(seoulCrews).extracting("clubName").containsExactly("Seoul Crew");
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 클럽 디렉터리 조회 (태그 필터링, 빈 태그는 무시)")
+    void findClubs_Tag() {
+        // when
+        List<Club> popping = clubRepository.findClubs(null, null, "popping", ClubSortType.LATEST, PageRequest.of(0, 10));
+        List<Club> seoulWaacking = clubRepository.findClubs(null, "서울", "waacking", ClubSortType.LATEST, PageRequest.of(0, 10));
+        List<Club> blank = clubRepository.findClubs(null, null, " ", ClubSortType.LATEST, PageRequest.of(0, 10));
+
+        // then
+        assertThat(popping).extracting("clubName").containsExactly("Seoul Crew");
+        assertThat(seoulWaacking).extracting("clubName").containsExactly("Seoul Club");
+        assertThat(blank).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 클럽 디렉터리 조회 (멤버 수 정렬 & 페이지 크기 제한)")
+    void findClubs_SortByMemberCount() {
+        // when
+        List<Club> firstPage = clubRepository.findClubs(null, null, null, ClubSortType.MEMBER_COUNT, PageRequest.of(0, 2));
+        List<Club> secondPage = clubRepository.findClubs(null, null, null, ClubSortType.MEMBER_COUNT, PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstPage).extracting("clubId").containsExactly(busanCrew.getClubId(), seoulCrew.getClubId());
+        assertThat(secondPage).extracting("clubId").containsExactly(seoulClub.getClubId());
+    }
+
+    @Test
+    @DisplayName("멤버 수 보정 - 실제 ACTIVE 수와 다른 클럽만 갱신")
+    void reconcileMemberCounts() {
+        // given
+        clubRepository.increaseMemberCount(seoulClub.getClubId());
+        clubRepository.decreaseMemberCounts(List.of(busanCrew.getClubId()));
+
+        // when
+        List<Long> driftIds = clubRepository.findMemberCountDriftIds(0L, clubRepository.findMaxClubId());
+        int repaired = clubRepository.reconcileMemberCounts(driftIds);
+        em.clear();
+
+        // then
+        assertThat(driftIds).containsExactlyInAnyOrder(seoulClub.getClubId(), busanCrew.getClubId());
+        assertThat(repaired).isEqualTo(2);
+        assertThat(clubRepository.findById(seoulClub.getClubId()).orElseThrow().getMemberCount()).isZero();
+        assertThat(clubRepository.findById(busanCrew.getClubId()).orElseThrow().getMemberCount()).isEqualTo(2L);
+        assertThat(clubRepository.findById(seoulCrew.getClubId()).orElseThrow().getMemberCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 페이지 단위 태그 일괄 조회")
+    void findTagsByClubIds_Success() {
+        // when
+        Map<Long, List<String>> tags = clubRepository.findTagsByClubIds(
+                List.of(seoulCrew.getClubId(), seoulClub.getClubId(), busanCrew.getClubId()));
+
+        // then
+        assertThat(tags.get(seoulCrew.getClubId())).containsExactlyInAnyOrder("hiphop", "popping");
+        assertThat(tags.get(seoulClub.getClubId())).containsExactly("waacking");
+        assertThat(tags).doesNotContainKey(busanCrew.getClubId());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.dance_community.repository;
 
 import com.example.dance_community.config.JpaConfig;
 import com.example.dance_community.config.QueryDslConfig;
+import com.example.dance_community.dto.Cursor;
 import com.example.dance_community.entity.Comment;
 import com.example.dance_community.entity.Event;
 import com.example.dance_community.entity.Post;
@@ -62,74 +63,6 @@ class CommentRepositoryTest {
                 .build());
     }
 
-    @Test
-    @DisplayName("게시글 ID로 댓글 조회")
-    void findByPost_PostId() {
-        // given
-        Comment comment1 = commentRepository.save(Comment.builder()
-                .user(user)
-                .post(post)
-                .content("첫번째 댓글")
-                .build());
-        Comment comment2 = commentRepository.save(Comment.builder()
-                .user(user)
-                .post(post)
-                .content("두번째 댓글")
-                .build());
-        // 다른 게시글의 댓글 (조회되면 안됨)
-        Post otherPost = postRepository.save(Post.builder()
-                .author(user)
-                .title("다른 게시글")
-                .content("내용")
-                .scope(Scope.GLOBAL)
-                .likeCount(0L)
-                .viewCount(0L)
-                .build());
-        commentRepository.save(Comment.builder()
-                .user(user)
-                .post(otherPost)
-                .content("다른 게시글 댓글")
-                .build());
-
-        em.flush();
-        em.clear();
-
-        // when
-        List<Comment> comments = commentRepository.findByPost_PostId(post.getPostId());
-
-        // then
-        assertThat(comments).hasSize(2);
-        assertThat(comments).extracting("content")
-                .containsExactlyInAnyOrder("첫번째 댓글", "두번째 댓글");
-    }
-
-    @Test
-    @DisplayName("행사 ID로 댓글 조회")
-    void findByEvent_EventId() {
-        // given
-        Comment comment1 = commentRepository.save(Comment.builder()
-                .user(user)
-                .event(event)
-                .content("행사 댓글 1")
-                .build());
-        Comment comment2 = commentRepository.save(Comment.builder()
-                .user(user)
-                .event(event)
-                .content("행사 댓글 2")
-                .build());
-
-        em.flush();
-        em.clear();
-
-        // when
-        List<Comment> comments = commentRepository.findByEvent_EventId(event.getEventId());
-
-        // then
-        assertThat(comments).hasSize(2);
-        assertThat(comments).extracting("content")
-                .containsExactlyInAnyOrder("행사 댓글 1", "행사 댓글 2");
-    }
-
     @Test
     @DisplayName("삭제된 댓글은 조회되지 않음 (Soft Delete)")
     void softDelete_NotReturned() {
@@ -156,7 +89,7 @@ class CommentRepositoryTest {
         em.clear();
 
         // when
-        List<Comment> comments = commentRepository.findByPost_PostId(post.getPostId());
+        List<Comment> comments = commentRepository.findCommentPage(post.getPostId(), null, null, 10);
 
         // then
         assertThat(comments).hasSize(1);
@@ -210,4 +143,47 @@ class CommentRepositoryTest {
         Comment updatedComment = commentRepository.findById(comment.getCommentId()).orElseThrow();
         assertThat(updatedComment.getContent()).isEqualTo("수정된 내용");
     }
+
+    @Test
+    @DisplayName("QueryDSL - 댓글 커서 페이지 조회 (작성순, 삭제된 댓글 제외)")
+    void findCommentPage() {
+        // given
+        Comment first = commentRepository.save(Comment.builder().user(user).post(post).content("1").build());
+        Comment second = commentRepository.save(Comment.builder().user(user).post(post).content("2").build());
+        Comment third = commentRepository.save(Comment.builder().user(user).post(post).content("3").build());
+        Comment deleted = Comment.builder().user(user).post(post).content("삭제").build();
+        deleted.delete();
+        commentRepository.save(deleted);
+        commentRepository.save(Comment.builder().user(user).event(event).content("행사 댓글").build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<Comment> firstPage = commentRepository.findCommentPage(post.getPostId(), null, null, 2);
+        Comment last = firstPage.getLast();
+        List<Comment> secondPage = commentRepository.findCommentPage(
+                post.getPostId(), null, new Cursor(last.getCreatedAt(), last.getCommentId()), 2);
+
+        // then
+        assertThat(firstPage).extracting(Comment::getCommentId)
+                .containsExactly(first.getCommentId(), second.getCommentId());
+        assertThat(secondPage).extracting(Comment::getCommentId).containsExactly(third.getCommentId());
+        assertThat(firstPage.getFirst().getUser().getNickname()).isEqualTo("TestUser");
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 삭제된 게시글의 댓글은 조회되지 않음")
+    void findCommentPage_DeletedPost() {
+        // given
+        commentRepository.save(Comment.builder().user(user).post(post).content("댓글").build());
+        post.delete();
+        em.flush();
+        em.clear();
+
+        // when
+        List<Comment> page = commentRepository.findCommentPage(post.getPostId(), null, null, 10);
+
+        // then
+        assertThat(page).isEmpty();
+    }
 }
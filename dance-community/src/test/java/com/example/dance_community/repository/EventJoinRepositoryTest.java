@@ -13,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import java.time.LocalDateTime;
@@ -33,6 +34,9 @@ class EventJoinRepositoryTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private TestEntityManager em;
+
     private User participant;
     private Event event1;
     private Event event2;
@@ -108,4 +112,51 @@ class EventJoinRepositoryTest {
         // then
         assertThat(count).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("QueryDSL - 대기열 선두 조회 (먼저 대기한 신청, 다른 상태/행사 제외)")
+    void findWaitlistHead_Success() {
+        // given
+        User second = userRepository.save(new User("second@test.com", "pw", "Second", null));
+        User third = userRepository.save(new User("third@test.com", "pw", "Third", null));
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(participant).status(EventJoinStatus.CONFIRMED).build());
+        EventJoin head = eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(second).status(EventJoinStatus.WAITLISTED).build());
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(third).status(EventJoinStatus.WAITLISTED).build());
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event2).participant(participant).status(EventJoinStatus.WAITLISTED).build());
+
+        // when
+        EventJoin result = eventJoinRepository.findWaitlistHead(event1.getEventId()).orElseThrow();
+
+        // then
+        assertThat(result.getEventJoinId()).isEqualTo(head.getEventJoinId());
+        assertThat(eventJoinRepository.findWaitlistHead(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 대기열 선두 조회 (대기 이후 행 수정으로 updatedAt 이 바뀌어도 순번 유지)")
+    void findWaitlistHead_IgnoresUpdatedAt() {
+        // given
+        User second = userRepository.save(new User("second@test.com", "pw", "Second", null));
+        EventJoin head = eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(participant).status(EventJoinStatus.WAITLISTED).build());
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(second).status(EventJoinStatus.WAITLISTED).build());
+        em.flush();
+        em.getEntityManager()
+                .createNativeQuery("UPDATE event_joins SET updated_at = :updatedAt WHERE event_join_id = :id")
+                .setParameter("updatedAt", LocalDateTime.now().plusDays(1))
+                .setParameter("id", head.getEventJoinId())
+                .executeUpdate();
+        em.clear();
+
+        // when
+        EventJoin result = eventJoinRepository.findWaitlistHead(event1.getEventId()).orElseThrow();
+
+        // then
+        assertThat(result.getEventJoinId()).isEqualTo(head.getEventJoinId());
+    }
+}
@@ -2,22 +2,25 @@ package com.example.dance_community.repository;
 
 import com.example.dance_community.config.JpaConfig;
 import com.example.dance_community.config.QueryDslConfig;
+import com.example.dance_community.dto.Cursor;
 import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.Event;
+import com.example.dance_community.entity.EventJoin;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.ClubType;
+import com.example.dance_community.enums.EventJoinStatus;
+import com.example.dance_community.enums.EventSortType;
 import com.example.dance_community.enums.EventType;
 import com.example.dance_community.enums.Scope;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +38,12 @@ class EventRepositoryTest {
     @Autowired
     private ClubRepository clubRepository;
 
+    @Autowired
+    private EventJoinRepository eventJoinRepository;
+
+    @Autowired
+    private EntityManager em;
+
     private User host;
     private Club myClub;
 
@@ -45,30 +54,55 @@ class EventRepositoryTest {
     }
 
     @Test
-    @DisplayName("QueryDSL - 다가오는 행사 조회 (날짜 필터링 & 정렬 확인)")
-    void findUpcomingEvents_Success() {
+    @DisplayName("Native - 공개 범위별로 시작이 가까운 행사 id 를 perScope 개씩 조회")
+    void findUpcomingEventIdsPerScope() {
         // given
+        LocalDateTime now = LocalDateTime.now();
+        Club otherClub = clubRepository.save(Club.builder().clubName("OtherClub").clubType(ClubType.CREW).build());
+        Event past = saveEvent(Scope.GLOBAL, null, now.minusHours(1));
+        Event global1 = saveEvent(Scope.GLOBAL, null, now.plusHours(1));
+        Event global2 = saveEvent(Scope.GLOBAL, null, now.plusHours(2));
+        saveEvent(Scope.GLOBAL, null, now.plusHours(3));
+        Event myClub1 = saveEvent(Scope.CLUB, myClub, now.plusHours(5));
+        saveEvent(Scope.CLUB, myClub, now.plusHours(6));
+        saveEvent(Scope.CLUB, myClub, now.plusHours(7));
+        Event other1 = saveEvent(Scope.CLUB, otherClub, now.plusHours(4));
+        em.flush();
+
+        // when
+        List<Long> results = eventRepository.findUpcomingEventIdsPerScope(now, 2);
+
+        // then
+        assertThat(results).hasSize(5)
+                .contains(global1.getEventId(), global2.getEventId(), myClub1.getEventId(), other1.getEventId())
+                .doesNotContain(past.getEventId());
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 행사 피드 태그 필터")
+    void findEventFeed_Tag() {
+        // given
+        Event hiphopWorkshop = eventRepository.save(Event.builder()
+                .host(host).title("Hiphop Workshop").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .tags(List.of("hiphop")).capacity(10L)
+                .startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2)).build());
         eventRepository.save(Event.builder()
-                .host(host).title("Past Event").scope(Scope.GLOBAL).type(EventType.BATTLE).content("Old")
-                .capacity(10L).startsAt(LocalDateTime.now().minusDays(1)).endsAt(LocalDateTime.now().plusHours(1))
-                .likeCount(10L).viewCount(10L).build());
-        eventRepository.save(Event.builder()
-                .host(host).title("Future Event").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("New")
-                .capacity(20L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
-                .likeCount(10L).viewCount(10L).build());
+                .host(host).title("Popping Battle").scope(Scope.GLOBAL).type(EventType.BATTLE).content("C")
+                .tags(List.of("popping")).capacity(10L)
+                .startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2)).build());
+        em.flush();
+        em.clear();
 
         // when
-        List<Event> results = eventRepository.findUpcomingEvents(Collections.emptyList(), PageRequest.of(0, 10));
+        List<Event> results = eventRepository.findEventFeed(List.of(), EventSortType.LATEST, "hiphop", null, 10);
 
         // then
-        assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getTitle()).isEqualTo("Future Event");
-        assertThat(results.getFirst().getHost().getNickname()).isEqualTo("HostUser");
+        assertThat(results).extracting("eventId").containsExactly(hiphopWorkshop.getEventId());
     }
 
     @Test
     @DisplayName("QueryDSL - 행사 목록 조회 (권한 필터링 확인)")
-    void findAllEvents_ScopeCheck() {
+    void findEventFeed_ScopeCheck() {
         // given
         eventRepository.save(Event.builder()
                 .host(host).title("Global Event").scope(Scope.GLOBAL).type(EventType.JAM).content("Global")
@@ -86,7 +120,7 @@ class EventRepositoryTest {
 
         // when
         List<Long> myClubIds = List.of(myClub.getClubId());
-        List<Event> results = eventRepository.findAllEvents(myClubIds);
+        List<Event> results = eventRepository.findEventFeed(myClubIds, EventSortType.LATEST, null, null, 10);
 
         // then
         assertThat(results).hasSize(2);
@@ -95,4 +129,89 @@ class EventRepositoryTest {
         assertThat(results).extracting("title")
                 .doesNotContain("Other Event");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("QueryDSL - 행사 피드 커서 페이지네이션 (시작일순, 동일 시작일은 ID로 구분)")
+    void findEventFeed_StartsAtCursor() {
+        // given
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(3).withNano(0);
+        Event first = eventRepository.save(Event.builder()
+                .host(host).title("E1").scope(Scope.GLOBAL).type(EventType.JAM).content("C")
+                .capacity(10L).startsAt(startsAt).endsAt(startsAt.plusHours(2))
+                .likeCount(0L).viewCount(0L).build());
+        Event second = eventRepository.save(Event.builder()
+                .host(host).title("E2").scope(Scope.GLOBAL).type(EventType.JAM).content("C")
+                .capacity(10L).startsAt(startsAt).endsAt(startsAt.plusHours(2))
+                .likeCount(0L).viewCount(0L).build());
+        Event earliest = eventRepository.save(Event.builder()
+                .host(host).title("E0").scope(Scope.GLOBAL).type(EventType.JAM).content("C")
+                .capacity(10L).startsAt(startsAt.minusDays(1)).endsAt(startsAt.minusDays(1).plusHours(2))
+                .likeCount(0L).viewCount(0L).build());
+
+        // when
+        List<Event> firstPage = eventRepository.findEventFeed(List.of(), EventSortType.STARTS_AT, null, null, 2);
+        Event last = firstPage.getLast();
+        List<Event> secondPage = eventRepository.findEventFeed(
+                List.of(), EventSortType.STARTS_AT, new Cursor(last.getStartsAt(), last.getEventId()), 2);
+
+        // then
+        assertThat(firstPage).extracting("eventId").containsExactly(earliest.getEventId(), first.getEventId());
+        assertThat(secondPage).extracting("eventId").containsExactly(second.getEventId());
+    }
+
+    @Test
+    @DisplayName("확정 인원 조건부 증가 - 정원에 도달하면 더 이상 증가하지 않음")
+    void increaseConfirmedCount_StopsAtCapacity() {
+        // given
+        Event event = eventRepository.save(Event.builder()
+                .host(host).title("Small Event").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .capacity(2L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .build());
+
+        // when
+        int first = eventRepository.increaseConfirmedCount(event.getEventId());
+        int second = eventRepository.increaseConfirmedCount(event.getEventId());
+        int third = eventRepository.increaseConfirmedCount(event.getEventId());
+        em.clear();
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(1, 1, 0);
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getConfirmedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("확정 인원 보정 - 실제 CONFIRMED 수와 다른 행사만 갱신")
+    void reconcileConfirmedCounts() {
+        // given
+        Event drifted = eventRepository.save(Event.builder()
+                .host(host).title("Drifted").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .confirmedCount(5L).build());
+        Event accurate = eventRepository.save(Event.builder()
+                .host(host).title("Accurate").scope(Scope.GLOBAL).type(EventType.WORKSHOP).content("C")
+                .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .confirmedCount(1L).build());
+        User guest = userRepository.save(new User("guest@test.com", "pw", "Guest", null));
+        eventJoinRepository.save(EventJoin.builder().participant(guest).event(drifted).status(EventJoinStatus.CONFIRMED).build());
+        eventJoinRepository.save(EventJoin.builder().participant(host).event(drifted).status(EventJoinStatus.CANCELED).build());
+        eventJoinRepository.save(EventJoin.builder().participant(guest).event(accurate).status(EventJoinStatus.CONFIRMED).build());
+        em.flush();
+
+        // when
+        List<Long> driftIds = eventRepository.findConfirmedCountDriftIds(0L, eventRepository.findMaxEventId());
+        int repaired = eventRepository.reconcileConfirmedCounts(driftIds);
+        em.clear();
+
+        // then
+        assertThat(driftIds).containsExactly(drifted.getEventId());
+        assertThat(repaired).isEqualTo(1);
+        assertThat(eventRepository.findById(drifted.getEventId()).orElseThrow().getConfirmedCount()).isEqualTo(1L);
+        assertThat(eventRepository.findById(accurate.getEventId()).orElseThrow().getConfirmedCount()).isEqualTo(1L);
+    }
+
+    private Event saveEvent(Scope scope, Club club, LocalDateTime startsAt) {
+        return eventRepository.save(Event.builder()
+                .host(host).title("Event").scope(scope).club(club).type(EventType.JAM).content("C")
+                .capacity(10L).startsAt(startsAt).endsAt(startsAt.plusHours(2)).build());
+    }
+}
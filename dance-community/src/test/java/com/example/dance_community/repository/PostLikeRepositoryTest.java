@@ -0,0 +1,114 @@
+package com.example.dance_community.repository;
+
+import com.example.dance_community.config.JpaConfig;
+import com.example.dance_community.config.QueryDslConfig;
+import com.example.dance_community.entity.Post;
+import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.Scope;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+class PostLikeRepositoryTest {
+
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager em;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("liker@test.com", "pw", "Liker", null));
+        User author = userRepository.save(new User("author@test.com", "pw", "Author", null));
+        post = postRepository.save(Post.builder().author(author).title("Post").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+    }
+
+    @Test
+    @DisplayName("좋아요 upsert - 중복 좋아요는 무시되고 좋아요 수는 한 번만 증가")
+    void insertIfAbsent_Idempotent() {
+        // when
+        int first = postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId());
+        int second = postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId());
+        postRepository.increaseLikeCounts(List.of(post.getPostId()));
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(postLikeRepository.existsByPostPostIdAndUserUserId(post.getPostId(), user.getUserId())).isTrue();
+        assertThat(postRepository.findLikeCount(post.getPostId())).contains(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 upsert - 삭제된 게시글에는 추가되지 않음")
+    void insertIfAbsent_DeletedPost() {
+        // given
+        post.delete();
+        em.flush();
+
+        // when
+        int inserted = postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId());
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(postRepository.findLikeCount(post.getPostId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 - 삭제된 행 수 반환, 좋아요 수는 0 미만으로 내려가지 않음")
+    void deleteByPostIdAndUserId() {
+        // given
+        postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId());
+
+        // when
+        int deleted = postLikeRepository.deleteByPostIdAndUserId(post.getPostId(), user.getUserId());
+        int deletedAgain = postLikeRepository.deleteByPostIdAndUserId(post.getPostId(), user.getUserId());
+        int decreased = postRepository.decreaseLikeCounts(List.of(post.getPostId()));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(decreased).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 좋아요 - 선조회로 안 누른 활성 게시글만 추리고, 중복 삽입/삭제는 0건")
+    void bulkLikeAndUnlike() {
+        // given
+        User author = userRepository.save(new User("author2@test.com", "pw", "Author2", null));
+        Post other = postRepository.save(Post.builder().author(author).title("Other").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        Post deleted = postRepository.save(Post.builder().author(author).title("Deleted").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        deleted.delete();
+        postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId());
+        em.flush();
+        em.clear();
+        List<Long> targetIds = List.of(post.getPostId(), other.getPostId(), deleted.getPostId());
+
+        // when
+        List<Long> unliked = postLikeRepository.findUnlikedPostIds(targetIds, user.getUserId());
+        int inserted = postLikeRepository.insertIfAbsent(other.getPostId(), user.getUserId());
+        int insertedAgain = postLikeRepository.insertIfAbsent(other.getPostId(), user.getUserId());
+        int deletedLike = postLikeRepository.deleteByPostIdAndUserId(other.getPostId(), user.getUserId());
+        int deletedAgain = postLikeRepository.deleteByPostIdAndUserId(other.getPostId(), user.getUserId());
+
+        // then
+        assertThat(unliked).containsExactly(other.getPostId());
+        assertThat(List.of(inserted, insertedAgain, deletedLike, deletedAgain)).containsExactly(1, 0, 1, 0);
+    }
+}
@@ -2,8 +2,11 @@ package com.example.dance_community.repository;
 
 import com.example.dance_community.config.JpaConfig;
 import com.example.dance_community.config.QueryDslConfig;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.tag.TagUse;
 import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.ClubJoin;
+import com.example.dance_community.entity.Comment;
 import com.example.dance_community.entity.Post;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.ClubJoinStatus;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,6 +36,7 @@ class PostRepositoryTest {
     @Autowired private UserRepository userRepository;
     @Autowired private ClubRepository clubRepository;
     @Autowired private ClubJoinRepository clubJoinRepository;
+    @Autowired private CommentRepository commentRepository;
     @Autowired private EntityManager em;
 
     private User author;
@@ -51,8 +56,8 @@ class PostRepositoryTest {
     }
 
     @Test
-    @DisplayName("QueryDSL - 전체 게시글 조회 (접근 권한 필터링)")
-    void findAllPosts_ScopeCheck() {
+    @DisplayName("QueryDSL - 게시글 피드 조회 (접근 권한 필터링)")
+    void findPostFeed_ScopeCheck() {
         // given
         postRepository.save(Post.builder().author(author).title("Global Post").scope(Scope.GLOBAL).content("G")
                 .likeCount(10L).viewCount(10L).build());
@@ -67,7 +72,7 @@ class PostRepositoryTest {
 
         // when
         List<Long> myClubIds = List.of(myClub.getClubId());
-        List<Post> results = postRepository.findAllPosts(myClubIds);
+        List<Post> results = postRepository.findPostFeed(myClubIds, null, null, 20);
 
         // then
         assertThat(results).hasSize(2);
@@ -75,6 +80,93 @@ class PostRepositoryTest {
                 .containsExactlyInAnyOrder("Global Post", "My Club Post");
     }
 
+    @Test
+    @DisplayName("QueryDSL - 게시글 피드 커서 페이지네이션 (createdAt, postId 순)")
+    void findPostFeed_Cursor() {
+        // given
+        LocalDateTime sameTime = LocalDateTime.now().minusHours(1).withNano(0);
+        Post first = postRepository.save(Post.builder().author(author).title("P1").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        Post second = postRepository.save(Post.builder().author(author).title("P2").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        Post third = postRepository.save(Post.builder().author(author).title("P3").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        em.createNativeQuery("UPDATE posts SET created_at = :sameTime")
+                .setParameter("sameTime", sameTime)
+                .executeUpdate();
+        em.clear();
+
+        // when
+        List<Post> firstPage = postRepository.findPostFeed(List.of(), null, null, 2);
+        Post last = firstPage.getLast();
+        List<Post> secondPage = postRepository.findPostFeed(List.of(), null, new Cursor(last.getCreatedAt(), last.getPostId()), 2);
+
+        // then
+        assertThat(firstPage).extracting("postId").containsExactly(third.getPostId(), second.getPostId());
+        assertThat(secondPage).extracting("postId").containsExactly(first.getPostId());
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 게시글 피드 태그 필터 (접근 권한과 함께 적용)")
+    void findPostFeed_Tag() {
+        // given
+        Post popping = postRepository.save(Post.builder().author(author).title("Popping").scope(Scope.GLOBAL).content("C")
+                .tags(List.of("popping", "hiphop")).build());
+        postRepository.save(Post.builder().author(author).title("Locking").scope(Scope.GLOBAL).content("C")
+                .tags(List.of("locking")).build());
+        postRepository.save(Post.builder().author(author).title("Other Club Popping").scope(Scope.CLUB).club(otherClub).content("C")
+                .tags(List.of("popping")).build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<Post> results = postRepository.findPostFeed(List.of(myClub.getClubId()), " popping ", null, 20);
+
+        // then
+        assertThat(results).extracting("postId").containsExactly(popping.getPostId());
+    }
+
+    @Test
+    @DisplayName("QueryDSL - 인기 태그 초기 점수용 태그 조회 (GLOBAL, 기간 내)")
+    void findTagUsesSince() {
+        // given
+        postRepository.save(Post.builder().author(author).title("G").scope(Scope.GLOBAL).content("C")
+                .tags(List.of("popping", "hiphop")).build());
+        postRepository.save(Post.builder().author(author).title("M").scope(Scope.CLUB).club(myClub).content("C")
+                .tags(List.of("secret")).build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<TagUse> uses = postRepository.findTagUsesSince(LocalDateTime.now().minusDays(1));
+        List<TagUse> none = postRepository.findTagUsesSince(LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThat(uses).extracting(TagUse::tag).containsExactlyInAnyOrder("popping", "hiphop");
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 읽어 둔 댓글 수로 SQL 증감분을 덮어쓰지 않음")
+    void updatePost_KeepsCommentCount() {
+        // given
+        Post saved = postRepository.save(Post.builder().author(author).title("T").scope(Scope.GLOBAL).content("C").build());
+        em.flush();
+        em.clear();
+        Post loaded = postRepository.findById(saved.getPostId()).orElseThrow();
+
+        // when
+        postRepository.increaseCommentCount(saved.getPostId());
+        loaded.updatePost("Edited", "C", List.of());
+        em.flush();
+        em.clear();
+
+        // then
+        Post result = postRepository.findById(saved.getPostId()).orElseThrow();
+        assertThat(result.getTitle()).isEqualTo("Edited");
+        assertThat(result.getCommentCount()).isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("QueryDSL - 핫 게시글 조회 (기간, 좋아요 순, GLOBAL 체크)")
     void findHotPosts_FilterAndSort() {
@@ -101,36 +193,131 @@ class PostRepositoryTest {
     }
 
     @Test
-    @DisplayName("QueryDSL - 내 동아리 소식 조회 (ACTIVE 멤버만, Fetch Join)")
-    void findMyClubPosts_Success() {
+    @DisplayName("내 동아리 소식 타임라인 적재 - 최신순 postId -> clubId")
+    void findMyClubPostIds_Success() {
         // given
-        postRepository.save(Post.builder().author(author).title("Club Post 1").scope(Scope.CLUB).club(myClub).content("C")
-                .likeCount(10L).viewCount(10L).build());
+        Post older = postRepository.save(Post.builder().author(author).title("Club Post 1").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        Post newer = postRepository.save(Post.builder().author(author).title("Club Post 2").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(0L).viewCount(0L).build());
         postRepository.save(Post.builder().author(author).title("Other Post").scope(Scope.CLUB).club(otherClub).content("C")
-                .likeCount(10L).viewCount(10L).build());
+                .likeCount(0L).viewCount(0L).build());
 
         // when
-        List<Post> results = postRepository.findMyClubPosts(viewer.getUserId(), PageRequest.of(0, 10));
+        Map<Long, Long> result = postRepository.findMyClubPostIds(viewer.getUserId(), 10);
 
         // then
-        assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getTitle()).isEqualTo("Club Post 1");
-        assertThat(results.getFirst().getClub().getClubName()).isEqualTo("MyClub");
+        assertThat(result.keySet()).containsExactly(newer.getPostId(), older.getPostId());
+        assertThat(result.values()).containsOnly(myClub.getClubId());
     }
 
     @Test
-    @DisplayName("조회수 증가 (JPA @Modifying)")
-    void updateViewCount() {
+    @DisplayName("타임라인 id 로 동아리 게시글 조회 - 삭제/GLOBAL 글 제외")
+    void findClubPostsByIds_ExcludesDeleted() {
+        // given
+        Post active = postRepository.save(Post.builder().author(author).title("Active").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        Post deleted = Post.builder().author(author).title("Deleted").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(0L).viewCount(0L).build();
+        deleted.delete();
+        postRepository.save(deleted);
+        Post global = postRepository.save(Post.builder().author(author).title("Global").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<Post> results = postRepository.findClubPostsByIds(List.of(active.getPostId(), deleted.getPostId(), global.getPostId()));
+
+        // then
+        assertThat(results).extracting("title").containsExactly("Active");
+    }
+
+    @Test
+    @DisplayName("조회수 일괄 증가 (JPA @Modifying, IN 절)")
+    void increaseViewCounts() {
         // given
         Post post = postRepository.save(Post.builder().author(author).title("View Test").scope(Scope.GLOBAL).content("C")
                 .likeCount(10L).viewCount(0L).build());
+        Post other = postRepository.save(Post.builder().author(author).title("View Test 2").scope(Scope.GLOBAL).content("C")
+                .likeCount(10L).viewCount(5L).build());
+
+        // when
+        int updatedRows = postRepository.increaseViewCounts(List.of(post.getPostId(), other.getPostId()), 3L);
+        em.clear();
+
+        // then
+        assertThat(updatedRows).isEqualTo(2);
+        assertThat(postRepository.findById(post.getPostId()).orElseThrow().getViewCount()).isEqualTo(3L);
+        assertThat(postRepository.findById(other.getPostId()).orElseThrow().getViewCount()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("피드 DTO 조립용 일괄 조회 - 태그, 이미지")
+    void findFeedDetailsByPostIds() {
+        // given
+        Post post = postRepository.save(Post.builder().author(author).title("With Tags").scope(Scope.GLOBAL).content("C")
+                .tags(List.of("hiphop", "popping")).images(List.of("a.jpg"))
+                .likeCount(0L).viewCount(0L).build());
+        Post empty = postRepository.save(Post.builder().author(author).title("Empty").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+        em.flush();
+        em.clear();
+
+        List<Long> postIds = List.of(post.getPostId(), empty.getPostId());
+
+        // when
+        Map<Long, List<String>> tags = postRepository.findTagsByPostIds(postIds);
+        Map<Long, List<String>> images = postRepository.findImagesByPostIds(postIds);
+
+        // then
+        assertThat(tags.get(post.getPostId())).containsExactlyInAnyOrder("hiphop", "popping");
+        assertThat(tags).doesNotContainKey(empty.getPostId());
+        assertThat(images.get(post.getPostId())).containsExactly("a.jpg");
+    }
+
+    @Test
+    @DisplayName("댓글 수 증감 - 0 아래로 내려가지 않음")
+    void increaseAndDecreaseCommentCount() {
+        // given
+        Post post = postRepository.save(Post.builder().author(author).title("Comments").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).build());
+
+        // when
+        postRepository.increaseCommentCount(post.getPostId());
+        postRepository.decreaseCommentCount(post.getPostId());
+        int belowZero = postRepository.decreaseCommentCount(post.getPostId());
+        em.clear();
+
+        // then
+        assertThat(belowZero).isZero();
+        assertThat(postRepository.findById(post.getPostId()).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 실제 댓글 수와 다른 게시글만 갱신, 삭제된 댓글 제외")
+    void reconcileCommentCounts() {
+        // given
+        Post drifted = postRepository.save(Post.builder().author(author).title("Drifted").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).commentCount(7L).build());
+        Post accurate = postRepository.save(Post.builder().author(author).title("Accurate").scope(Scope.GLOBAL).content("C")
+                .likeCount(0L).viewCount(0L).commentCount(1L).build());
+        commentRepository.save(Comment.builder().user(viewer).post(drifted).content("c1").build());
+        Comment deleted = Comment.builder().user(viewer).post(drifted).content("c2").build();
+        deleted.delete();
+        commentRepository.save(deleted);
+        commentRepository.save(Comment.builder().user(viewer).post(accurate).content("c3").build());
+        em.flush();
 
         // when
-        postRepository.updateViewCount(post.getPostId());
+        List<Long> driftIds = postRepository.findCommentCountDriftIds(0L, postRepository.findMaxPostId());
+        int repaired = postRepository.reconcileCommentCounts(driftIds);
         em.clear();
 
         // then
-        Post updated = postRepository.findById(post.getPostId()).orElseThrow();
-        assertThat(updated.getViewCount()).isEqualTo(1L);
+        assertThat(driftIds).containsExactly(drifted.getPostId());
+        assertThat(repaired).isEqualTo(1);
+        assertThat(postRepository.findById(drifted.getPostId()).orElseThrow().getCommentCount()).isEqualTo(1L);
+        assertThat(postRepository.findById(accurate.getPostId()).orElseThrow().getCommentCount()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+}
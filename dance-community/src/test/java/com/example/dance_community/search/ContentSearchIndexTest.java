@@ -0,0 +1,136 @@
+package com.example.dance_community.search;
+
+import com.example.dance_community.config.SearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentSearchIndexTest {
+
+    private final List<SearchDocument> stored = new ArrayList<>();
+    private ContentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.setRebuildBatchSize(2);
+        index = new ContentSearchIndex("test", properties, new SimpleMeterRegistry()) {
+            @Override
+            protected List<SearchDocument> loadBatch(Long afterId, int limit) {
+                return stored.stream()
+                        .filter(document -> afterId == null || document.id() > afterId)
+                        .limit(limit)
+                        .toList();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("모든 토큰을 포함하는 접근 가능한 문서만 최신순으로 검색")
+    void search_AndScope() {
+        // given
+        index.indexAfterCommit(document(1L, null, "힙합 워크샵", "초보 환영"));
+        index.indexAfterCommit(document(2L, 10L, "힙합 워크샵 동아리 전용", "회원만"));
+        index.indexAfterCommit(document(3L, 20L, "힙합 워크샵 다른 동아리", "회원만"));
+        index.indexAfterCommit(document(4L, null, "재즈 워크샵", "초보 환영"));
+
+        // when
+        List<Long> result = index.search("힙합워크샵", List.of(10L), null, 10);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 검색어는 단어 중간에 있어도 검색")
+    void search_SingleSyllable() {
+        // given
+        index.indexAfterCommit(document(1L, null, "막춤 모임", "누구나"));
+        index.indexAfterCommit(document(2L, null, "스트릿 댄스", "초보 환영"));
+        index.indexAfterCommit(document(3L, null, "춤추는 금요일", "잼"));
+
+        // when
+        List<Long> result = index.search("춤", List.of(), null, 10);
+
+        // then
+        assertThat(result).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("beforeId 커서 이전 문서부터 limit 개")
+    void search_Cursor() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.indexAfterCommit(document(id, null, "battle " + id, ""));
+        }
+
+        // when
+        List<Long> firstPage = index.search("battle", List.of(), null, 2);
+        List<Long> secondPage = index.search("battle", List.of(), firstPage.getLast(), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(5L, 4L);
+        assertThat(secondPage).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 단어로는 검색되지 않음")
+    void update_ReplacesTerms() {
+        // given
+        index.indexAfterCommit(document(1L, null, "팝핀 연습", ""));
+        index.indexAfterCommit(document(2L, null, "팝핀 대회", ""));
+
+        // when
+        index.indexAfterCommit(document(1L, null, "왁킹 연습", ""));
+
+        // then
+        assertThat(index.search("팝핀", List.of(), null, 10)).containsExactly(2L);
+        assertThat(index.search("왁킹", List.of(), null, 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제/작성자 단위 삭제 반영")
+    void remove() {
+        // given
+        index.indexAfterCommit(document(1L, null, "팝핀 연습", ""));
+        index.indexAfterCommit(document(2L, null, "팝핀 대회", ""));
+        index.indexAfterCommit(new SearchDocument(3L, null, 8L, "팝핀 잼", "", List.of()));
+
+        // when
+        index.removeAfterCommit(3L);
+        index.removeByOwnerAfterCommit(7L);
+
+        // then
+        assertThat(index.search("팝핀", List.of(), null, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인 - DB 문서로 새 색인을 만들어 교체")
+    void rebuild_ReplacesIndex() {
+        // given
+        index.indexAfterCommit(document(9L, null, "삭제된 글", ""));
+        stored.add(document(1L, null, "크럼프 잼", ""));
+        stored.add(document(2L, null, "크럼프 배틀", ""));
+        stored.add(document(3L, null, "락킹 배틀", ""));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.search("크럼프", List.of(), null, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("삭제", List.of(), null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private SearchDocument document(Long id, Long clubId, String title, String content) {
+        return new SearchDocument(id, clubId, 7L, title, content, List.of());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.dance_community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanBigramTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 2글자 단위, 영문/숫자는 단어 단위로 자르고 소문자로 정규화")
+    void tokenize_Mixed() {
+        assertThat(KoreanBigramTokenizer.tokenize("힙합댄스 HipHop 2025!"))
+                .containsExactly("힙합", "합댄", "댄스", "hiphop", "2025");
+    }
+
+    @Test
+    @DisplayName("조사가 붙어도 같은 bigram 을 포함")
+    void tokenize_WithParticle() {
+        assertThat(KoreanBigramTokenizer.tokenize("워크샵에서"))
+                .contains("워크", "크샵");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글과 한글/영문 경계 처리")
+    void tokenize_SingleCharAndBoundary() {
+        assertThat(KoreanBigramTokenizer.tokenize("춤 K팝"))
+                .containsExactly("춤", "k", "팝");
+    }
+
+    @Test
+    @DisplayName("색인용은 한글 음절 하나하나도 토큰으로 추가")
+    void tokenizeForIndex_AddsSyllables() {
+        assertThat(KoreanBigramTokenizer.tokenizeForIndex("춤추기 K팝"))
+                .containsExactlyInAnyOrder("춤추", "추기", "춤", "추", "기", "k", "팝");
+    }
+
+    @Test
+    @DisplayName("빈 문자열/기호만 있으면 토큰 없음")
+    void tokenize_Empty() {
+        assertThat(KoreanBigramTokenizer.tokenize("  ?! ")).isEmpty();
+        assertThat(KoreanBigramTokenizer.tokenize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.config.RefreshTokenProperties;
+import com.example.dance_community.entity.RefreshTokenFamily;
+import com.example.dance_community.enums.RefreshRotationResult;
+import com.example.dance_community.exception.ServiceUnavailableException;
+import com.example.dance_community.repository.RefreshTokenFamilyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryRefreshTokenStore store;
+    private final RefreshTokenProperties properties = new RefreshTokenProperties();
+    private final long expiresAt = System.currentTimeMillis() + 60_000L;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(refreshTokenFamilyRepository, transactionManager, new SimpleMeterRegistry(), properties);
+        store.create(new TokenFamily("family-1", 1L, "token-1", expiresAt, false));
+    }
+
+    @Test
+    @DisplayName("교체 - 현재 토큰이면 새 토큰으로 교체되고 DB 기록은 다음 플러시로 미룸")
+    void rotate_Success() {
+        // when
+        RefreshRotationResult result = store.rotate("family-1", "token-1", null, "token-2", expiresAt);
+
+        // then
+        assertThat(result).isEqualTo(RefreshRotationResult.ROTATED);
+        assertThat(store.find("family-1").currentTokenId()).isEqualTo("token-2");
+        verify(refreshTokenFamilyRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("교체 - 이전 토큰이 다시 제시되면 family 전체 폐기")
+    void rotate_Reused_RevokesFamily() {
+        // given
+        store.rotate("family-1", "token-1", null, "token-2", expiresAt);
+
+        // when
+        RefreshRotationResult reused = store.rotate("family-1", "token-1", null, "token-3", expiresAt);
+        RefreshRotationResult afterRevoke = store.rotate("family-1", "token-2", "token-1", "token-4", expiresAt);
+
+        // then
+        assertThat(reused).isEqualTo(RefreshRotationResult.REUSED);
+        assertThat(afterRevoke).isEqualTo(RefreshRotationResult.INVALID);
+        assertThat(store.find("family-1").revoked()).isTrue();
+        verify(refreshTokenFamilyRepository).saveAll(argThat(families -> hasRevoked(families, "family-1")));
+    }
+
+    @Test
+    @DisplayName("교체 - 없는 family 는 INVALID")
+    void rotate_UnknownFamily() {
+        assertThat(store.rotate("unknown", "token-1", null, "token-2", expiresAt)).isEqualTo(RefreshRotationResult.INVALID);
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기 - 해당 사용자의 모든 family 가 즉시 폐기")
+    void revokeAll() {
+        // given
+        store.create(new TokenFamily("family-2", 1L, "token-a", expiresAt, false));
+        store.create(new TokenFamily("family-3", 2L, "token-b", expiresAt, false));
+
+        // when
+        store.revokeAll(1L);
+
+        // then
+        assertThat(store.find("family-1").revoked()).isTrue();
+        assertThat(store.find("family-2").revoked()).isTrue();
+        assertThat(store.find("family-3").revoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("플러시 - 변경된 family 를 DB 에 기록")
+    void flush_PersistsDirtyFamilies() {
+        // when
+        store.flush();
+
+        // then
+        verify(refreshTokenFamilyRepository).saveAll(argThat(families ->
+                families instanceof List<?> list && list.size() == 1
+                        && ((RefreshTokenFamily) list.get(0)).getFamilyId().equals("family-1")));
+        verify(refreshTokenFamilyRepository).deleteExpired(any());
+    }
+
+    @Test
+    @DisplayName("교체 - 재기동 직전 교체분이 DB 에 반영되지 않았어도 복원된 토큰의 다음 토큰은 한 번 인정")
+    void rotate_RestoredFamily_AcceptsSuccessorOnce() {
+        // given
+        given(refreshTokenFamilyRepository.findAllByRevokedFalseAndExpiresAtGreaterThan(any()))
+                .willReturn(List.of(new RefreshTokenFamily("family-9", 9L, "token-1", expiresAt, false)));
+        store.load();
+
+        // when
+        RefreshRotationResult successor = store.rotate("family-9", "token-2", "token-1", "token-3", expiresAt);
+        RefreshRotationResult staleSuccessor = store.rotate("family-9", "token-2", "token-1", "token-4", expiresAt);
+
+        // then
+        assertThat(successor).isEqualTo(RefreshRotationResult.ROTATED);
+        assertThat(staleSuccessor).isEqualTo(RefreshRotationResult.REUSED);
+    }
+
+    @Test
+    @DisplayName("생성 - 사용자당 상한을 넘으면 가장 오래 교체되지 않은 family 폐기")
+    void create_OverUserLimit_RevokesOldest() {
+        // given
+        properties.setMaxFamiliesPerUser(2);
+        store.create(new TokenFamily("family-2", 1L, "token-a", expiresAt + 1_000L, false));
+
+        // when
+        store.create(new TokenFamily("family-3", 1L, "token-b", expiresAt + 2_000L, false));
+
+        // then
+        assertThat(store.find("family-1").revoked()).isTrue();
+        assertThat(store.find("family-2").revoked()).isFalse();
+        assertThat(store.find("family-3").revoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 - 전체 상한에 걸리면 새 로그인 거절")
+    void create_OverCapacity_Rejected() {
+        // given
+        properties.setMaxFamilies(1);
+
+        // when & then
+        assertThatThrownBy(() -> store.create(new TokenFamily("family-2", 2L, "token-a", expiresAt, false)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(store.find("family-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("플러시 - 폐기가 DB 에 기록된 family 는 메모리에서 제거")
+    void flush_DropsPersistedRevokedFamilies() {
+        // given
+        store.revoke("family-1");
+
+        // when
+        store.flush();
+
+        // then
+        assertThat(store.find("family-1")).isNull();
+        assertThat(store.rotate("family-1", "token-1", null, "token-2", expiresAt)).isEqualTo(RefreshRotationResult.INVALID);
+    }
+
+    @Test
+    @DisplayName("레거시 토큰 이관 - family 가 없는 사용자만 한 번 허용")
+    void claimLegacyMigration() {
+        // given
+        given(refreshTokenFamilyRepository.existsByUserId(2L)).willReturn(false);
+
+        // when
+        boolean first = store.claimLegacyMigration(2L, expiresAt);
+        boolean second = store.claimLegacyMigration(2L, expiresAt);
+        boolean hasFamily = store.claimLegacyMigration(1L, expiresAt);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(hasFamily).isFalse();
+    }
+
+    private static boolean hasRevoked(Iterable<RefreshTokenFamily> families, String familyId) {
+        for (RefreshTokenFamily family : families) {
+            if (family.getFamilyId().equals(familyId) && family.getRevoked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
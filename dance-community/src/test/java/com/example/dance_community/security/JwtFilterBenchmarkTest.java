@@ -0,0 +1,90 @@
+package com.example.dance_community.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// JwtFilter 인증 경로: 요청마다 3회 파싱(기존) vs 검증 캐시 단일 파싱
+// 실행: RUN_BENCHMARKS=true ./gradlew test --tests '*JwtFilterBenchmarkTest'
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class JwtFilterBenchmarkTest {
+
+    private static final String TEST_SECRET = "thisIsTestSecretKeyForJwtValidation1234567890";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("벤치마크: 같은 액세스 토큰 반복 요청 시 필터 처리 시간")
+    void filterPath_RepeatedToken() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", TEST_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", meterRegistry);
+        jwtUtil.init();
+
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+        given(principalCache.get(any())).willReturn(Optional.of(new UserDetail(1L, null, null, null, null)));
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, principalCache);
+
+        String token = jwtUtil.generateAccessToken(1L);
+
+        // 기존 경로: validateToken, isAccessToken, getUserId 가 각각 서명 검증과 JSON 파싱
+        Runnable uncached = () -> {
+            jwtUtil.getClaims(token);
+            jwtUtil.getClaims(token);
+            jwtUtil.getClaims(token);
+        };
+        Runnable cached = () -> {
+            try {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+                request.addHeader("Authorization", "Bearer " + token);
+                jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+
+        long uncachedNs = measure(uncached);
+        long cachedNs = measure(cached);
+
+        log.info("JwtFilter {}회 - 3회 파싱: {} ns/op, 검증 캐시: {} ns/op",
+                ITERATIONS, uncachedNs / ITERATIONS, cachedNs / ITERATIONS);
+
+        // 시간 비교는 기기마다 흔들리므로 수치만 남기고, 서명 검증이 토큰당 1회인지만 확인
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").counter().count())
+                .isEqualTo(WARMUP + ITERATIONS - 1);
+    }
+
+    private long measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        log.debug("{} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return elapsed;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.dance_community.security;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,12 +16,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 class JwtUtilTest {
 
     private JwtUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
     private static final String TEST_SECRET = "thisIsTestSecretKeyForJwtValidation1234567890";
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         jwtUtil = new JwtUtil();
         ReflectionTestUtils.setField(jwtUtil, "jwtSecret", TEST_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", meterRegistry);
         jwtUtil.init();
     }
 
@@ -47,13 +51,16 @@ class JwtUtilTest {
         Long userId = 1L;
 
         // when
-        String token = jwtUtil.generateRefreshToken(userId);
+        String token = jwtUtil.generateRefreshToken(userId, "family-1", "token-1", "token-0", jwtUtil.refreshTokenExpiresAt());
 
         // then
         assertThat(token).isNotNull();
         assertThat(jwtUtil.validateToken(token)).isTrue();
         assertThat(jwtUtil.getUserId(token)).isEqualTo(userId);
         assertThat(jwtUtil.isRefreshToken(token)).isTrue();
+        assertThat(jwtUtil.parse(token).orElseThrow().familyId()).isEqualTo("family-1");
+        assertThat(jwtUtil.parse(token).orElseThrow().tokenId()).isEqualTo("token-1");
+        assertThat(jwtUtil.parse(token).orElseThrow().parentTokenId()).isEqualTo("token-0");
     }
 
     @Test
@@ -90,4 +97,37 @@ class JwtUtilTest {
         // then
         assertThat(isValid).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("단일 파싱 - 검증된 토큰 정보 반환, 같은 토큰 재파싱은 캐시 적중")
+    void parse_CachesVerifiedToken() {
+        // given
+        String token = jwtUtil.generateAccessToken(7L);
+
+        // when
+        VerifiedToken first = jwtUtil.parse(token).orElseThrow();
+        VerifiedToken second = jwtUtil.parse(token).orElseThrow();
+
+        // then
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.isAccessToken()).isTrue();
+        assertThat(first.expiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("단일 파싱 - 검증 실패한 토큰은 캐시하지 않음")
+    void parse_InvalidNotCached() {
+        // given
+        String token = jwtUtil.generateAccessToken(7L);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when & then
+        assertThat(jwtUtil.parse(tampered)).isEmpty();
+        assertThat(jwtUtil.parse(tampered)).isEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").counter().count())
+                .isZero();
+    }
+}
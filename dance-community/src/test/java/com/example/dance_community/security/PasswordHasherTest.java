@@ -0,0 +1,123 @@
+package com.example.dance_community.security;
+
+import com.example.dance_community.config.PasswordHashProperties;
+import com.example.dance_community.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 후 검증 성공, 소요 시간 기록")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), properties(2, 8, 3_000L), meterRegistry);
+
+        // when
+        String hash = passwordHasher.encode("password123");
+
+        // then
+        assertThat(passwordHasher.matches("password123", hash)).isTrue();
+        assertThat(passwordHasher.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password_hash.duration").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password_hash.duration").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정 cost 보다 낮은 해시는 재해싱 대상")
+    void needsUpgrade() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), properties(1, 1, 3_000L), meterRegistry);
+
+        // when & then
+        assertThat(passwordHasher.needsUpgrade(weakHash)).isTrue();
+        assertThat(passwordHasher.needsUpgrade(passwordHasher.encode("password123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 503 예외")
+    void rejectsWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blockingEncoder(started, release), properties(1, 1, 5_000L), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        while (meterRegistry.get("password_hash.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHasher.encode("c"));
+        assertThat(meterRegistry.get("password_hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 503 예외")
+    void timesOut() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blockingEncoder(new CountDownLatch(1), release), properties(1, 1, 50L), meterRegistry);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHasher.encode("a"));
+        assertThat(meterRegistry.get("password_hash.timeouts").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private static PasswordHashProperties properties(int threads, int queueCapacity, long timeoutMs) {
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeoutMs(timeoutMs);
+        return properties;
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
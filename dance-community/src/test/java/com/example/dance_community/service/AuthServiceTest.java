@@ -5,20 +5,36 @@ import com.example.dance_community.dto.auth.LoginRequest;
 import com.example.dance_community.dto.auth.SignupRequest;
 import com.example.dance_community.dto.user.UserResponse;
 import com.example.dance_community.entity.User;
+import com.example.dance_community.enums.RefreshRotationResult;
 import com.example.dance_community.exception.AuthException;
+import com.example.dance_community.exception.ServiceUnavailableException;
+import com.example.dance_community.exception.TooManyRequestsException;
 import com.example.dance_community.security.CookieUtil;
 import com.example.dance_community.security.JwtUtil;
+import com.example.dance_community.security.LoginRateLimiter;
+import com.example.dance_community.security.PrincipalCache;
+import com.example.dance_community.security.RefreshTokenStore;
+import com.example.dance_community.security.UserDetail;
+import com.example.dance_community.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -35,7 +51,18 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
     @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+    @Mock
     private HttpServletResponse response;
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final long EXPIRES_AT = 1_900_000_000_000L;
+    private static final String CLIENT_IP = "127.0.0.1";
 
     @Test
     @DisplayName("회원가입 성공")
@@ -66,14 +93,53 @@ class AuthServiceTest {
         given(userService.matchesPassword(user, request.getPassword())).willReturn(true);
 
         given(jwtUtil.generateAccessToken(1L)).willReturn("access-token");
-        given(jwtUtil.generateRefreshToken(1L)).willReturn("refresh-token");
+        given(jwtUtil.refreshTokenExpiresAt()).willReturn(EXPIRES_AT);
+        given(jwtUtil.generateRefreshToken(eq(1L), anyString(), anyString(), isNull(), eq(EXPIRES_AT))).willReturn("refresh-token");
 
         // when
-        AuthResponse result = authService.login(request, response);
+        AuthResponse result = authService.login(request, CLIENT_IP, response);
 
         // then
         assertThat(result.accessToken()).isEqualTo("access-token");
         verify(cookieUtil).setRefreshTokenCookie(response, "refresh-token");
+        verify(refreshTokenStore).create(argThat(family -> family.userId().equals(1L) && !family.revoked()));
+        verify(userService).upgradePasswordIfNeeded(user, "pw");
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해시 재계산이 과부하로 실패해도 로그인은 성공")
+    void login_Success_UpgradeRejected() {
+        // given
+        LoginRequest request = new LoginRequest("test@email.com", "pw");
+        User user = User.builder().userId(1L).email("test@email.com").nickname("nick").build();
+
+        given(userService.findByEmail(request.getEmail())).willReturn(user);
+        given(userService.matchesPassword(user, "pw")).willReturn(true);
+        doThrow(new ServiceUnavailableException("과부하")).when(userService).upgradePasswordIfNeeded(user, "pw");
+        given(jwtUtil.generateAccessToken(1L)).willReturn("access-token");
+        given(jwtUtil.refreshTokenExpiresAt()).willReturn(EXPIRES_AT);
+        given(jwtUtil.generateRefreshToken(eq(1L), anyString(), anyString(), isNull(), eq(EXPIRES_AT))).willReturn("refresh-token");
+
+        // when
+        AuthResponse result = authService.login(request, CLIENT_IP, response);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("access-token");
+        assertThat(meterRegistry.counter("password.rehash.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 횟수 초과 시 DB 조회 전에 거절")
+    void login_Fail_RateLimited() {
+        // given
+        LoginRequest request = new LoginRequest("test@email.com", "pw");
+        doThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다"))
+                .when(loginRateLimiter).check(CLIENT_IP, "test@email.com");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> authService.login(request, CLIENT_IP, response));
+        verify(userService, never()).findByEmail(any());
+        verify(userService, never()).matchesPassword(any(), any());
     }
 
     @Test
@@ -87,28 +153,97 @@ class AuthServiceTest {
         given(userService.matchesPassword(user, "wrong-pw")).willReturn(false);
 
         // when & then
-        assertThrows(AuthException.class, () -> authService.login(request, response));
+        assertThrows(AuthException.class, () -> authService.login(request, CLIENT_IP, response));
+        verify(userService, never()).upgradePasswordIfNeeded(any(), any());
     }
 
     @Test
-    @DisplayName("토큰 재발급 성공")
+    @DisplayName("토큰 재발급 성공 - refresh token 도 교체, DB 조회 없음")
     void refresh_Success() {
         // given
         String refreshToken = "valid-refresh-token";
         Long userId = 1L;
-        User user = User.builder().userId(userId).email("test@email.com").nickname("nick").build();
+        VerifiedToken verified = new VerifiedToken(userId, "REFRESH", EXPIRES_AT, "family-1", "token-1", null);
+        UserDetail principal = new UserDetail(userId, "test@email.com", "nick", null, null);
 
-        given(jwtUtil.validateToken(refreshToken)).willReturn(true);
-        given(jwtUtil.isRefreshToken(refreshToken)).willReturn(true);
-        given(jwtUtil.getUserId(refreshToken)).willReturn(userId);
-        given(userService.findByUserId(userId)).willReturn(user);
+        given(jwtUtil.parse(refreshToken)).willReturn(Optional.of(verified));
+        given(jwtUtil.refreshTokenExpiresAt()).willReturn(EXPIRES_AT);
+        given(refreshTokenStore.rotate(eq("family-1"), eq("token-1"), isNull(), anyString(), eq(EXPIRES_AT)))
+                .willReturn(RefreshRotationResult.ROTATED);
+        given(principalCache.get(userId)).willReturn(Optional.of(principal));
+        given(jwtUtil.generateRefreshToken(eq(userId), eq("family-1"), anyString(), eq("token-1"), eq(EXPIRES_AT)))
+                .willReturn("new-refresh-token");
         given(jwtUtil.generateAccessToken(userId)).willReturn("new-access-token");
 
         // when
-        AuthResponse result = authService.refresh(refreshToken);
+        AuthResponse result = authService.refresh(refreshToken, response);
 
         // then
         assertThat(result.accessToken()).isEqualTo("new-access-token");
+        assertThat(result.userResponse().nickname()).isEqualTo("nick");
+        verify(cookieUtil).setRefreshTokenCookie(response, "new-refresh-token");
+        verify(userService, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 교체된 refresh token 재사용 시 family 폐기")
+    void refresh_Fail_Reused() {
+        // given
+        String refreshToken = "stolen-refresh-token";
+        VerifiedToken verified = new VerifiedToken(1L, "REFRESH", EXPIRES_AT, "family-1", "old-token", null);
+
+        given(jwtUtil.parse(refreshToken)).willReturn(Optional.of(verified));
+        given(jwtUtil.refreshTokenExpiresAt()).willReturn(EXPIRES_AT);
+        given(refreshTokenStore.rotate(eq("family-1"), eq("old-token"), isNull(), anyString(), eq(EXPIRES_AT)))
+                .willReturn(RefreshRotationResult.REUSED);
+
+        // when & then
+        assertThrows(AuthException.class, () -> authService.refresh(refreshToken, response));
+        verify(cookieUtil).deleteRefreshTokenCookie(response);
+        verify(jwtUtil, never()).generateAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - family 도입 전 토큰은 한 번만 새 family 로 이관")
+    void refresh_Success_LegacyToken() {
+        // given
+        String refreshToken = "legacy-refresh-token";
+        Long userId = 1L;
+        VerifiedToken verified = new VerifiedToken(userId, "REFRESH", EXPIRES_AT, null, null, null);
+        UserDetail principal = new UserDetail(userId, "test@email.com", "nick", null, null);
+
+        given(jwtUtil.parse(refreshToken)).willReturn(Optional.of(verified));
+        given(refreshTokenStore.claimLegacyMigration(userId, EXPIRES_AT)).willReturn(true);
+        given(principalCache.get(userId)).willReturn(Optional.of(principal));
+        given(jwtUtil.refreshTokenExpiresAt()).willReturn(EXPIRES_AT);
+        given(jwtUtil.generateRefreshToken(eq(userId), anyString(), anyString(), isNull(), eq(EXPIRES_AT)))
+                .willReturn("new-refresh-token");
+        given(jwtUtil.generateAccessToken(userId)).willReturn("new-access-token");
+
+        // when
+        AuthResponse result = authService.refresh(refreshToken, response);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("new-access-token");
+        verify(refreshTokenStore).create(argThat(family -> family.userId().equals(userId)));
+        verify(cookieUtil).setRefreshTokenCookie(response, "new-refresh-token");
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 이관했거나 family 가 있는 사용자의 레거시 토큰")
+    void refresh_Fail_LegacyTokenAlreadyMigrated() {
+        // given
+        String refreshToken = "legacy-refresh-token";
+        VerifiedToken verified = new VerifiedToken(1L, "REFRESH", EXPIRES_AT, null, null, null);
+
+        given(jwtUtil.parse(refreshToken)).willReturn(Optional.of(verified));
+        given(refreshTokenStore.claimLegacyMigration(1L, EXPIRES_AT)).willReturn(false);
+
+        // when & then
+        assertThrows(AuthException.class, () -> authService.refresh(refreshToken, response));
+        verify(cookieUtil).deleteRefreshTokenCookie(response);
+        verify(refreshTokenStore, never()).create(any());
     }
 
     @Test
@@ -116,9 +251,25 @@ class AuthServiceTest {
     void refresh_Fail_InvalidToken() {
         // given
         String refreshToken = "invalid-token";
-        given(jwtUtil.validateToken(refreshToken)).willReturn(false);
+        given(jwtUtil.parse(refreshToken)).willReturn(Optional.empty());
 
         // when & then
-        assertThrows(AuthException.class, () -> authService.refresh(refreshToken));
+        assertThrows(AuthException.class, () -> authService.refresh(refreshToken, response));
+    }
+
+    @Test
+    @DisplayName("로그아웃 - refresh token family 폐기 후 쿠키 삭제")
+    void logout_RevokesFamily() {
+        // given
+        String refreshToken = "valid-refresh-token";
+        given(jwtUtil.parse(refreshToken))
+                .willReturn(Optional.of(new VerifiedToken(1L, "REFRESH", EXPIRES_AT, "family-1", "token-1", null)));
+
+        // when
+        authService.logout(refreshToken, response);
+
+        // then
+        verify(refreshTokenStore).revoke("family-1");
+        verify(cookieUtil).deleteRefreshTokenCookie(response);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,8 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipCache;
+import com.example.dance_community.cache.ClubRoleCache;
 import com.example.dance_community.entity.Club;
-import com.example.dance_community.entity.ClubJoin;
 import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.enums.ClubRole;
 import com.example.dance_community.exception.AuthException;
@@ -35,16 +36,20 @@ class ClubAuthServiceTest {
     @Mock
     private ClubRepository clubRepository;
 
+    @Mock
+    private ClubMembershipCache clubMembershipCache;
+
+    @Mock
+    private ClubRoleCache clubRoleCache;
+
     @Test
     @DisplayName("관리자 권한 확인 성공 - 리더")
     void validateClubAuthority_Success_Leader() {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.LEADER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.LEADER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateClubAuthority(userId, clubId));
@@ -56,10 +61,8 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MANAGER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.MANAGER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateClubAuthority(userId, clubId));
@@ -71,25 +74,33 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MEMBER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.MEMBER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateClubAuthority(userId, clubId));
     }
 
+    @Test
+    @DisplayName("관리자 권한 확인 실패 - 가입 정보 없음")
+    void validateClubAuthority_Fail_NotJoined() {
+        // given
+        Long userId = 1L;
+        Long clubId = 10L;
+        given(clubRoleCache.find(userId, clubId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> clubAuthService.validateClubAuthority(userId, clubId));
+    }
+
     @Test
     @DisplayName("리더 권한 확인 성공 - 리더")
     void validateLeaderAuthority_Success_Leader() {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.LEADER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.LEADER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -101,10 +112,8 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MANAGER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.MANAGER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -116,10 +125,8 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MEMBER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(clubRoleCache.find(userId, clubId))
+                .willReturn(Optional.of(new ClubRoleCache.Membership(ClubRole.MEMBER, ClubJoinStatus.ACTIVE)));
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -167,14 +174,13 @@ class ClubAuthServiceTest {
     }
 
     @Test
-    @DisplayName("사용자 클럽 ID 목록 조회 성공")
+    @DisplayName("사용자 클럽 ID 목록 조회 성공 - 캐시 경유")
     void findUserClubIds_Success() {
         // given
         Long userId = 1L;
         List<Long> clubIds = List.of(10L, 20L, 30L);
 
-        given(clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE))
-                .willReturn(clubIds);
+        given(clubMembershipCache.findClubIds(userId)).willReturn(clubIds);
 
         // when
         List<Long> result = clubAuthService.findUserClubIds(userId);
@@ -1,5 +1,6 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
 import com.example.dance_community.dto.club.ClubJoinResponse;
 import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.ClubJoin;
@@ -9,6 +10,7 @@ import com.example.dance_community.enums.ClubRole;
 import com.example.dance_community.exception.ConflictException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.repository.ClubJoinRepository;
+import com.example.dance_community.repository.ClubRepository;
 import com.example.dance_community.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,9 +38,13 @@ class ClubJoinServiceTest {
     @Mock
     private ClubJoinRepository clubJoinRepository;
     @Mock
+    private ClubRepository clubRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private ClubAuthService clubAuthService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("클럽 가입 신청 성공 - 신규 신청")
@@ -206,6 +213,7 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(join.getStatus()).isEqualTo(ClubJoinStatus.LEFT);
+        verify(clubRepository).decreaseMemberCounts(List.of(clubId));
     }
 
     @Test
@@ -255,6 +263,8 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(applicantJoin.getStatus()).isEqualTo(ClubJoinStatus.ACTIVE);
+        verify(clubRepository).increaseMemberCount(clubId);
+        verify(eventPublisher).publishEvent(ClubMembershipChangedEvent.of(applicantId, clubId));
     }
 
     @Test
@@ -274,6 +284,7 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(applicantJoin.getStatus()).isEqualTo(ClubJoinStatus.REJECTED);
+        verifyNoInteractions(clubRepository);
     }
 
     @Test
@@ -310,6 +321,7 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(targetJoin.getStatus()).isEqualTo(ClubJoinStatus.LEFT);
+        verify(clubRepository).decreaseMemberCounts(List.of(clubId));
     }
 
     @Test
@@ -477,12 +489,15 @@ class ClubJoinServiceTest {
     void softDeleteByUserId() {
         // given
         Long userId = 1L;
+        given(clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE)).willReturn(List.of(10L, 20L));
 
         // when
         clubJoinService.softDeleteByUserId(userId);
 
         // then
+        verify(clubRepository).decreaseMemberCounts(List.of(10L, 20L));
         verify(clubJoinRepository).softDeleteByUserId(userId, ClubJoinStatus.LEFT);
+        verify(eventPublisher).publishEvent(ClubMembershipChangedEvent.ofUser(userId));
     }
 
     @Test
@@ -496,5 +511,6 @@ class ClubJoinServiceTest {
 
         // then
         verify(clubJoinRepository).softDeleteByClubId(clubId, ClubJoinStatus.CANCELED);
+        verify(eventPublisher).publishEvent(ClubMembershipChangedEvent.ofClub(clubId));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
+import com.example.dance_community.config.PaginationProperties;
 import com.example.dance_community.dto.club.ClubCreateRequest;
 import com.example.dance_community.dto.club.ClubResponse;
 import com.example.dance_community.dto.club.ClubUpdateRequest;
@@ -7,8 +9,10 @@ import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.ClubJoinStatus;
 import com.example.dance_community.enums.ClubRole;
+import com.example.dance_community.enums.ClubSortType;
 import com.example.dance_community.enums.ClubType;
 import com.example.dance_community.exception.AuthException;
+import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.repository.ClubRepository;
 import com.example.dance_community.repository.UserRepository;
 import jakarta.persistence.EntityManager;
@@ -18,9 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +60,10 @@ class ClubServiceTest {
     private FileStorageService fileStorageService;
     @Mock
     private EntityManager em;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
 
     @Test
     @DisplayName("동아리 생성 성공 - 생성자가 리더로 등록됨")
@@ -87,6 +98,8 @@ class ClubServiceTest {
         assertThat(capturedClub.getMembers().getFirst().getUser().getUserId()).isEqualTo(userId);
         assertThat(capturedClub.getMembers().getFirst().getRole()).isEqualTo(ClubRole.LEADER);
         assertThat(capturedClub.getMembers().getFirst().getStatus()).isEqualTo(ClubJoinStatus.ACTIVE);
+        assertThat(capturedClub.getMemberCount()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(ClubMembershipChangedEvent.of(userId, 10L));
     }
 
     @Test
@@ -182,4 +195,33 @@ class ClubServiceTest {
         verify(club).delete();
         verify(em).flush();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("클럽 디렉터리 조회 성공 - 태그 일괄 조회 후 매핑")
+    void getClubs_Success() {
+        // given
+        Club crew = Club.builder().clubId(1L).clubName("Crew").clubType(ClubType.CREW).build();
+        Club noTagCrew = Club.builder().clubId(2L).clubName("NoTag").clubType(ClubType.CREW).build();
+
+        given(clubRepository.findClubs(eq(ClubType.CREW), eq("Seoul"), eq("popping"), eq(ClubSortType.MEMBER_COUNT), any()))
+                .willReturn(List.of(crew, noTagCrew));
+        given(clubRepository.findTagsByClubIds(List.of(1L, 2L))).willReturn(Map.of(1L, List.of("hiphop")));
+
+        // when
+        List<ClubResponse> responses = clubService.getClubs(ClubType.CREW, "Seoul", "popping", "member_count", 0, 10);
+
+        // then
+        assertThat(responses).extracting(ClubResponse::clubId).containsExactly(1L, 2L);
+        assertThat(responses.get(0).tags()).containsExactly("hiphop");
+        assertThat(responses.get(1).tags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("클럽 디렉터리 조회 실패 - 잘못된 정렬 기준")
+    void getClubs_Fail_InvalidSort() {
+        assertThrows(InvalidRequestException.class, () ->
+                clubService.getClubs(null, null, null, "POPULAR", 0, 10)
+        );
+        verify(clubRepository, never()).findClubs(any(), any(), any(), any(), any());
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.comment.CommentRequest;
 import com.example.dance_community.dto.comment.CommentResponse;
 import com.example.dance_community.entity.Comment;
@@ -10,6 +13,7 @@ import com.example.dance_community.enums.Scope;
 import com.example.dance_community.exception.AccessDeniedException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
 import com.example.dance_community.repository.CommentRepository;
 import com.example.dance_community.repository.EventRepository;
 import com.example.dance_community.repository.PostRepository;
@@ -19,8 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +51,10 @@ class CommentServiceTest {
     private PostRepository postRepository;
     @Mock
     private EventRepository eventRepository;
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+    @Mock
+    private HotPostRanking hotPostRanking;
 
     @Test
     @DisplayName("댓글 생성 성공 - 게시글")
@@ -74,6 +85,8 @@ class CommentServiceTest {
         assertThat(response.content()).isEqualTo("테스트 댓글");
         assertThat(response.userId()).isEqualTo(userId);
         verify(postRepository).findById(postId);
+        verify(postRepository).increaseCommentCount(postId);
+        verify(hotPostRanking).recordCommentAfterCommit(postId, 1);
         verify(eventRepository, never()).findById(any());
     }
 
@@ -105,6 +118,7 @@ class CommentServiceTest {
         assertThat(response.commentId()).isEqualTo(1L);
         assertThat(response.content()).isEqualTo("행사 댓글");
         verify(eventRepository).findById(eventId);
+        verify(eventRepository).increaseCommentCount(eventId);
         verify(postRepository, never()).findById(any());
     }
 
@@ -186,7 +200,7 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("댓글 목록 조회 성공 - 게시글")
+    @DisplayName("댓글 목록 조회 성공 - 게시글, 댓글이 있으면 존재 확인 생략")
     void getComments_ByPostId_Success() {
         // given
         Long postId = 10L;
@@ -198,40 +212,56 @@ class CommentServiceTest {
                 .content("댓글 내용")
                 .build();
 
-        given(postRepository.existsById(postId)).willReturn(true);
-        given(commentRepository.findByPost_PostId(postId)).willReturn(List.of(comment));
+        given(commentRepository.findCommentPage(postId, null, null, 21)).willReturn(List.of(comment));
 
         // when
-        List<CommentResponse> responses = commentService.getComments(postId, null, currentUserId);
+        CursorPage<CommentResponse> page = commentService.getComments(postId, null, currentUserId, null, null);
 
         // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.getFirst().content()).isEqualTo("댓글 내용");
-        assertThat(responses.getFirst().isMyComment()).isTrue();
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.items().getFirst().content()).isEqualTo("댓글 내용");
+        assertThat(page.items().getFirst().isMyComment()).isTrue();
+        assertThat(page.nextCursor()).isNull();
+        verify(postRepository, never()).existsById(any());
     }
 
     @Test
-    @DisplayName("댓글 목록 조회 성공 - 행사")
-    void getComments_ByEventId_Success() {
+    @DisplayName("댓글 목록 조회 성공 - 행사, 다음 페이지 커서 발급")
+    void getComments_ByEventId_HasNext() {
         // given
         Long eventId = 20L;
         Long currentUserId = 1L;
         User user = User.builder().userId(2L).nickname("OtherUser").build();
-        Comment comment = Comment.builder()
-                .commentId(1L)
-                .user(user)
-                .content("행사 댓글")
-                .build();
+        Comment first = Comment.builder().commentId(1L).user(user).content("첫 댓글").build();
+        Comment second = Comment.builder().commentId(2L).user(user).content("둘째 댓글").build();
+        ReflectionTestUtils.setField(first, "createdAt", LocalDateTime.of(2025, 1, 1, 0, 0));
 
-        given(eventRepository.existsById(eventId)).willReturn(true);
-        given(commentRepository.findByEvent_EventId(eventId)).willReturn(List.of(comment));
+        given(commentRepository.findCommentPage(null, eventId, null, 2)).willReturn(List.of(first, second));
+
+        // when
+        CursorPage<CommentResponse> page = commentService.getComments(null, eventId, currentUserId, null, 1);
+
+        // then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.items().getFirst().isMyComment()).isFalse();
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(new Cursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L));
+        verify(eventRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공 - 댓글 없는 게시글은 빈 페이지")
+    void getComments_EmptyPage() {
+        // given
+        Long postId = 10L;
+        given(commentRepository.findCommentPage(postId, null, null, 21)).willReturn(List.of());
+        given(postRepository.existsById(postId)).willReturn(true);
 
         // when
-        List<CommentResponse> responses = commentService.getComments(null, eventId, currentUserId);
+        CursorPage<CommentResponse> page = commentService.getComments(postId, null, 1L, null, null);
 
         // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.getFirst().isMyComment()).isFalse();
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
     }
 
     @Test
@@ -239,11 +269,12 @@ class CommentServiceTest {
     void getComments_Fail_PostNotFound() {
         // given
         Long postId = 999L;
+        given(commentRepository.findCommentPage(postId, null, null, 21)).willReturn(List.of());
         given(postRepository.existsById(postId)).willReturn(false);
 
         // when & then
         assertThrows(NotFoundException.class, () ->
-                commentService.getComments(postId, null, 1L)
+                commentService.getComments(postId, null, 1L, null, null)
         );
     }
 
@@ -252,11 +283,12 @@ class CommentServiceTest {
     void getComments_Fail_EventNotFound() {
         // given
         Long eventId = 999L;
+        given(commentRepository.findCommentPage(null, eventId, null, 21)).willReturn(List.of());
         given(eventRepository.existsById(eventId)).willReturn(false);
 
         // when & then
         assertThrows(NotFoundException.class, () ->
-                commentService.getComments(null, eventId, 1L)
+                commentService.getComments(null, eventId, 1L, null, null)
         );
     }
 
@@ -327,6 +359,7 @@ class CommentServiceTest {
         Comment comment = spy(Comment.builder()
                 .commentId(commentId)
                 .user(user)
+                .post(Post.builder().postId(10L).build())
                 .content("삭제할 댓글")
                 .build());
 
@@ -337,6 +370,8 @@ class CommentServiceTest {
 
         // then
         verify(comment).delete();
+        verify(postRepository).decreaseCommentCount(10L);
+        verify(hotPostRanking).recordCommentAfterCommit(10L, -1);
     }
 
     @Test
@@ -14,9 +14,12 @@ import com.example.dance_community.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +29,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +46,8 @@ class EventJoinServiceTest {
     private EventRepository eventRepository;
     @Mock
     private UserRepository userRepository;
+    @Spy
+    private EventSeatGate eventSeatGate = new EventSeatGate();
 
     @Test
     @DisplayName("행사 신청 성공 - 신규 신청")
@@ -53,10 +60,9 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.empty());
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
         EventJoin savedJoin = EventJoin.builder().participant(user).event(event).status(EventJoinStatus.CONFIRMED).build();
@@ -68,6 +74,11 @@ class EventJoinServiceTest {
         // then
         assertThat(response.status()).isEqualTo(EventJoinStatus.CONFIRMED.name());
         verify(eventJoinRepository, times(1)).save(any(EventJoin.class));
+
+        // 외래 키 S 잠금과의 교착을 피하려면 좌석 UPDATE 가 INSERT 보다 먼저
+        InOrder order = inOrder(eventRepository, eventJoinRepository);
+        order.verify(eventRepository).increaseConfirmedCount(eventId);
+        order.verify(eventJoinRepository).save(any(EventJoin.class));
     }
 
     @Test
@@ -83,10 +94,9 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.of(existingJoin));
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
 
         // when
         EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
@@ -110,10 +120,9 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.of(existingJoin));
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
 
         // when
         EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
@@ -140,22 +149,86 @@ class EventJoinServiceTest {
     }
 
     @Test
-    @DisplayName("행사 신청 실패 - 정원 초과")
-    void applyEvent_Fail_FullCapacity() {
+    @DisplayName("행사 신청 - 정원 초과 시 대기열 등록 (좌석 확보 실패 시 마감 표시)")
+    void applyEvent_Waitlisted_FullCapacity() {
         // given
         Long userId = 1L;
         Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
         Event event = Event.builder().eventId(eventId).capacity(50L).build();
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.empty());
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(50L);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventJoinRepository.save(any(EventJoin.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(0);
+
+        // when
+        EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
+
+        // then
+        assertThat(response.status()).isEqualTo(EventJoinStatus.WAITLISTED.name());
+        assertThat(eventSeatGate.isSoldOut(eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("행사 신청 - 마감 표시된 행사는 좌석 확보 없이 바로 대기열 등록")
+    void applyEvent_Waitlisted_SoldOutGate() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
+        Event event = Event.builder().eventId(eventId).capacity(50L).build();
+        eventSeatGate.markSoldOut(eventId);
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.empty());
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventJoinRepository.save(any(EventJoin.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
+
+        // then
+        assertThat(response.status()).isEqualTo(EventJoinStatus.WAITLISTED.name());
+        verify(eventRepository, never()).increaseConfirmedCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("행사 신청 실패 - 이미 대기 중")
+    void applyEvent_Fail_AlreadyWaitlisted() {
+        // given
+        EventJoin existingJoin = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(1L, 100L))
+                .willReturn(Optional.of(existingJoin));
 
         // when & then
+        assertThrows(ConflictException.class, () -> eventJoinService.applyEvent(1L, 100L));
+    }
+
+    @Test
+    @DisplayName("행사 신청 실패 - 동시 중복 신청 (유니크 제약 위반)")
+    void applyEvent_Fail_DuplicateInsert() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
+        Event event = Event.builder().eventId(eventId).capacity(50L).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.empty());
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
+        given(eventJoinRepository.save(any(EventJoin.class)))
+                .willThrow(new DataIntegrityViolationException("unique_user_event"));
+
+        // when & then (예외로 트랜잭션이 롤백되어 증가분도 되돌려짐)
         assertThrows(ConflictException.class, () -> eventJoinService.applyEvent(userId, eventId));
+        assertThat(eventSeatGate.isSoldOut(eventId)).isFalse();
     }
 
     @Test
@@ -174,6 +247,47 @@ class EventJoinServiceTest {
 
         // then
         assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        verify(eventRepository).decreaseConfirmedCount(eventId);
+        verify(eventSeatGate).reopen(eventId);
+    }
+
+    @Test
+    @DisplayName("신청 취소 성공 - 대기자가 있으면 선두가 자동 확정되고 확정 인원은 유지")
+    void cancelEventJoin_PromotesWaitlistHead() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        EventJoin join = EventJoin.builder().status(EventJoinStatus.CONFIRMED).build();
+        EventJoin head = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.of(join));
+        given(eventJoinRepository.findWaitlistHead(eventId)).willReturn(Optional.of(head));
+
+        // when
+        eventJoinService.cancelEventJoin(userId, eventId);
+
+        // then
+        assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        assertThat(head.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        verify(eventRepository, never()).decreaseConfirmedCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("신청 취소 성공 - 대기 중 취소는 좌석에 영향 없음")
+    void cancelEventJoin_Waitlisted() {
+        // given
+        EventJoin join = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(1L, 100L))
+                .willReturn(Optional.of(join));
+
+        // when
+        eventJoinService.cancelEventJoin(1L, 100L);
+
+        // then
+        assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        verify(eventJoinRepository, never()).findWaitlistHead(anyLong());
+        verify(eventRepository, never()).decreaseConfirmedCount(anyLong());
     }
 
     @Test
@@ -221,6 +335,7 @@ class EventJoinServiceTest {
 
         // then
         assertThat(targetJoin.getStatus()).isEqualTo(EventJoinStatus.REJECTED);
+        verify(eventRepository).decreaseConfirmedCount(eventId);
     }
 
     @Test
@@ -359,16 +474,61 @@ class EventJoinServiceTest {
     }
 
     @Test
-    @DisplayName("유저 탈퇴 시 신청 내역 취소 처리")
+    @DisplayName("유저 탈퇴 시 신청 내역 취소 처리 - 확정돼 있던 행사마다 좌석 반납")
     void softDeleteByUserId() {
         // given
         Long userId = 1L;
+        EventJoin head = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+
+        given(eventJoinRepository.findEventIdsByParticipant(userId, EventJoinStatus.CONFIRMED))
+                .willReturn(List.of(100L, 200L));
+        given(eventJoinRepository.findWaitlistHead(100L)).willReturn(Optional.of(head));
+        given(eventJoinRepository.findWaitlistHead(200L)).willReturn(Optional.empty());
 
         // when
         eventJoinService.softDeleteByUserId(userId);
 
         // then
         verify(eventJoinRepository).softDeleteByUserId(userId, EventJoinStatus.CANCELED);
+        assertThat(head.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        verify(eventRepository, never()).decreaseConfirmedCount(100L);
+        verify(eventRepository).decreaseConfirmedCount(200L);
+        verify(eventSeatGate).reopen(200L);
+    }
+
+    @Test
+    @DisplayName("정원 증가 시 늘어난 좌석만큼 대기자 승격")
+    void fillOpenSeats_PromotesUntilFull() {
+        // given
+        Long eventId = 100L;
+        EventJoin first = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+        EventJoin second = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+
+        given(eventJoinRepository.findWaitlistHead(eventId))
+                .willReturn(Optional.of(first), Optional.of(second));
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1, 0);
+
+        // when
+        eventJoinService.fillOpenSeats(eventId);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        assertThat(second.getStatus()).isEqualTo(EventJoinStatus.WAITLISTED);
+        verify(eventSeatGate, never()).reopen(anyLong());
+    }
+
+    @Test
+    @DisplayName("정원 증가 시 대기자가 없으면 마감 표시 해제")
+    void fillOpenSeats_NoWaitlist_Reopens() {
+        // given
+        given(eventJoinRepository.findWaitlistHead(100L)).willReturn(Optional.empty());
+
+        // when
+        eventJoinService.fillOpenSeats(100L);
+
+        // then
+        verify(eventRepository, never()).increaseConfirmedCount(anyLong());
+        verify(eventSeatGate).reopen(100L);
     }
 
     @Test
@@ -1,12 +1,11 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.like.EventlikeResponse;
 import com.example.dance_community.entity.Event;
-import com.example.dance_community.entity.EventLike;
-import com.example.dance_community.entity.User;
+import com.example.dance_community.exception.NotFoundException;
 import com.example.dance_community.repository.EventLikeRepository;
 import com.example.dance_community.repository.EventRepository;
-import com.example.dance_community.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +13,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,21 +33,16 @@ class EventLikeServiceTest {
     private EventRepository eventRepository;
     @Mock
     private EventLikeRepository eventLikeRepository;
-    @Mock
-    private UserRepository userRepository;
+
+    private final Long userId = 1L;
+    private final Long eventId = 100L;
 
     @Test
     @DisplayName("좋아요 추가 성공")
     void toggleLike_Add() {
         // given
-        Long userId = 1L;
-        Long eventId = 100L;
-        User user = User.builder().userId(userId).build();
-        Event event = Event.builder().eventId(eventId).likeCount(0L).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
-        given(eventLikeRepository.findByEventAndUser(event, user)).willReturn(Optional.empty());
+        given(eventLikeRepository.insertIfAbsent(eventId, userId)).willReturn(1);
+        given(eventRepository.findLikeCount(eventId)).willReturn(Optional.of(1L));
 
         // when
         EventlikeResponse response = eventLikeService.toggleLike(userId, eventId);
@@ -54,22 +50,16 @@ class EventLikeServiceTest {
         // then
         assertThat(response.isLiked()).isTrue();
         assertThat(response.likeCount()).isEqualTo(1L);
-        verify(eventLikeRepository, times(1)).save(any(EventLike.class));
+        verify(eventRepository).increaseLikeCounts(List.of(eventId));
     }
 
     @Test
     @DisplayName("좋아요 취소 성공")
     void toggleLike_Remove() {
         // given
-        Long userId = 1L;
-        Long eventId = 100L;
-        User user = User.builder().userId(userId).build();
-        Event event = Event.builder().eventId(eventId).likeCount(1L).build();
-        EventLike existingLike = EventLike.builder().event(event).user(user).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
-        given(eventLikeRepository.findByEventAndUser(event, user)).willReturn(Optional.of(existingLike));
+        given(eventLikeRepository.insertIfAbsent(eventId, userId)).willReturn(0);
+        given(eventLikeRepository.deleteByEventIdAndUserId(eventId, userId)).willReturn(1);
+        given(eventRepository.findLikeCount(eventId)).willReturn(Optional.of(0L));
 
         // when
         EventlikeResponse response = eventLikeService.toggleLike(userId, eventId);
@@ -77,6 +67,72 @@ class EventLikeServiceTest {
         // then
         assertThat(response.isLiked()).isFalse();
         assertThat(response.likeCount()).isEqualTo(0L);
-        verify(eventLikeRepository, times(1)).delete(existingLike);
+        verify(eventRepository).decreaseLikeCounts(List.of(eventId));
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 - 이미 좋아요 상태면 좋아요 수를 바꾸지 않음")
+    void like_AlreadyLiked_Idempotent() {
+        // given
+        given(eventLikeRepository.insertIfAbsent(eventId, userId)).willReturn(0);
+        given(eventRepository.findLikeCount(eventId)).willReturn(Optional.of(5L));
+
+        // when
+        EventlikeResponse response = eventLikeService.like(userId, eventId);
+
+        // then
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.likeCount()).isEqualTo(5L);
+        verify(eventRepository, never()).increaseLikeCounts(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 - 좋아요하지 않은 상태면 좋아요 수를 바꾸지 않음")
+    void unlike_NotLiked_Idempotent() {
+        // given
+        given(eventLikeRepository.deleteByEventIdAndUserId(eventId, userId)).willReturn(0);
+        given(eventRepository.findLikeCount(eventId)).willReturn(Optional.of(5L));
+
+        // when
+        EventlikeResponse response = eventLikeService.unlike(userId, eventId);
+
+        // then
+        assertThat(response.isLiked()).isFalse();
+        verify(eventRepository, never()).decreaseLikeCounts(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 존재하지 않는 행사")
+    void like_Fail_NotFound() {
+        // given
+        given(eventLikeRepository.insertIfAbsent(eventId, userId)).willReturn(0);
+        given(eventRepository.findLikeCount(eventId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> eventLikeService.like(userId, eventId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("좋아요 일괄 등록 - 실제로 삽입된 대상만 한 번에 좋아요 수 증가")
+    void updateLikes_Like() {
+        // given
+        Event first = Event.builder().eventId(1L).likeCount(1L).build();
+        Event second = Event.builder().eventId(2L).likeCount(3L).build();
+        Event third = Event.builder().eventId(3L).likeCount(0L).build();
+        given(eventLikeRepository.findUnlikedEventIds(List.of(1L, 2L, 3L), userId)).willReturn(List.of(1L, 3L));
+        given(eventLikeRepository.insertIfAbsent(1L, userId)).willReturn(1);
+        // 동시 요청이 먼저 삽입한 경우
+        given(eventLikeRepository.insertIfAbsent(3L, userId)).willReturn(0);
+        given(eventRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(first, second, third));
+
+        // when
+        List<LikeStatusResponse> responses = eventLikeService.updateLikes(userId, List.of(1L, 2L, 3L, 1L), true);
+
+        // then
+        verify(eventLikeRepository, never()).insertIfAbsent(2L, userId);
+        verify(eventRepository).increaseLikeCounts(List.of(1L));
+        assertThat(responses).extracting(LikeStatusResponse::targetId).containsExactly(1L, 2L, 3L);
+        assertThat(responses).allMatch(LikeStatusResponse::isLiked);
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,34 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.counter.ViewCountBuffer;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.event.EventCreateRequest;
 import com.example.dance_community.dto.event.EventResponse;
 import com.example.dance_community.dto.event.EventUpdateRequest;
 import com.example.dance_community.entity.Event;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.EventJoinStatus;
+import com.example.dance_community.enums.EventSortType;
 import com.example.dance_community.enums.EventType;
 import com.example.dance_community.enums.Scope;
+import com.example.dance_community.enums.TargetType;
 import com.example.dance_community.exception.InvalidRequestException;
+import com.example.dance_community.index.UpcomingEventIndex;
+import com.example.dance_community.ranking.TrendingTagRanking;
 import com.example.dance_community.repository.EventJoinRepository;
 import com.example.dance_community.repository.EventLikeRepository;
 import com.example.dance_community.repository.EventRepository;
 import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.search.EventSearchIndex;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -49,9 +59,21 @@ class EventServiceTest {
     @Mock
     private FileStorageService fileStorageService;
     @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
     private EventJoinRepository eventJoinRepository;
     @Mock
+    private EventJoinService eventJoinService;
+    @Mock
     private EntityManager entityManager;
+    @Mock
+    private UpcomingEventIndex upcomingEventIndex;
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+    @Mock
+    private TrendingTagRanking trendingTagRanking;
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
 
     @Test
     @DisplayName("행사 생성 성공 - GLOBAL 범위")
@@ -73,6 +95,7 @@ class EventServiceTest {
                 .scope(Scope.GLOBAL)
                 .type(EventType.WORKSHOP)
                 .title("Title")
+                .tags(List.of("tag"))
                 .build();
         given(eventRepository.save(any(Event.class))).willReturn(savedEvent);
 
@@ -83,6 +106,8 @@ class EventServiceTest {
         assertThat(response.scope()).isEqualTo("GLOBAL");
         assertThat(response.type()).isEqualTo("WORKSHOP");
         verify(clubAuthService, never()).findByClubId(any());
+        verify(upcomingEventIndex).upsertAfterCommit(response);
+        verify(trendingTagRanking).recordAfterCommit(List.of("tag"));
     }
 
     @Test
@@ -135,11 +160,11 @@ class EventServiceTest {
         // then
         assertThat(response.eventId()).isEqualTo(eventId);
         assertThat(response.isLiked()).isTrue();
-        verify(eventRepository, times(1)).updateViewCount(eventId);
+        verify(viewCountBuffer).recordView(TargetType.EVENT, eventId, userId);
     }
 
     @Test
-    @DisplayName("다가오는 행사 목록 조회 성공 - 좋아요 매핑 확인")
+    @DisplayName("다가오는 행사 목록 조회 성공 - 인덱스 조회 후 좋아요 매핑 확인")
     void getUpcomingEvents_Success() {
         // given
         Long userId = 1L;
@@ -149,9 +174,9 @@ class EventServiceTest {
 
         List<Long> myClubIds = List.of(10L);
         given(clubAuthService.findUserClubIds(userId)).willReturn(myClubIds);
-        given(eventRepository.findUpcomingEvents(eq(myClubIds), any()))
-                .willReturn(List.of(event));
-        given(eventLikeRepository.findLikedEventIds(any(), eq(userId)))
+        given(upcomingEventIndex.upcoming(myClubIds, 10))
+                .willReturn(List.of(EventResponse.from(event, false)));
+        given(eventLikeRepository.findLikedEventIds(List.of(eventId), userId))
                 .willReturn(Set.of(eventId));
 
         // when
@@ -163,7 +188,7 @@ class EventServiceTest {
     }
 
     @Test
-    @DisplayName("전체 행사 조회 성공")
+    @DisplayName("전체 행사 조회 성공 - 다음 페이지 커서 반환")
     void getEvents_Success() {
         // given
         Long userId = 1L;
@@ -173,20 +198,50 @@ class EventServiceTest {
         Event event2 = Event.builder().eventId(20L).host(User.builder().userId(2L).build())
                 .title("").content("").scope(Scope.GLOBAL).type(EventType.BATTLE).capacity(20L)
                 .startsAt(LocalDateTime.now()).endsAt(LocalDateTime.now().plusHours(1)).build();
+        Event extra = Event.builder().eventId(30L).host(User.builder().userId(2L).build())
+                .title("").content("").scope(Scope.GLOBAL).type(EventType.BATTLE).capacity(20L)
+                .startsAt(LocalDateTime.now()).endsAt(LocalDateTime.now().plusHours(1)).build();
 
         List<Long> myClubIds = List.of(100L);
         given(clubAuthService.findUserClubIds(userId)).willReturn(myClubIds);
-        given(eventRepository.findAllEvents(myClubIds)).willReturn(List.of(event1, event2));
+        given(eventRepository.findEventFeed(myClubIds, EventSortType.STARTS_AT, "popping", null, 3))
+                .willReturn(List.of(event1, event2, extra));
         given(eventLikeRepository.findLikedEventIds(any(), eq(userId))).willReturn(Set.of(10L));
 
         // when
-        List<EventResponse> responses = eventService.getEvents(userId);
+        CursorPage<EventResponse> page = eventService.getEvents(userId, "starts_at", "popping", null, 2);
 
         // then
-        assertThat(responses).hasSize(2);
-        assertThat(responses.get(0).eventId()).isEqualTo(10L);
-        assertThat(responses.get(0).isLiked()).isTrue();
-        assertThat(responses.get(1).isLiked()).isFalse();
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.items().get(0).eventId()).isEqualTo(10L);
+        assertThat(page.items().get(0).isLiked()).isTrue();
+        assertThat(page.items().get(1).isLiked()).isFalse();
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(new Cursor(event2.getStartsAt(), 20L));
+    }
+
+    @Test
+    @DisplayName("전체 행사 조회 - 마지막 페이지면 nextCursor 없음, 최대 크기 제한")
+    void getEvents_LastPage() {
+        // given
+        Long userId = 1L;
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(eventRepository.findEventFeed(List.of(), EventSortType.LATEST, null, null, paginationProperties.getMaxSize() + 1))
+                .willReturn(List.of());
+
+        // when
+        CursorPage<EventResponse> page = eventService.getEvents(userId, null, null, null, 10_000);
+
+        // then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 행사 조회 실패 - 잘못된 정렬 기준")
+    void getEvents_Fail_InvalidSort() {
+        assertThrows(InvalidRequestException.class, () ->
+                eventService.getEvents(1L, "POPULAR", null, null, 10)
+        );
     }
 
     @Test
@@ -226,6 +281,56 @@ class EventServiceTest {
         verify(fileStorageService).processImageUpdate(eq(event), any(), any());
     }
 
+    @Test
+    @DisplayName("행사 수정 성공 - 정원이 늘면 대기자 승격")
+    void updateEvent_CapacityIncreased_FillsOpenSeats() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User host = User.builder().userId(userId).build();
+        Event event = Event.builder()
+                .eventId(eventId).host(host).scope(Scope.GLOBAL).type(EventType.WORKSHOP)
+                .title("Title").content("Content").capacity(10L)
+                .build();
+
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+
+        EventUpdateRequest request = new EventUpdateRequest(
+                "Title", "Content", null, null, null, null, null, null, 12L, null, null
+        );
+
+        // when
+        eventService.updateEvent(userId, eventId, request);
+
+        // then
+        verify(eventJoinService).fillOpenSeats(eventId);
+    }
+
+    @Test
+    @DisplayName("행사 수정 성공 - 정원이 그대로거나 줄면 승격 없음")
+    void updateEvent_CapacityNotIncreased_NoFill() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User host = User.builder().userId(userId).build();
+        Event event = Event.builder()
+                .eventId(eventId).host(host).scope(Scope.GLOBAL).type(EventType.WORKSHOP)
+                .title("Title").content("Content").capacity(10L)
+                .build();
+
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+
+        EventUpdateRequest request = new EventUpdateRequest(
+                "Title", "Content", null, null, null, null, null, null, 8L, null, null
+        );
+
+        // when
+        eventService.updateEvent(userId, eventId, request);
+
+        // then
+        verify(eventJoinService, never()).fillOpenSeats(anyLong());
+    }
+
     @Test
     @DisplayName("행사 수정 실패 - 주최자가 아님")
     void updateEvent_Fail_NotHost() {
@@ -266,6 +371,7 @@ class EventServiceTest {
         // then
         verify(event).delete();
         verify(eventJoinRepository).softDeleteByEventId(eventId, EventJoinStatus.CANCELED);
+        verify(upcomingEventIndex).removeAfterCommit(eventId);
         verify(entityManager).flush();
         verify(entityManager).clear();
     }
@@ -313,5 +419,35 @@ class EventServiceTest {
 
         // then
         verify(eventRepository).softDeleteByClubId(clubId);
+        verify(eventSearchIndex).removeByClubAfterCommit(clubId);
+    }
+
+    @Test
+    @DisplayName("행사 검색 성공 - 색인 순서(최신순) 유지")
+    void searchEvents_Success() {
+        // given
+        Long userId = 1L;
+        User host = User.builder().userId(2L).build();
+        Event newer = Event.builder().eventId(5L).host(host).scope(Scope.GLOBAL).type(EventType.WORKSHOP).build();
+        Event older = Event.builder().eventId(3L).host(host).scope(Scope.GLOBAL).type(EventType.WORKSHOP).build();
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(eventSearchIndex.search("워크샵", List.of(), null, 11)).willReturn(List.of(5L, 3L));
+        given(eventRepository.findEventsByIds(List.of(5L, 3L))).willReturn(List.of(older, newer));
+
+        // when
+        CursorPage<EventResponse> page = eventService.searchEvents(userId, "워크샵", null, 10);
+
+        // then
+        assertThat(page.items()).extracting(EventResponse::eventId).containsExactly(5L, 3L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("행사 검색 실패 - 검색어 미입력")
+    void searchEvents_Fail_BlankQuery() {
+        assertThrows(InvalidRequestException.class, () ->
+                eventService.searchEvents(1L, null, null, 10)
+        );
     }
 }
\ No newline at end of file
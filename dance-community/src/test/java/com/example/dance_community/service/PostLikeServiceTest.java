@@ -1,12 +1,13 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.counter.PostLikeCounter;
+import com.example.dance_community.dto.like.LikeStatusResponse;
 import com.example.dance_community.dto.like.PostLikeResponse;
 import com.example.dance_community.entity.Post;
-import com.example.dance_community.entity.PostLike;
-import com.example.dance_community.entity.User;
+import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
 import com.example.dance_community.repository.PostLikeRepository;
 import com.example.dance_community.repository.PostRepository;
-import com.example.dance_community.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +15,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,55 +31,116 @@ class PostLikeServiceTest {
     @InjectMocks
     private PostLikeService postLikeService;
 
-    @Mock
-    private UserRepository userRepository;
     @Mock
     private PostRepository postRepository;
     @Mock
     private PostLikeRepository postLikeRepository;
+    @Mock
+    private PostLikeCounter postLikeCounter;
+    @Mock
+    private HotPostRanking hotPostRanking;
+
+    private final Long userId = 1L;
+    private final Long postId = 100L;
 
     @Test
     @DisplayName("좋아요 추가 성공")
     void toggleLike_Add() {
         // given
-        Long userId = 1L;
-        Long postId = 100L;
-        User user = User.builder().userId(userId).build();
-        Post post = Post.builder().postId(postId).likeCount(0L).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(postLikeRepository.findByPostAndUser(post, user)).willReturn(Optional.empty());
+        given(postLikeRepository.insertIfAbsent(postId, userId)).willReturn(1);
+        given(postLikeCounter.likeCount(postId)).willReturn(Optional.of(1L));
 
         // when
         PostLikeResponse response = postLikeService.toggleLike(userId, postId);
 
         // then
         assertThat(response.isLiked()).isTrue();
-        verify(postLikeRepository, times(1)).save(any(PostLike.class));
         assertThat(response.likeCount()).isEqualTo(1L);
+        verify(postLikeCounter).increase(List.of(postId));
+        verify(hotPostRanking).recordLikesAfterCommit(List.of(postId), 1);
     }
 
     @Test
     @DisplayName("좋아요 취소 성공")
     void toggleLike_Remove() {
         // given
-        Long userId = 1L;
-        Long postId = 100L;
-        User user = User.builder().userId(userId).build();
-        Post post = Post.builder().postId(postId).likeCount(1L).build();
-        PostLike existingLike = PostLike.builder().post(post).user(user).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(postLikeRepository.findByPostAndUser(post, user)).willReturn(Optional.of(existingLike));
+        given(postLikeRepository.insertIfAbsent(postId, userId)).willReturn(0);
+        given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(1);
+        given(postLikeCounter.likeCount(postId)).willReturn(Optional.of(0L));
 
         // when
         PostLikeResponse response = postLikeService.toggleLike(userId, postId);
 
         // then
         assertThat(response.isLiked()).isFalse();
-        verify(postLikeRepository, times(1)).delete(existingLike);
         assertThat(response.likeCount()).isEqualTo(0L);
+        verify(postLikeCounter).decrease(List.of(postId));
+        verify(hotPostRanking).recordLikesAfterCommit(List.of(postId), -1);
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 - 이미 좋아요 상태면 좋아요 수를 바꾸지 않음")
+    void like_AlreadyLiked_Idempotent() {
+        // given
+        given(postLikeRepository.insertIfAbsent(postId, userId)).willReturn(0);
+        given(postLikeCounter.likeCount(postId)).willReturn(Optional.of(5L));
+
+        // when
+        PostLikeResponse response = postLikeService.like(userId, postId);
+
+        // then
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.likeCount()).isEqualTo(5L);
+        verify(postLikeCounter, never()).increase(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 - 좋아요하지 않은 상태면 좋아요 수를 바꾸지 않음")
+    void unlike_NotLiked_Idempotent() {
+        // given
+        given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(0);
+        given(postLikeCounter.likeCount(postId)).willReturn(Optional.of(5L));
+
+        // when
+        PostLikeResponse response = postLikeService.unlike(userId, postId);
+
+        // then
+        assertThat(response.isLiked()).isFalse();
+        verify(postLikeCounter, never()).decrease(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 존재하지 않는 게시글")
+    void like_Fail_NotFound() {
+        // given
+        given(postLikeRepository.insertIfAbsent(postId, userId)).willReturn(0);
+        given(postLikeCounter.likeCount(postId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postLikeService.like(userId, postId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("좋아요 일괄 등록 - 실제로 삽입된 대상만 한 번에 좋아요 수 증가")
+    void updateLikes_Like() {
+        // given
+        Post first = Post.builder().postId(1L).likeCount(1L).build();
+        Post second = Post.builder().postId(2L).likeCount(3L).build();
+        Post third = Post.builder().postId(3L).likeCount(0L).build();
+        given(postLikeRepository.findUnlikedPostIds(List.of(1L, 2L, 3L), userId)).willReturn(List.of(1L, 3L));
+        given(postLikeRepository.insertIfAbsent(1L, userId)).willReturn(1);
+        // 동시 요청이 먼저 삽입한 경우
+        given(postLikeRepository.insertIfAbsent(3L, userId)).willReturn(0);
+        given(postRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(first, second, third));
+
+        // when
+        List<LikeStatusResponse> responses = postLikeService.updateLikes(userId, List.of(1L, 2L, 3L, 1L), true);
+
+        // then
+        verify(postLikeRepository, never()).insertIfAbsent(2L, userId);
+        verify(postLikeCounter).increase(List.of(1L));
+        assertThat(responses).extracting(LikeStatusResponse::targetId).containsExactly(1L, 2L, 3L);
+        assertThat(responses).allMatch(LikeStatusResponse::isLiked);
     }
-}
\ No newline at end of file
+}
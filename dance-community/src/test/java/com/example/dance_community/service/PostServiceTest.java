@@ -1,5 +1,9 @@
 package com.example.dance_community.service;
 
+import com.example.dance_community.config.PaginationProperties;
+import com.example.dance_community.counter.ViewCountBuffer;
+import com.example.dance_community.dto.Cursor;
+import com.example.dance_community.dto.CursorPage;
 import com.example.dance_community.dto.post.PostCreateRequest;
 import com.example.dance_community.dto.post.PostResponse;
 import com.example.dance_community.dto.post.PostUpdateRequest;
@@ -7,22 +11,29 @@ import com.example.dance_community.entity.Club;
 import com.example.dance_community.entity.Post;
 import com.example.dance_community.entity.User;
 import com.example.dance_community.enums.Scope;
+import com.example.dance_community.enums.TargetType;
 import com.example.dance_community.exception.AccessDeniedException;
 import com.example.dance_community.exception.InvalidRequestException;
 import com.example.dance_community.exception.NotFoundException;
+import com.example.dance_community.ranking.HotPostRanking;
+import com.example.dance_community.ranking.TrendingTagRanking;
 import com.example.dance_community.repository.PostLikeRepository;
 import com.example.dance_community.repository.PostRepository;
 import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.search.PostSearchIndex;
+import com.example.dance_community.timeline.ClubPostTimeline;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -48,6 +59,18 @@ class PostServiceTest {
     private ClubAuthService clubAuthService;
     @Mock
     private FileStorageService fileStorageService;
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
+    private HotPostRanking hotPostRanking;
+    @Mock
+    private ClubPostTimeline clubPostTimeline;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private TrendingTagRanking trendingTagRanking;
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
 
     @Test
     @DisplayName("게시글 생성 성공 - GLOBAL 범위")
@@ -62,7 +85,7 @@ class PostServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
         Post savedPost = Post.builder()
-                .author(user).scope(Scope.GLOBAL).title("Title").content("Content").build();
+                .author(user).scope(Scope.GLOBAL).title("Title").content("Content").tags(List.of("tag1")).build();
         given(postRepository.save(any(Post.class))).willReturn(savedPost);
 
         // when
@@ -71,6 +94,7 @@ class PostServiceTest {
         // then
         assertThat(response.scope()).isEqualTo("GLOBAL");
         verify(clubAuthService, never()).findByClubId(any());
+        verify(trendingTagRanking).recordAfterCommit(List.of("tag1"));
     }
 
     @Test
@@ -99,6 +123,8 @@ class PostServiceTest {
         // then
         assertThat(response.scope()).isEqualTo("CLUB");
         assertThat(response.clubId()).isEqualTo(clubId);
+        verify(clubPostTimeline).publishAfterCommit(savedPost.getPostId(), clubId);
+        verify(trendingTagRanking, never()).recordAfterCommit(any());
     }
 
     @Test
@@ -283,6 +309,7 @@ class PostServiceTest {
 
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
         given(postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId)).willReturn(false);
+        given(viewCountBuffer.recordView(TargetType.POST, postId, userId)).willReturn(true);
 
         // when
         PostResponse response = postService.getPost(postId, userId);
@@ -290,7 +317,7 @@ class PostServiceTest {
         // then
         assertThat(response.postId()).isEqualTo(postId);
         assertThat(response.isLiked()).isFalse();
-        verify(postRepository).updateViewCount(postId);
+        verify(hotPostRanking).recordView(postId);
     }
 
     @Test
@@ -307,22 +334,20 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("Hot Groove 조회 성공 - 좋아요 여부 포함")
+    @DisplayName("Hot Groove 조회 성공 - 순위 스냅샷에 좋아요 여부만 덮어씀")
     void getHotPosts_Success() {
         // given
         Long userId = 1L;
         Long postId = 100L;
-        User user = User.builder().userId(userId).build();
         Post post = Post.builder()
                 .postId(postId)
                 .title("Hot Post")
-                .author(user)
+                .author(User.builder().userId(2L).build())
                 .scope(Scope.GLOBAL)
                 .likeCount(50L)
                 .build();
 
-        Pageable pageable = PageRequest.of(0, 10);
-        given(postRepository.findHotPosts(pageable)).willReturn(List.of(post));
+        given(hotPostRanking.hotPosts()).willReturn(List.of(PostResponse.from(post, false, List.of(), List.of())));
         given(postLikeRepository.findLikedPostIds(List.of(postId), userId)).willReturn(Set.of(postId));
 
         // when
@@ -332,27 +357,189 @@ class PostServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.getFirst().postId()).isEqualTo(postId);
         assertThat(responses.getFirst().isLiked()).isTrue();
+        verify(postRepository, never()).findHotPosts(any());
     }
 
     @Test
-    @DisplayName("내 클럽 소식 조회 성공")
-    void getMyClubPosts_Success() {
+    @DisplayName("피드 응답 조립 - 태그/이미지는 일괄 조회 결과, 댓글 수는 비정규화 컬럼 사용")
+    void getMyClubPosts_UsesBatchedDetails() {
         // given
-        Long userId = 1L;
+        Long postId = 100L;
         Post post = Post.builder()
-                .postId(10L)
+                .postId(postId)
+                .title("Club Post")
                 .author(User.builder().userId(2L).build())
                 .scope(Scope.CLUB)
+                .commentCount(3L)
                 .build();
 
-        given(postRepository.findMyClubPosts(eq(userId), any(Pageable.class)))
-                .willReturn(List.of(post));
+        given(clubAuthService.findUserClubIds(1L)).willReturn(List.of(10L));
+        given(clubPostTimeline.recentPostIds(1L, List.of(10L), 20)).willReturn(List.of(postId));
+        given(postRepository.findClubPostsByIds(List.of(postId))).willReturn(List.of(post));
+        given(postRepository.findTagsByPostIds(List.of(postId))).willReturn(Map.of(postId, List.of("hiphop")));
+        given(postRepository.findImagesByPostIds(List.of(postId))).willReturn(Map.of(postId, List.of("a.jpg")));
+
+        // when
+        List<PostResponse> responses = postService.getMyClubPosts(1L);
+
+        // then
+        PostResponse response = responses.getFirst();
+        assertThat(response.tags()).containsExactly("hiphop");
+        assertThat(response.images()).containsExactly("a.jpg");
+        assertThat(response.commentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("내 클럽 소식 조회 성공 - 타임라인 순서 유지, 삭제된 글은 제외")
+    void getMyClubPosts_Success() {
+        // given
+        Long userId = 1L;
+        User author = User.builder().userId(2L).build();
+        Post newer = Post.builder().postId(12L).author(author).scope(Scope.CLUB).build();
+        Post older = Post.builder().postId(10L).author(author).scope(Scope.CLUB).build();
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of(10L));
+        given(clubPostTimeline.recentPostIds(userId, List.of(10L), 20)).willReturn(List.of(12L, 11L, 10L));
+        given(postRepository.findClubPostsByIds(List.of(12L, 11L, 10L))).willReturn(List.of(older, newer));
 
         // when
         List<PostResponse> responses = postService.getMyClubPosts(userId);
 
         // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.getFirst().postId()).isEqualTo(10L);
+        assertThat(responses).extracting(PostResponse::postId).containsExactly(12L, 10L);
+    }
+
+    @Test
+    @DisplayName("내 클럽 소식 조회 - 가입한 동아리가 없으면 타임라인을 읽지 않음")
+    void getMyClubPosts_NoClubs() {
+        // given
+        given(clubAuthService.findUserClubIds(1L)).willReturn(List.of());
+
+        // when
+        List<PostResponse> responses = postService.getMyClubPosts(1L);
+
+        // then
+        assertThat(responses).isEmpty();
+        verify(clubPostTimeline, never()).recentPostIds(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 - 다음 페이지가 있으면 nextCursor 반환")
+    void getPosts_HasNext() {
+        // given
+        Long userId = 1L;
+        User author = User.builder().userId(2L).build();
+        LocalDateTime now = LocalDateTime.now();
+        Post newer = Post.builder().postId(11L).author(author).scope(Scope.GLOBAL).build();
+        Post older = Post.builder().postId(10L).author(author).scope(Scope.GLOBAL).build();
+        Post extra = Post.builder().postId(9L).author(author).scope(Scope.GLOBAL).build();
+        ReflectionTestUtils.setField(older, "createdAt", now);
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(postRepository.findPostFeed(List.of(), null, null, 3)).willReturn(List.of(newer, older, extra));
+        given(postLikeRepository.findLikedPostIds(List.of(11L, 10L), userId)).willReturn(Set.of());
+
+        // when
+        CursorPage<PostResponse> page = postService.getPosts(userId, null, null, 2);
+
+        // then
+        assertThat(page.items()).extracting(PostResponse::postId).containsExactly(11L, 10L);
+        assertThat(page.nextCursor()).isNotNull();
+        assertThat(Cursor.decode(page.nextCursor()).id()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 - 마지막 페이지면 nextCursor 없음, 최대 크기 제한")
+    void getPosts_LastPage() {
+        // given
+        Long userId = 1L;
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(postRepository.findPostFeed(List.of(), null, null, paginationProperties.getMaxSize() + 1)).willReturn(List.of());
+
+        // when
+        CursorPage<PostResponse> page = postService.getPosts(userId, null, null, 10_000);
+
+        // then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 실패 - 잘못된 커서")
+    void getPosts_Fail_InvalidCursor() {
+        assertThrows(InvalidRequestException.class, () ->
+                postService.getPosts(1L, null, "not-a-cursor!", 10)
+        );
+    }
+
+    @Test
+    @DisplayName("게시글 검색 성공 - 색인 순서(최신순) 유지, 삭제된 글은 제외")
+    void searchPosts_Success() {
+        // given
+        Long userId = 1L;
+        User author = User.builder().userId(2L).build();
+        Post newer = Post.builder().postId(12L).author(author).scope(Scope.GLOBAL).build();
+        Post older = Post.builder().postId(10L).author(author).scope(Scope.CLUB).build();
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of(10L));
+        given(postSearchIndex.search("힙합", List.of(10L), null, 3)).willReturn(List.of(12L, 11L, 10L));
+        given(postRepository.findPostsByIds(List.of(12L, 11L, 10L))).willReturn(List.of(older, newer));
+        given(postSearchIndex.search("힙합", List.of(10L), 10L, 1)).willReturn(List.of());
+
+        // when
+        CursorPage<PostResponse> page = postService.searchPosts(userId, "힙합", null, 2);
+
+        // then
+        assertThat(page.items()).extracting(PostResponse::postId).containsExactly(12L, 10L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 조회되지 않는 글이 빠지면 색인에서 더 읽어 다음 커서 유지")
+    void searchPosts_RefillsDroppedIds() {
+        // given
+        Long userId = 1L;
+        User author = User.builder().userId(2L).build();
+        Post first = Post.builder().postId(12L).author(author).scope(Scope.GLOBAL).build();
+        Post second = Post.builder().postId(10L).author(author).scope(Scope.GLOBAL).build();
+        Post third = Post.builder().postId(9L).author(author).scope(Scope.GLOBAL).build();
+        ReflectionTestUtils.setField(second, "createdAt", LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(postSearchIndex.search("힙합", List.of(), null, 3)).willReturn(List.of(12L, 11L, 10L));
+        given(postRepository.findPostsByIds(List.of(12L, 11L, 10L))).willReturn(List.of(first, second));
+        given(postSearchIndex.search("힙합", List.of(), 10L, 1)).willReturn(List.of(9L));
+        given(postRepository.findPostsByIds(List.of(9L))).willReturn(List.of(third));
+
+        // when
+        CursorPage<PostResponse> page = postService.searchPosts(userId, "힙합", null, 2);
+
+        // then
+        assertThat(page.items()).extracting(PostResponse::postId).containsExactly(12L, 10L);
+        assertThat(Cursor.decode(page.nextCursor()).id()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 결과가 없으면 DB 조회 없이 빈 페이지")
+    void searchPosts_NoHits() {
+        // given
+        given(clubAuthService.findUserClubIds(1L)).willReturn(List.of());
+        given(postSearchIndex.search("없는말", List.of(), null, paginationProperties.getDefaultSize() + 1)).willReturn(List.of());
+
+        // when
+        CursorPage<PostResponse> page = postService.searchPosts(1L, "없는말", null, null);
+
+        // then
+        assertThat(page.items()).isEmpty();
+        verify(postRepository, never()).findPostsByIds(any());
+    }
+
+    @Test
+    @DisplayName("게시글 검색 실패 - 검색어 미입력")
+    void searchPosts_Fail_BlankQuery() {
+        assertThrows(InvalidRequestException.class, () ->
+                postService.searchPosts(1L, "  ", null, 10)
+        );
+        verifyNoInteractions(postSearchIndex);
     }
-}
\ No newline at end of file
+}
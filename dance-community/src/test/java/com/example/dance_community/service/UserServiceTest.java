@@ -7,6 +7,9 @@ import com.example.dance_community.entity.User;
 import com.example.dance_community.exception.ConflictException;
 import com.example.dance_community.exception.NotFoundException;
 import com.example.dance_community.repository.UserRepository;
+import com.example.dance_community.security.PasswordHasher;
+import com.example.dance_community.security.PrincipalCache;
+import com.example.dance_community.security.RefreshTokenStore;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +17,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -33,7 +35,7 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
     @Mock
     private FileStorageService fileStorageService;
     @Mock
@@ -46,6 +48,10 @@ class UserServiceTest {
     private EventJoinService eventJoinService;
     @Mock
     private EntityManager em;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
 
     @Test
     @DisplayName("회원가입 성공")
@@ -58,7 +64,7 @@ class UserServiceTest {
 
         given(userRepository.existsByEmail(email)).willReturn(false);
         given(userRepository.existsByNickname(nickname)).willReturn(false);
-        given(passwordEncoder.encode(password)).willReturn("encodedPassword");
+        given(passwordHasher.encode(password)).willReturn("encodedPassword");
 
         User savedUser = User.builder()
                 .userId(1L)
@@ -131,6 +137,7 @@ class UserServiceTest {
         verify(fileStorageService).deleteFile("old.jpg");
         assertThat(user.getNickname()).isEqualTo("NewNick");
         assertThat(user.getProfileImage()).isEqualTo("new.jpg");
+        verify(principalCache).evict(userId);
     }
 
     @Test
@@ -155,7 +162,7 @@ class UserServiceTest {
         PasswordUpdateRequest request = new PasswordUpdateRequest("newPassword");
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(passwordEncoder.encode("newPassword")).willReturn("newHash");
+        given(passwordHasher.encode("newPassword")).willReturn("newHash");
         given(userRepository.save(user)).willReturn(user);
 
         // when
@@ -163,6 +170,8 @@ class UserServiceTest {
 
         // then
         assertThat(user.getPassword()).isEqualTo("newHash");
+        verify(principalCache).evict(userId);
+        verify(refreshTokenStore).revokeAll(userId);
     }
 
     @Test
@@ -184,6 +193,8 @@ class UserServiceTest {
         verify(clubJoinService).softDeleteByUserId(userId);
         verify(eventJoinService).softDeleteByUserId(userId);
         verify(user).delete();
+        verify(principalCache).evict(userId);
+        verify(refreshTokenStore).revokeAll(userId);
         verify(em).flush();
         verify(em).clear();
     }
@@ -258,7 +269,7 @@ class UserServiceTest {
         User user = User.builder().password("encodedPW").build();
         String rawPassword = "password123";
 
-        given(passwordEncoder.matches(rawPassword, "encodedPW")).willReturn(true);
+        given(passwordHasher.matches(rawPassword, "encodedPW")).willReturn(true);
 
         // when
         boolean result = userService.matchesPassword(user, rawPassword);
@@ -266,4 +277,34 @@ class UserServiceTest {
         // then
         assertThat(result).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("해시 cost 상향 - 기존 해시가 낮은 cost 면 재해싱")
+    void upgradePasswordIfNeeded_Upgrades() {
+        // given
+        User user = User.builder().userId(1L).password("oldHash").build();
+        given(passwordHasher.needsUpgrade("oldHash")).willReturn(true);
+        given(passwordHasher.encode("password123")).willReturn("newHash");
+
+        // when
+        userService.upgradePasswordIfNeeded(user, "password123");
+
+        // then
+        verify(userRepository).updatePasswordIfUnchanged(1L, "oldHash", "newHash");
+    }
+
+    @Test
+    @DisplayName("해시 cost 상향 - 현재 cost 와 같으면 재해싱하지 않음")
+    void upgradePasswordIfNeeded_Skips() {
+        // given
+        User user = User.builder().userId(1L).password("hash").build();
+        given(passwordHasher.needsUpgrade("hash")).willReturn(false);
+
+        // when
+        userService.upgradePasswordIfNeeded(user, "password123");
+
+        // then
+        verify(passwordHasher, never()).encode(anyString());
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+    }
+}
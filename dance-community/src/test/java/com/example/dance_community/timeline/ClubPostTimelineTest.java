@@ -0,0 +1,121 @@
+package com.example.dance_community.timeline;
+
+import com.example.dance_community.cache.ClubMembershipChangedEvent;
+import com.example.dance_community.config.ClubTimelineProperties;
+import com.example.dance_community.repository.ClubJoinRepository;
+import com.example.dance_community.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubPostTimelineTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private ClubJoinRepository clubJoinRepository;
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private ClubTimelineProperties properties;
+    private ClubPostTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClubTimelineProperties();
+        properties.setCapacity(3);
+        properties.setFanoutMaxMembers(2);
+        timeline = new ClubPostTimeline(postRepository, clubJoinRepository, properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("첫 조회 때 DB 에서 적재하고, 이후 새 글은 회원 타임라인에 밀어넣어 DB 없이 읽음")
+    void recentPostIds_FanoutOnWrite() {
+        // given
+        given(postRepository.findMyClubPostIds(1L, 3)).willReturn(ordered(2L, 10L, 1L, 10L));
+        timeline.recentPostIds(1L, List.of(10L), 10);
+        given(clubJoinRepository.findUserIdsByClubIdAndStatus(any(), any(), any())).willReturn(List.of(1L, 2L));
+
+        // when
+        timeline.publish(3L, 10L);
+        timeline.publish(4L, 10L);
+        List<Long> result = timeline.recentPostIds(1L, List.of(10L), 10);
+
+        // then (용량 3 이라 가장 오래된 글은 밀려남)
+        assertThat(result).containsExactly(4L, 3L, 2L);
+        assertThat(timeline.trackedUsers()).isEqualTo(1);
+        verify(postRepository, times(1)).findMyClubPostIds(1L, 3);
+    }
+
+    @Test
+    @DisplayName("회원이 많은 동아리는 동아리 타임라인에 기록하고 조회 시 병합")
+    void recentPostIds_FanoutOnReadForLargeClub() {
+        // given
+        given(postRepository.findMyClubPostIds(1L, 3)).willReturn(ordered(1L, 10L));
+        timeline.recentPostIds(1L, List.of(10L, 20L), 10);
+        given(clubJoinRepository.findUserIdsByClubIdAndStatus(any(), any(), any())).willReturn(List.of(1L, 2L, 3L));
+
+        // when
+        timeline.publish(5L, 20L);
+        List<Long> mine = timeline.recentPostIds(1L, List.of(10L, 20L), 10);
+        List<Long> withoutLargeClub = timeline.recentPostIds(1L, List.of(10L), 10);
+
+        // then
+        assertThat(mine).containsExactly(5L, 1L);
+        assertThat(withoutLargeClub).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("가입 상태가 바뀌면 다음 조회 때 다시 적재")
+    void onMembershipChanged_Reloads() {
+        // given
+        given(postRepository.findMyClubPostIds(1L, 3)).willReturn(ordered(1L, 10L));
+        timeline.recentPostIds(1L, List.of(10L), 10);
+
+        // when
+        timeline.onMembershipChanged(ClubMembershipChangedEvent.of(1L, 20L));
+        timeline.recentPostIds(1L, List.of(10L, 20L), 10);
+
+        // then
+        verify(postRepository, times(2)).findMyClubPostIds(1L, 3);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 적재")
+    void recentPostIds_ReloadsAfterTtl() {
+        // given
+        given(postRepository.findMyClubPostIds(1L, 3)).willReturn(ordered(1L, 10L));
+        timeline.recentPostIds(1L, List.of(10L), 10);
+
+        // when
+        now.set(properties.getTtlMs());
+        timeline.recentPostIds(1L, List.of(10L), 10);
+
+        // then
+        verify(postRepository, times(2)).findMyClubPostIds(1L, 3);
+    }
+
+    // postId, clubId 쌍을 최신순으로
+    private Map<Long, Long> ordered(long... pairs) {
+        Map<Long, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            map.put(pairs[i], pairs[i + 1]);
+        }
+        return map;
+    }
+}